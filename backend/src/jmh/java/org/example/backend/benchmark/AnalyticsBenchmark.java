@@ -0,0 +1,54 @@
+package org.example.backend.benchmark;
+
+import org.example.backend.service.AnalyticsDimension;
+import org.example.backend.service.AnalyticsQuery;
+import org.example.backend.service.PortfolioAnalytics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ad-hoc analytics over the columnar snapshot: a full-portfolio group-by, and a
+ * type/occupancy/ESG filter of the kind analysts used to send to findWithFilters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class AnalyticsBenchmark {
+
+    private static final AnalyticsQuery GROUP_BY_TYPE =
+            new AnalyticsQuery(Set.of(), null, null, null, null, AnalyticsDimension.PROPERTY_TYPE);
+
+    private static final AnalyticsQuery FILTERED_BY_ESG_BAND =
+            new AnalyticsQuery(Set.of("Commercial", "Retail"), 70.0, 95.0, 40.0, null, AnalyticsDimension.ESG_BAND);
+
+    private PortfolioAnalytics portfolioAnalytics;
+
+    @Setup
+    public void setUp(PortfolioState portfolio) {
+        portfolioAnalytics = portfolio.bean(PortfolioAnalytics.class);
+    }
+
+    @Benchmark
+    public Object groupByType() {
+        return portfolioAnalytics.query(GROUP_BY_TYPE);
+    }
+
+    @Benchmark
+    public Object filteredGroupByEsgBand() {
+        return portfolioAnalytics.query(FILTERED_BY_ESG_BAND);
+    }
+}
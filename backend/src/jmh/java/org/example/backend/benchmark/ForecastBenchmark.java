@@ -0,0 +1,58 @@
+package org.example.backend.benchmark;
+
+import org.example.backend.service.ForecastMetric;
+import org.example.backend.service.ForecastService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Forecasting costs: a full refit of every per-property model (one grouped query per
+ * metric plus the parallel fits), and a cached portfolio forecast.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class ForecastBenchmark {
+
+    private ForecastService forecastService;
+
+    @Setup
+    public void setUp(PortfolioState portfolio) {
+        forecastService = portfolio.bean(ForecastService.class);
+        forecastService.refit();
+    }
+
+    @Benchmark
+    public void refitAllModels() {
+        forecastService.refit();
+    }
+
+    @Benchmark
+    @BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+    @Warmup(iterations = 3, time = 5)
+    @Measurement(iterations = 5, time = 5)
+    public Object cachedPortfolioForecast() {
+        return forecastService.forecastPortfolio(ForecastMetric.RENT, 12);
+    }
+
+    @Benchmark
+    @BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+    @Warmup(iterations = 3, time = 5)
+    @Measurement(iterations = 5, time = 5)
+    public Object portfolioForecastSummary() {
+        return forecastService.getPortfolioForecastSummary();
+    }
+}
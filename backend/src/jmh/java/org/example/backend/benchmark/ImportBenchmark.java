@@ -0,0 +1,94 @@
+package org.example.backend.benchmark;
+
+import org.example.backend.dto.importReportDTO;
+import org.example.backend.service.ExportFormat;
+import org.example.backend.service.ExportService;
+import org.example.backend.service.ImportService;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk import throughput in rows per second, end to end through {@link ImportService}:
+ * parsing, validation and JDBC batch inserts of the rows and their outbox events. Derived
+ * views catch up asynchronously from the outbox and are not part of the score.
+ *
+ * The input is the seeded portfolio's own properties as the export endpoint writes them, so
+ * the file has the real layout and value distributions and {@code portfolioSize} rows. The
+ * {@code rows} counter is the score to read; the imported rows are deleted after each
+ * invocation so every import lands on the same portfolio.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class ImportBenchmark {
+
+    @Param({"CSV", "NDJSON"})
+    public ExportFormat format;
+
+    private ImportService importService;
+    private JdbcTemplate jdbc;
+    private int portfolioSize;
+    private byte[] input;
+
+    /**
+     * Rows imported, reported by JMH as a rate alongside the invocation throughput
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Rows {
+        public long rows;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            rows = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp(PortfolioState portfolio) throws IOException {
+        importService = portfolio.bean(ImportService.class);
+        jdbc = portfolio.bean(JdbcTemplate.class);
+        portfolioSize = portfolio.portfolioSize;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        portfolio.bean(ExportService.class).exportProperties(format, out);
+        input = out.toByteArray();
+        // The portfolio is seeded with explicit ids, so move the sequence past them
+        jdbc.execute("ALTER SEQUENCE properties_seq RESTART WITH " + (portfolioSize + 100));
+    }
+
+    @TearDown(Level.Invocation)
+    public void deleteImported() {
+        jdbc.update("DELETE FROM properties WHERE id > ?", portfolioSize);
+    }
+
+    @Benchmark
+    public importReportDTO importProperties(Rows counter) throws IOException {
+        importReportDTO report = importService.importProperties(format, new ByteArrayInputStream(input));
+        if (report.getFailedRows() > 0) {
+            throw new IllegalStateException(report.getFailedRows() + " rows failed: " + report.getErrors());
+        }
+        counter.rows += report.getImportedRows();
+        return report;
+    }
+}
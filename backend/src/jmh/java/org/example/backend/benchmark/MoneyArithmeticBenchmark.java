@@ -0,0 +1,109 @@
+package org.example.backend.benchmark;
+
+import org.example.backend.service.FixedPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BigDecimal versus {@link FixedPoint} long arithmetic for the aggregation hot paths:
+ * summing rents, and the occupancy percentage and average-rent divisions used in the
+ * KPI rollups. No database involved. Compare gc.alloc.rate.norm between each pair for
+ * the allocation saving; the FromDecimals variant includes the edge conversion.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class MoneyArithmeticBenchmark {
+
+    @Param({"10000", "1000000"})
+    public int rows;
+
+    private BigDecimal[] rentDecimals;
+    private long[] rentCents;
+    private int[] occupiedUnits;
+    private int[] totalUnits;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        rentDecimals = new BigDecimal[rows];
+        rentCents = new long[rows];
+        occupiedUnits = new int[rows];
+        totalUnits = new int[rows];
+        for (int i = 0; i < rows; i++) {
+            long cents = 50_000 + random.nextInt(1_000_000);
+            rentCents[i] = cents;
+            rentDecimals[i] = BigDecimal.valueOf(cents, FixedPoint.SCALE);
+            totalUnits[i] = 1 + random.nextInt(200);
+            occupiedUnits[i] = random.nextInt(totalUnits[i] + 1);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal sumBigDecimal() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (BigDecimal rent : rentDecimals) {
+            total = total.add(rent);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public BigDecimal sumFixedPoint() {
+        long total = 0;
+        for (long rent : rentCents) {
+            total = FixedPoint.add(total, rent);
+        }
+        return FixedPoint.toDecimal(total);
+    }
+
+    @Benchmark
+    public BigDecimal sumFixedPointFromDecimals() {
+        long total = 0;
+        for (BigDecimal rent : rentDecimals) {
+            total = FixedPoint.add(total, FixedPoint.of(rent));
+        }
+        return FixedPoint.toDecimal(total);
+    }
+
+    @Benchmark
+    public BigDecimal occupancyAndRentPerUnitBigDecimal() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < rows; i++) {
+            BigDecimal occupancy = BigDecimal.valueOf(occupiedUnits[i] * 100L)
+                    .divide(BigDecimal.valueOf(totalUnits[i]), FixedPoint.SCALE, RoundingMode.HALF_UP);
+            BigDecimal rentPerUnit = rentDecimals[i]
+                    .divide(BigDecimal.valueOf(totalUnits[i]), FixedPoint.SCALE, RoundingMode.HALF_UP);
+            total = total.add(occupancy).add(rentPerUnit);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public BigDecimal occupancyAndRentPerUnitFixedPoint() {
+        long total = 0;
+        for (int i = 0; i < rows; i++) {
+            long occupancy = FixedPoint.percentage(occupiedUnits[i], totalUnits[i]);
+            long rentPerUnit = FixedPoint.divide(rentCents[i], totalUnits[i]);
+            total = FixedPoint.add(total, occupancy + rentPerUnit);
+        }
+        return FixedPoint.toDecimal(total);
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.backend.benchmark;
+
+import org.example.backend.BackendApplication;
+import org.example.backend.service.PortfolioAnalytics;
+import org.example.backend.service.PortfolioSummaryAggregate;
+import org.example.backend.service.PropertySpatialIndex;
+import org.example.backend.service.SearchIndexService;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Shared benchmark state: a running application context backed by an embedded H2
+ * database seeded with a synthetic portfolio.
+ *
+ * The portfolio size is a JMH parameter, so a single run reports every repository and
+ * service call at 1k, 100k and 1M properties. Override it with {@code -p portfolioSize=...}.
+ */
+@State(Scope.Benchmark)
+public class PortfolioState {
+
+    @Param({"1000", "100000", "1000000"})
+    public int portfolioSize;
+
+    @Param({"2"})
+    public int tenantsPerProperty;
+
+    @Param({"2"})
+    public int requestsPerProperty;
+
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(BackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.open-in-view=false",
+                        "logging.level.root=WARN")
+                .run();
+        new SyntheticPortfolio(context.getBean(JdbcTemplate.class))
+                .seed(portfolioSize, tenantsPerProperty, requestsPerProperty);
+        // Seeding bypasses the service layer, so resync the in-memory views
+        bean(PortfolioSummaryAggregate.class).reconcile();
+        bean(PropertySpatialIndex.class).rebuild();
+        bean(PortfolioAnalytics.class).rebuild();
+        bean(SearchIndexService.class).rebuild();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+}
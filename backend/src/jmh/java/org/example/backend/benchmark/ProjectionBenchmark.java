@@ -0,0 +1,78 @@
+package org.example.backend.benchmark;
+
+import org.example.backend.dto.propertyRowDTO;
+import org.example.backend.repository.propertyRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity hydration versus constructor projections for the read-only list queries.
+ *
+ * Both sides run inside a read-only transaction so the entity variant pays for the
+ * persistence context exactly as the service methods do. Compare gc.alloc.rate.norm
+ * between each entity/row pair for the allocation saving.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class ProjectionBenchmark {
+
+    private static final BigDecimal LOW_OCCUPANCY = BigDecimal.valueOf(5);
+    private static final Pageable TOP_50 = Pageable.ofSize(50);
+
+    private propertyRepository properties;
+    private TransactionTemplate readOnly;
+
+    @Setup
+    public void setUp(PortfolioState portfolio) {
+        properties = portfolio.bean(propertyRepository.class);
+        readOnly = new TransactionTemplate(portfolio.bean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+    }
+
+    @Benchmark
+    public Object lowOccupancyEntities() {
+        return readOnly.execute(status -> properties.findLowOccupancyProperties(LOW_OCCUPANCY).size());
+    }
+
+    @Benchmark
+    public Object lowOccupancyRows() {
+        return readOnly.execute(status -> properties.findLowOccupancyRows(LOW_OCCUPANCY).size());
+    }
+
+    @Benchmark
+    public Object topPerformingEntities() {
+        return readOnly.execute(status -> properties.findTopPerformingProperties(TOP_50).size());
+    }
+
+    @Benchmark
+    public Object topPerformingRows() {
+        return readOnly.execute(status -> properties.findTopPerformingRows(TOP_50).size());
+    }
+
+    @Benchmark
+    public Object lowOccupancyRowsToDto() {
+        return readOnly.execute(status -> {
+            List<propertyRowDTO> rows = properties.findLowOccupancyRows(LOW_OCCUPANCY);
+            return rows.stream().map(propertyRowDTO::toDto).toList();
+        });
+    }
+}
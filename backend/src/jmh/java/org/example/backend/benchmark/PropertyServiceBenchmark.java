@@ -0,0 +1,89 @@
+package org.example.backend.benchmark;
+
+import org.example.backend.service.PropertyService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import static org.example.backend.benchmark.RepositoryBenchmark.FIRST_PAGE;
+
+/**
+ * Service-level benchmarks: the repository call plus the transaction boundary and the
+ * entity-to-DTO stream pipelines in {@link PropertyService}.
+ *
+ * Comparing these against {@link RepositoryBenchmark} isolates the mapping overhead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class PropertyServiceBenchmark {
+
+    private PropertyService propertyService;
+    private long sampleId;
+
+    @Setup
+    public void setUp(PortfolioState portfolio) {
+        propertyService = portfolio.bean(PropertyService.class);
+        sampleId = portfolio.portfolioSize / 2;
+    }
+
+    @Benchmark
+    public Object getPropertyById() {
+        return propertyService.getPropertyById(sampleId);
+    }
+
+    @Benchmark
+    public Object getAllProperties() {
+        return propertyService.getAllProperties(FIRST_PAGE);
+    }
+
+    @Benchmark
+    public Object filterProperties() {
+        return propertyService.filterProperties("Residential", BigDecimal.valueOf(40), BigDecimal.valueOf(90),
+                BigDecimal.valueOf(50), null, FIRST_PAGE);
+    }
+
+    @Benchmark
+    public Object searchProperties() {
+        return propertyService.searchProperties("marina", FIRST_PAGE);
+    }
+
+    @Benchmark
+    public Object getPortfolioSummary() {
+        return propertyService.getPortfolioSummary();
+    }
+
+    @Benchmark
+    public Object getTopPerformingProperties() {
+        return propertyService.getTopPerformingProperties(20);
+    }
+
+    @Benchmark
+    public Object getLowOccupancyProperties() {
+        return propertyService.getLowOccupancyProperties(BigDecimal.valueOf(5));
+    }
+
+    @Benchmark
+    public Object getHighIncomeProperties() {
+        return propertyService.getHighIncomeProperties(BigDecimal.valueOf(1_990_000));
+    }
+
+    @Benchmark
+    public Object getPropertiesInBounds() {
+        return propertyService.getPropertiesInBounds(BigDecimal.valueOf(25.05), BigDecimal.valueOf(25.10),
+                BigDecimal.valueOf(55.10), BigDecimal.valueOf(55.20));
+    }
+}
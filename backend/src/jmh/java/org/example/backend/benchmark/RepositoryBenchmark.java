@@ -0,0 +1,144 @@
+package org.example.backend.benchmark;
+
+import org.example.backend.repository.leaseRepository;
+import org.example.backend.repository.maintanenceRequestRepository;
+import org.example.backend.repository.propertyRepository;
+import org.example.backend.repository.tenantRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repository-level benchmarks: raw query cost including entity hydration,
+ * without any service-layer mapping.
+ *
+ * Throughput is reported in ops/ms and SampleTime gives the latency percentiles;
+ * the benchmark profile adds {@code -prof gc} for the allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class RepositoryBenchmark {
+
+    static final Pageable FIRST_PAGE = PageRequest.of(0, 20);
+    static final Pageable DEEP_PAGE = PageRequest.of(200, 20);
+
+    private propertyRepository properties;
+    private tenantRepository tenants;
+    private leaseRepository leases;
+    private maintanenceRequestRepository maintenanceRequests;
+
+    @Setup
+    public void setUp(PortfolioState portfolio) {
+        properties = portfolio.bean(propertyRepository.class);
+        tenants = portfolio.bean(tenantRepository.class);
+        leases = portfolio.bean(leaseRepository.class);
+        maintenanceRequests = portfolio.bean(maintanenceRequestRepository.class);
+    }
+
+    @Benchmark
+    public Object propertyFindWithFilters() {
+        return properties.findWithFilters("Residential", BigDecimal.valueOf(40), BigDecimal.valueOf(90),
+                BigDecimal.valueOf(50), null, FIRST_PAGE);
+    }
+
+    @Benchmark
+    public Object propertyFindWithFiltersDeepPage() {
+        return properties.findWithFilters(null, null, null, null, null, DEEP_PAGE);
+    }
+
+    @Benchmark
+    public Object propertySearchByNameOrAddress() {
+        return properties.searchByNameOrAddress("marina", FIRST_PAGE);
+    }
+
+    @Benchmark
+    public Object propertyPortfolioSummary() {
+        return properties.getPortfolioSummary();
+    }
+
+    @Benchmark
+    public Object propertyTopPerforming() {
+        return properties.findTopPerformingProperties(FIRST_PAGE);
+    }
+
+    @Benchmark
+    public Object propertyLowOccupancy() {
+        return properties.findLowOccupancyProperties(BigDecimal.valueOf(5));
+    }
+
+    @Benchmark
+    public Object propertyInBounds() {
+        return properties.findPropertiesInBounds(BigDecimal.valueOf(25.05), BigDecimal.valueOf(25.10),
+                BigDecimal.valueOf(55.10), BigDecimal.valueOf(55.20));
+    }
+
+    @Benchmark
+    public Object propertyOccupancyRange() {
+        return properties.findByOccupancyRateBetween(BigDecimal.valueOf(70), BigDecimal.valueOf(80), FIRST_PAGE);
+    }
+
+    @Benchmark
+    public Object tenantSearchByNameOrEmail() {
+        return tenants.searchByNameOrEmail("tenant12", FIRST_PAGE);
+    }
+
+    @Benchmark
+    public Object tenantExpiringLeases() {
+        LocalDate today = LocalDate.now();
+        return tenants.findTenantsWithExpiringLeases(today, today.plusDays(7));
+    }
+
+    @Benchmark
+    public Object leaseStatusCounts() {
+        return leases.getLeaseStatusCounts();
+    }
+
+    @Benchmark
+    public Object leaseRentalIncomeByProperty() {
+        return leases.getRentalIncomeByProperty();
+    }
+
+    @Benchmark
+    public Object leaseFindWithFilters() {
+        return leases.findWithFilters(null, null, BigDecimal.valueOf(10_000), null, "ACTIVE", FIRST_PAGE);
+    }
+
+    @Benchmark
+    public Object leaseRenewalOpportunities() {
+        return leases.findLeaseRenewalOpportunities(LocalDate.now().plusDays(7));
+    }
+
+    @Benchmark
+    public Object maintenanceCountByStatus() {
+        return maintenanceRequests.countByStatus();
+    }
+
+    @Benchmark
+    public Object maintenanceRecentRequests() {
+        return maintenanceRequests.findRecentRequests(FIRST_PAGE);
+    }
+
+    @Benchmark
+    public Object maintenanceTrends() {
+        LocalDateTime now = LocalDateTime.now();
+        return maintenanceRequests.getMaintenanceTrendsByDate(now.minusDays(90), now);
+    }
+}
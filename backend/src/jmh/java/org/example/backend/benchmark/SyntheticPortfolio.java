@@ -0,0 +1,159 @@
+package org.example.backend.benchmark;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Seeds a deterministic synthetic portfolio straight through JDBC batches.
+ *
+ * Every property gets a fixed number of tenants, one lease per tenant and a fixed
+ * number of maintenance requests, so result sizes scale linearly with the portfolio.
+ * Ids are assigned explicitly, which keeps foreign keys simple and the data identical
+ * between runs.
+ */
+final class SyntheticPortfolio {
+
+    static final String[] PROPERTY_TYPES = {"Commercial", "Residential", "Mixed-use", "Industrial", "Retail"};
+    static final String[] STREETS = {"Sheikh Zayed Road", "Al Wasl Road", "Gate Avenue", "Marina Walk", "Al Khail Road"};
+
+    private static final int BATCH_SIZE = 5_000;
+    private static final long RANDOM_SEED = 42L;
+
+    private final JdbcTemplate jdbc;
+    private final SplittableRandom random = new SplittableRandom(RANDOM_SEED);
+    private final LocalDate today = LocalDate.now();
+
+    SyntheticPortfolio(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    void seed(int properties, int tenantsPerProperty, int requestsPerProperty) {
+        seedProperties(properties);
+        seedTenantsAndLeases(properties, tenantsPerProperty);
+        seedMaintenanceRequests(properties, requestsPerProperty);
+        jdbc.execute("ANALYZE");
+    }
+
+    private void seedProperties(int count) {
+        String sql = "INSERT INTO properties (id, name, address, property_type, total_units, occupied_units, " +
+                "occupancy_rate, rental_income, asset_value, esg_score, square_footage, year_built, " +
+                "latitude, longitude, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (long id = 1; id <= count; id++) {
+            int units = 10 + random.nextInt(490);
+            int occupied = random.nextInt(units + 1);
+            Timestamp created = Timestamp.valueOf(LocalDateTime.now().minusDays(random.nextInt(3650)));
+            batch.add(new Object[]{
+                    id,
+                    "Property " + id,
+                    (1 + random.nextInt(999)) + " " + STREETS[random.nextInt(STREETS.length)] + ", Dubai",
+                    PROPERTY_TYPES[random.nextInt(PROPERTY_TYPES.length)],
+                    units,
+                    occupied,
+                    BigDecimal.valueOf(occupied * 100L).divide(BigDecimal.valueOf(units), 2, RoundingMode.HALF_UP),
+                    money(5_000, 2_000_000),
+                    money(1_000_000, 500_000_000),
+                    BigDecimal.valueOf(random.nextInt(10_000), 2),
+                    5_000 + random.nextInt(500_000),
+                    1950 + random.nextInt(75),
+                    BigDecimal.valueOf(24.8 + random.nextDouble() * 0.6).setScale(8, RoundingMode.HALF_UP),
+                    BigDecimal.valueOf(54.9 + random.nextDouble() * 0.8).setScale(8, RoundingMode.HALF_UP),
+                    created,
+                    created
+            });
+            flushIfFull(sql, batch);
+        }
+        flush(sql, batch);
+    }
+
+    private void seedTenantsAndLeases(int properties, int tenantsPerProperty) {
+        String tenantSql = "INSERT INTO tenants (id, name, email, phone, lease_start, lease_end, monthly_rent, " +
+                "status, unit_number, payment_score, property_id, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        String leaseSql = "INSERT INTO leases (id, lease_number, start_date, end_date, monthly_rent, " +
+                "security_deposit, status, lease_type, unit_number, auto_renewal, tenant_id, property_id, " +
+                "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        List<Object[]> tenants = new ArrayList<>(BATCH_SIZE);
+        List<Object[]> leases = new ArrayList<>(BATCH_SIZE);
+        long id = 0;
+        for (long propertyId = 1; propertyId <= properties; propertyId++) {
+            for (int t = 0; t < tenantsPerProperty; t++) {
+                id++;
+                LocalDate start = today.minusDays(random.nextInt(1460)).plusDays(180);
+                LocalDate end = start.plusMonths(6 + random.nextInt(54));
+                BigDecimal rent = money(1_000, 50_000);
+                Timestamp created = Timestamp.valueOf(start.atStartOfDay());
+                String unit = "U-" + (t + 1);
+                tenants.add(new Object[]{
+                        id, "Tenant " + id, "tenant" + id + "@example.com", "+9715000" + id,
+                        Date.valueOf(start), Date.valueOf(end), rent, "ACTIVE", unit,
+                        BigDecimal.valueOf(random.nextInt(10_000), 2), propertyId, created, created
+                });
+                leases.add(new Object[]{
+                        id, "L-" + id, Date.valueOf(start), Date.valueOf(end), rent,
+                        rent.multiply(BigDecimal.valueOf(2)), "ACTIVE", "FIXED_TERM", unit,
+                        random.nextBoolean(), id, propertyId, created, created
+                });
+                if (tenants.size() >= BATCH_SIZE) {
+                    flush(tenantSql, tenants);
+                    flush(leaseSql, leases);
+                }
+            }
+        }
+        flush(tenantSql, tenants);
+        flush(leaseSql, leases);
+    }
+
+    private void seedMaintenanceRequests(int properties, int requestsPerProperty) {
+        String sql = "INSERT INTO maintenance_requests (id, title, description, status, priority, category, " +
+                "estimated_cost, scheduled_date, property_id, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        String[] statuses = {"PENDING", "IN_PROGRESS", "COMPLETED", "CANCELLED", "ON_HOLD"};
+        String[] priorities = {"LOW", "MEDIUM", "HIGH", "URGENT"};
+        String[] categories = {"PLUMBING", "ELECTRICAL", "HVAC", "GENERAL", "APPLIANCE"};
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        long id = 0;
+        for (long propertyId = 1; propertyId <= properties; propertyId++) {
+            for (int r = 0; r < requestsPerProperty; r++) {
+                id++;
+                String category = categories[random.nextInt(categories.length)];
+                Timestamp created = Timestamp.valueOf(LocalDateTime.now().minusDays(random.nextInt(730)));
+                batch.add(new Object[]{
+                        id, category + " issue " + id, "Reported " + category.toLowerCase() + " fault in unit " + r,
+                        statuses[random.nextInt(statuses.length)], priorities[random.nextInt(priorities.length)],
+                        category, money(100, 25_000),
+                        Timestamp.valueOf(created.toLocalDateTime().plusDays(random.nextInt(30))),
+                        propertyId, created, created
+                });
+                flushIfFull(sql, batch);
+            }
+        }
+        flush(sql, batch);
+    }
+
+    private BigDecimal money(int min, int max) {
+        return BigDecimal.valueOf((min + random.nextLong(max - min)) * 100L + random.nextInt(100), 2);
+    }
+
+    private void flushIfFull(String sql, List<Object[]> batch) {
+        if (batch.size() >= BATCH_SIZE) {
+            flush(sql, batch);
+        }
+    }
+
+    private void flush(String sql, List<Object[]> batch) {
+        if (!batch.isEmpty()) {
+            jdbc.batchUpdate(sql, batch);
+            batch.clear();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package org.example.backend.benchmark;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.example.backend.service.PropertyService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.example.backend.benchmark.RepositoryBenchmark.FIRST_PAGE;
+
+/**
+ * Load harness comparing the current platform-thread request model with virtual threads.
+ *
+ * Each operation is one burst of {@code concurrentRequests} dashboard-style requests against
+ * {@link PropertyService}, submitted at once and awaited together, so JMH's score is bursts per
+ * millisecond. Every request's own latency, from submission to completion and so including
+ * the time it queued for a thread, goes into an HdrHistogram; the measurement iterations'
+ * percentiles are printed when the trial ends. The platform model is a fixed pool the size of
+ * Tomcat's default worker pool; the virtual model is one virtual thread per request. Both
+ * share the same JDBC pool, which is what bounds the database either way.
+ *
+ * The virtual model needs Java 21: run with {@code mvn -Pbenchmark,java21 test-compile exec:exec
+ * -Djmh.benchmarks=ThreadModelBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class ThreadModelBenchmark {
+
+    /**
+     * Tomcat's default server.tomcat.threads.max
+     */
+    private static final int PLATFORM_POOL_SIZE = 200;
+
+    private static final String[] PERCENTILES = {"50", "90", "99", "99.9"};
+
+    @Param({"platform", "virtual"})
+    public String threadModel;
+
+    @Param({"100", "1000"})
+    public int concurrentRequests;
+
+    private PropertyService propertyService;
+    private int portfolioSize;
+    private ExecutorService executor;
+    private final Recorder latencies = new Recorder(3);
+    private Histogram measured;
+
+    @Setup(Level.Trial)
+    public void setUp(PortfolioState portfolio) {
+        propertyService = portfolio.bean(PropertyService.class);
+        portfolioSize = portfolio.portfolioSize;
+        executor = "virtual".equals(threadModel)
+                ? virtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(PLATFORM_POOL_SIZE);
+        measured = new Histogram(3);
+    }
+
+    @Setup(Level.Iteration)
+    public void startIteration() {
+        latencies.reset();
+    }
+
+    @TearDown(Level.Iteration)
+    public void endIteration(IterationParams iteration) {
+        Histogram interval = latencies.getIntervalHistogram();
+        if (iteration.getType() == IterationType.MEASUREMENT) {
+            measured.add(interval);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+        StringBuilder report = new StringBuilder(String.format(
+                "%nRequest latency, %s threads, %d concurrent, %d requests (ms):",
+                threadModel, concurrentRequests, measured.getTotalCount()));
+        for (String percentile : PERCENTILES) {
+            report.append(String.format(" p%s=%.3f", percentile,
+                    millis(measured.getValueAtPercentile(Double.parseDouble(percentile)))));
+        }
+        System.out.println(report.append(String.format(" max=%.3f", millis(measured.getMaxValue()))));
+    }
+
+    @Benchmark
+    public int burst() throws Exception {
+        List<Future<Object>> responses = new ArrayList<>(concurrentRequests);
+        for (int i = 0; i < concurrentRequests; i++) {
+            int endpoint = i % 3;
+            long submitted = System.nanoTime();
+            responses.add(executor.submit(() -> {
+                Object response = request(endpoint);
+                latencies.recordValue(System.nanoTime() - submitted);
+                return response;
+            }));
+        }
+        int completed = 0;
+        for (Future<Object> response : responses) {
+            response.get();
+            completed++;
+        }
+        return completed;
+    }
+
+    private Object request(int endpoint) {
+        return switch (endpoint) {
+            case 0 -> propertyService.getPropertyById(ThreadLocalRandom.current().nextLong(1, portfolioSize + 1));
+            case 1 -> propertyService.getAllProperties(FIRST_PAGE);
+            default -> propertyService.getPortfolioSummary();
+        };
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * Looked up reflectively so the benchmark sources still compile for Java 17
+     */
+    private static ExecutorService virtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Virtual threads need Java 21; run with -Pbenchmark,java21", e);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package org.example.backend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.backend.dto.propertyDTO;
+import org.example.backend.service.PropertyColumns;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.web.PagedModel.PageMetadata;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Payload size and serialization CPU of a property list response in JSON, CBOR and
+ * {@link PropertyColumns}, each plain and gzipped as server compression would send it.
+ * No database or HTTP involved; the rows follow the synthetic portfolio's distributions.
+ * Sizes are printed once per trial, as they do not vary between iterations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class WireFormatBenchmark {
+
+    @Param({"10000"})
+    public int rows;
+
+    private final ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+    private final ObjectMapper cbor = Jackson2ObjectMapperBuilder.cbor().build();
+
+    private List<propertyDTO> properties;
+    private PageMetadata page;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        properties = new ArrayList<>(rows);
+        LocalDateTime now = LocalDateTime.now();
+        for (long id = 1; id <= rows; id++) {
+            int units = 10 + random.nextInt(490);
+            int occupied = random.nextInt(units + 1);
+            LocalDateTime created = now.minusDays(random.nextInt(3650)).minusNanos(random.nextInt(1_000_000) * 1000L);
+            properties.add(propertyDTO.builder()
+                    .id(id)
+                    .name("Property " + id)
+                    .address((1 + random.nextInt(999)) + " "
+                            + SyntheticPortfolio.STREETS[random.nextInt(SyntheticPortfolio.STREETS.length)] + ", Dubai")
+                    .propertyType(SyntheticPortfolio.PROPERTY_TYPES[random.nextInt(SyntheticPortfolio.PROPERTY_TYPES.length)])
+                    .totalUnits(units)
+                    .occupiedUnits(occupied)
+                    .occupancyRate(BigDecimal.valueOf(occupied * 100L).divide(BigDecimal.valueOf(units), 2, RoundingMode.HALF_UP))
+                    .rentalIncome(BigDecimal.valueOf(500_000 + random.nextLong(199_500_000), 2))
+                    .assetValue(BigDecimal.valueOf(100_000_000 + random.nextLong(49_900_000_000L), 2))
+                    .esgScore(BigDecimal.valueOf(random.nextInt(10_000), 2))
+                    .squareFootage(5_000 + random.nextInt(500_000))
+                    .yearBuilt(1950 + random.nextInt(75))
+                    .latitude(BigDecimal.valueOf(24.8 + random.nextDouble() * 0.6).setScale(8, RoundingMode.HALF_UP))
+                    .longitude(BigDecimal.valueOf(54.9 + random.nextDouble() * 0.8).setScale(8, RoundingMode.HALF_UP))
+                    .createdAt(created)
+                    .updatedAt(created)
+                    .build());
+        }
+        page = new PageMetadata(rows, 0, rows, 1);
+
+        System.out.printf("%nPayload bytes for %d properties:%n", rows);
+        System.out.printf("  json %d, gzipped %d%n", json().length, jsonGzip().length);
+        System.out.printf("  cbor %d, gzipped %d%n", cbor().length, cborGzip().length);
+        System.out.printf("  columns %d, gzipped %d%n", columns().length, columnsGzip().length);
+    }
+
+    @Benchmark
+    public byte[] json() {
+        return encode(out -> json.writeValue(out, properties), false);
+    }
+
+    @Benchmark
+    public byte[] jsonGzip() {
+        return encode(out -> json.writeValue(out, properties), true);
+    }
+
+    @Benchmark
+    public byte[] cbor() {
+        return encode(out -> cbor.writeValue(out, properties), false);
+    }
+
+    @Benchmark
+    public byte[] cborGzip() {
+        return encode(out -> cbor.writeValue(out, properties), true);
+    }
+
+    @Benchmark
+    public byte[] columns() {
+        return encode(out -> PropertyColumns.write(properties, page, out), false);
+    }
+
+    @Benchmark
+    public byte[] columnsGzip() {
+        return encode(out -> PropertyColumns.write(properties, page, out), true);
+    }
+
+    private static byte[] encode(Encoder encoder, boolean gzip) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1 << 20);
+        try {
+            if (gzip) {
+                try (GZIPOutputStream out = new GZIPOutputStream(bytes, 8192)) {
+                    encoder.encode(out);
+                }
+            } else {
+                encoder.encode(bytes);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private interface Encoder {
+        void encode(OutputStream out) throws IOException;
+    }
+}
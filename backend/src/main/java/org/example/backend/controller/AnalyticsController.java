@@ -0,0 +1,53 @@
+package org.example.backend.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.backend.dto.analyticsResultDTO;
+import org.example.backend.service.AnalyticsDimension;
+import org.example.backend.service.AnalyticsQuery;
+import org.example.backend.service.PortfolioAnalytics;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * REST controller for ad-hoc portfolio analytics over the in-memory snapshot.
+ */
+@RestController
+@RequestMapping("/api/analytics")
+@RequiredArgsConstructor
+public class AnalyticsController {
+
+    private final PortfolioAnalytics portfolioAnalytics;
+
+    /**
+     * Filter properties by type, occupancy and ESG range and aggregate them by a dimension
+     */
+    @GetMapping("/portfolio")
+    public analyticsResultDTO queryPortfolio(@RequestParam(required = false) List<String> type,
+                                             @RequestParam(required = false) Double minOccupancy,
+                                             @RequestParam(required = false) Double maxOccupancy,
+                                             @RequestParam(required = false) Double minEsg,
+                                             @RequestParam(required = false) Double maxEsg,
+                                             @RequestParam(defaultValue = "property_type") String groupBy) {
+        if (!portfolioAnalytics.isReady()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Analytics snapshot is still loading");
+        }
+        return portfolioAnalytics.query(new AnalyticsQuery(type == null ? Set.of() : Set.copyOf(type),
+                minOccupancy, maxOccupancy, minEsg, maxEsg, parseDimension(groupBy)));
+    }
+
+    private static AnalyticsDimension parseDimension(String groupBy) {
+        try {
+            return AnalyticsDimension.valueOf(groupBy.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported analytics dimension: " + groupBy);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.backend.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.backend.dto.cacheRegionStatsDTO;
+import org.example.backend.service.SecondLevelCache;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST controller for inspecting and clearing the second-level cache.
+ */
+@RestController
+@RequestMapping("/api/admin/cache")
+@RequiredArgsConstructor
+public class CacheController {
+
+    private final SecondLevelCache secondLevelCache;
+
+    /**
+     * Get hit/miss statistics per cache region
+     */
+    @GetMapping
+    public List<cacheRegionStatsDTO> getStatistics() {
+        return secondLevelCache.getRegionStatistics();
+    }
+
+    /**
+     * Evict every cache region
+     */
+    @DeleteMapping
+    public ResponseEntity<Void> evictAll() {
+        secondLevelCache.evictAll();
+        return ResponseEntity.noContent().build();
+    }
+}
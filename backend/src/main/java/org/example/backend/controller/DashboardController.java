@@ -0,0 +1,27 @@
+package org.example.backend.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.backend.dto.kpiDTO;
+import org.example.backend.service.KpiService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for dashboard analytics.
+ */
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+public class DashboardController {
+
+    private final KpiService kpiService;
+
+    /**
+     * Get the portfolio KPIs shown on the dashboard
+     */
+    @GetMapping("/kpis")
+    public kpiDTO getKpis() {
+        return kpiService.getKpis();
+    }
+}
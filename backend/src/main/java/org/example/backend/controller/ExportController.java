@@ -0,0 +1,72 @@
+package org.example.backend.controller;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.example.backend.service.ExportFormat;
+import org.example.backend.service.ExportService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * REST controller for full-table exports.
+ *
+ * Rows are written straight to the response body while the database cursor advances,
+ * so exports of any size run in constant memory.
+ */
+@RestController
+@RequestMapping("/api/export")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final Set<String> DATASETS = Set.of("properties", "tenants", "leases", "maintenance-requests");
+
+    private final ExportService exportService;
+
+    /**
+     * Export a dataset: properties, tenants, leases or maintenance-requests
+     */
+    @GetMapping("/{dataset}")
+    public void export(@PathVariable String dataset,
+                       @RequestParam(defaultValue = "ndjson") String format,
+                       HttpServletResponse response) throws IOException {
+        if (!DATASETS.contains(dataset)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown dataset: " + dataset);
+        }
+        ExportFormat exportFormat = parseFormat(format);
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"" + dataset + "." + exportFormat.getFileExtension() + "\"");
+
+        OutputStream out = new BufferedOutputStream(response.getOutputStream(), BUFFER_SIZE);
+        switch (dataset) {
+            case "properties" -> exportService.exportProperties(exportFormat, out);
+            case "tenants" -> exportService.exportTenants(exportFormat, out);
+            case "leases" -> exportService.exportLeases(exportFormat, out);
+            default -> exportService.exportMaintenanceRequests(exportFormat, out);
+        }
+        out.flush();
+    }
+
+    private static ExportFormat parseFormat(String format) {
+        try {
+            return ExportFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported export format: " + format);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.example.backend.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.backend.dto.forecastDTO;
+import org.example.backend.service.ForecastMetric;
+import org.example.backend.service.ForecastService;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Locale;
+
+/**
+ * REST controller for rent and maintenance forecasts.
+ */
+@RestController
+@RequestMapping("/api/forecast")
+@RequiredArgsConstructor
+public class ForecastController {
+
+    private final ForecastService forecastService;
+
+    /**
+     * Get the twelve-month portfolio outlook
+     */
+    @GetMapping("/summary")
+    public forecastDTO.PortfolioForecastSummary getSummary() {
+        return forecastService.getPortfolioForecastSummary();
+    }
+
+    /**
+     * Forecast a metric (rent or maintenance) for the whole portfolio
+     */
+    @GetMapping("/{metric}")
+    public forecastDTO forecastPortfolio(@PathVariable String metric,
+                                         @RequestParam(defaultValue = "12") int horizon) {
+        return forecastService.forecastPortfolio(parseMetric(metric), horizon);
+    }
+
+    /**
+     * Forecast a metric (rent or maintenance) for one property
+     */
+    @GetMapping("/{metric}/properties/{propertyId}")
+    public forecastDTO forecastProperty(@PathVariable String metric,
+                                        @PathVariable Long propertyId,
+                                        @RequestParam(defaultValue = "12") int horizon) {
+        return forecastService.forecastProperty(parseMetric(metric), propertyId, horizon)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        "Property not found with id: " + propertyId));
+    }
+
+    private static ForecastMetric parseMetric(String metric) {
+        try {
+            return ForecastMetric.valueOf(metric.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported forecast metric: " + metric);
+        }
+    }
+}
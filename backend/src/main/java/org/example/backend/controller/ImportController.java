@@ -0,0 +1,65 @@
+package org.example.backend.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.example.backend.dto.importReportDTO;
+import org.example.backend.service.ExportFormat;
+import org.example.backend.service.ImportService;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * REST controller for bulk imports.
+ *
+ * The request body is parsed as it arrives, in the same NDJSON and CSV layouts the
+ * export endpoints produce, and the response reports every rejected row.
+ */
+@RestController
+@RequestMapping("/api/import")
+@RequiredArgsConstructor
+public class ImportController {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final Set<String> DATASETS = Set.of("properties", "tenants", "leases");
+
+    private final ImportService importService;
+
+    /**
+     * Import a dataset: properties, tenants or leases
+     */
+    @PostMapping("/{dataset}")
+    public importReportDTO importDataset(@PathVariable String dataset,
+                                         @RequestParam(defaultValue = "ndjson") String format,
+                                         HttpServletRequest request) throws IOException {
+        if (!DATASETS.contains(dataset)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown dataset: " + dataset);
+        }
+        ExportFormat importFormat = parseFormat(format);
+        InputStream in = new BufferedInputStream(request.getInputStream(), BUFFER_SIZE);
+        return switch (dataset) {
+            case "properties" -> importService.importProperties(importFormat, in);
+            case "tenants" -> importService.importTenants(importFormat, in);
+            default -> importService.importLeases(importFormat, in);
+        };
+    }
+
+    private static ExportFormat parseFormat(String format) {
+        try {
+            return ExportFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported import format: " + format);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.backend.controller;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.RequiredArgsConstructor;
+import org.example.backend.dto.dispatchItemDTO;
+import org.example.backend.entity.MaintenanceRequest.Category;
+import org.example.backend.service.MaintenanceDispatcher;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * REST controller for pulling, completing and inspecting dispatched maintenance work.
+ */
+@RestController
+@RequestMapping("/api/maintenance/dispatch")
+@RequiredArgsConstructor
+public class MaintenanceDispatchController {
+
+    private final MaintenanceDispatcher maintenanceDispatcher;
+
+    /**
+     * Claim the next request for a technician, optionally limited to some categories
+     */
+    @PostMapping("/next")
+    public ResponseEntity<dispatchItemDTO> dispatchNext(@RequestParam @NotBlank(message = "Technician is required")
+                                                        @Size(max = 255, message = "Technician must not exceed 255 characters")
+                                                        String technician,
+                                                        @RequestParam(required = false) List<Category> categories) {
+        return maintenanceDispatcher.dispatchNext(technician, categories)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    /**
+     * Complete a request assigned to the technician
+     */
+    @PostMapping("/{requestId}/complete")
+    public ResponseEntity<Void> complete(@PathVariable Long requestId,
+                                         @RequestParam @NotBlank(message = "Technician is required")
+                                         @Size(max = 255, message = "Technician must not exceed 255 characters")
+                                         String technician) {
+        if (!maintenanceDispatcher.complete(technician, requestId)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "Maintenance request " + requestId + " is not assigned to " + technician);
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Get the work assigned to a technician
+     */
+    @GetMapping("/technicians/{technician}")
+    public List<dispatchItemDTO> getTechnicianQueue(@PathVariable String technician) {
+        return maintenanceDispatcher.getTechnicianQueue(technician);
+    }
+
+    /**
+     * Get the number of unassigned requests per category
+     */
+    @GetMapping("/queues")
+    public Map<Category, Integer> getQueueDepths() {
+        return maintenanceDispatcher.getQueueDepths();
+    }
+}
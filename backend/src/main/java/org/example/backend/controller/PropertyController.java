@@ -0,0 +1,86 @@
+package org.example.backend.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.backend.dto.propertyDTO;
+import org.example.backend.service.PropertyQueryService;
+import org.example.backend.service.PropertyService;
+import org.example.backend.service.Tagged;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * REST controller for property reads, answering 304 Not Modified while the client's ETag
+ * still matches. Lists can also be had as CBOR or {@link org.example.backend.service.PropertyColumns}.
+ */
+@RestController
+@RequestMapping("/api/properties")
+@RequiredArgsConstructor
+public class PropertyController {
+
+    private final PropertyQueryService propertyQueryService;
+    private final PropertyService propertyService;
+
+    /**
+     * Get a page of properties matching the filters
+     */
+    @GetMapping
+    public ResponseEntity<PagedModel<propertyDTO>> getProperties(@RequestParam(required = false) String propertyType,
+                                                                 @RequestParam(required = false) BigDecimal minOccupancy,
+                                                                 @RequestParam(required = false) BigDecimal maxOccupancy,
+                                                                 @RequestParam(required = false) BigDecimal minEsgScore,
+                                                                 @RequestParam(required = false) BigDecimal maxEsgScore,
+                                                                 Pageable pageable,
+                                                                 WebRequest request) {
+        Tagged<Page<propertyDTO>> properties = propertyQueryService.getProperties(propertyType,
+                minOccupancy, maxOccupancy, minEsgScore, maxEsgScore, pageable, request::checkNotModified);
+        if (properties.notModified()) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(properties.tag())
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(new PagedModel<>(properties.body()));
+    }
+
+    /**
+     * Get a property
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<propertyDTO> getProperty(@PathVariable Long id, WebRequest request) {
+        Tagged<Optional<propertyDTO>> property = propertyQueryService.getProperty(id, request::checkNotModified);
+        if (property.notModified()) {
+            return null;
+        }
+        return property.body()
+                .map(body -> ResponseEntity.ok().eTag(property.tag())
+                        .cacheControl(CacheControl.noCache()).varyBy(HttpHeaders.ACCEPT).body(body))
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        "Property not found with id: " + id));
+    }
+
+    /**
+     * Get the properties inside the bounds for the map view
+     */
+    @GetMapping("/map")
+    public List<propertyDTO> getPropertiesInBounds(@RequestParam BigDecimal minLat, @RequestParam BigDecimal maxLat,
+                                                   @RequestParam BigDecimal minLng, @RequestParam BigDecimal maxLng) {
+        return propertyService.getPropertiesInBounds(minLat, maxLat, minLng, maxLng);
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.backend.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.backend.dto.propertyDetailDTO;
+import org.example.backend.service.PropertyDetailService;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * REST controller for the property detail view.
+ */
+@RestController
+@RequestMapping("/api/properties")
+@RequiredArgsConstructor
+public class PropertyDetailController {
+
+    private final PropertyDetailService propertyDetailService;
+
+    /**
+     * Get a property with its tenants, active leases and open maintenance requests
+     */
+    @GetMapping("/{id}/detail")
+    public propertyDetailDTO getPropertyDetail(@PathVariable Long id) {
+        return propertyDetailService.getPropertyDetail(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        "Property not found with id: " + id));
+    }
+}
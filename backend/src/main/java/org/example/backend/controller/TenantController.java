@@ -0,0 +1,74 @@
+package org.example.backend.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.backend.dto.tenantDTO;
+import org.example.backend.repository.LeaseSpecifications;
+import org.example.backend.service.Tagged;
+import org.example.backend.service.TenantQueryService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Optional;
+
+/**
+ * REST controller for tenant reads, answering 304 Not Modified while the client's ETag
+ * still matches.
+ */
+@RestController
+@RequestMapping("/api/tenants")
+@RequiredArgsConstructor
+public class TenantController {
+
+    private final TenantQueryService tenantQueryService;
+
+    /**
+     * Get a page of tenants, optionally of one property and in one lease status (ACTIVE, EXPIRED or FUTURE)
+     */
+    @GetMapping
+    public ResponseEntity<PagedModel<tenantDTO>> getTenants(@RequestParam(required = false) Long propertyId,
+                                                            @RequestParam(required = false) String leaseStatus,
+                                                            Pageable pageable,
+                                                            WebRequest request) {
+        if (leaseStatus != null && !LeaseSpecifications.TIMELINE_STATUSES.contains(leaseStatus)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported lease status: " + leaseStatus);
+        }
+        Tagged<Page<tenantDTO>> tenants = tenantQueryService.getTenants(propertyId, leaseStatus, pageable,
+                request::checkNotModified);
+        if (tenants.notModified()) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(tenants.tag())
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(new PagedModel<>(tenants.body()));
+    }
+
+    /**
+     * Get a tenant
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<tenantDTO> getTenant(@PathVariable Long id, WebRequest request) {
+        Tagged<Optional<tenantDTO>> tenant = tenantQueryService.getTenant(id, request::checkNotModified);
+        if (tenant.notModified()) {
+            return null;
+        }
+        return tenant.body()
+                .map(body -> ResponseEntity.ok().eTag(tenant.tag())
+                        .cacheControl(CacheControl.noCache()).varyBy(HttpHeaders.ACCEPT).body(body))
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        "Tenant not found with id: " + id));
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Data Transfer Object for a grouped aggregate over the portfolio analytics snapshot.
+ *
+ * Rent is the monthly rent of leases active when the snapshot was last refreshed.
+ * Averages ignore properties with no recorded occupancy or ESG score.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class analyticsResultDTO {
+
+    private String groupBy;
+    private long scannedProperties;
+    private long matchedProperties;
+    private long elapsedMicros;
+    private List<Group> groups;
+
+    /**
+     * Nested class for one group's aggregates
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Group {
+        private String key;
+        private long properties;
+        private long activeLeases;
+        private BigDecimal monthlyRent;
+        private Double averageOccupancy;
+        private Double averageEsgScore;
+    }
+}
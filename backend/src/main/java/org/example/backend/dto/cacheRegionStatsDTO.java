@@ -0,0 +1,27 @@
+package org.example.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for hit/miss statistics of one second-level cache region.
+ *
+ * Counters are cumulative since startup or the last statistics reset.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class cacheRegionStatsDTO {
+
+    private String region;
+    private long hitCount;
+    private long missCount;
+    private long putCount;
+    private long elementCountInMemory;
+
+    // Hits over hits plus misses, 0-1; null before the first lookup
+    private Double hitRatio;
+}
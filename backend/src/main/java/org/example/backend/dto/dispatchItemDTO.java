@@ -0,0 +1,33 @@
+package org.example.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.backend.entity.MaintenanceRequest.Category;
+import org.example.backend.entity.MaintenanceRequest.Priority;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for a maintenance request as seen by the dispatch engine.
+ *
+ * The effective priority includes time-based escalation and may be higher than the
+ * priority stored on the request.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class dispatchItemDTO {
+
+    private Long requestId;
+    private Long propertyId;
+    private Category category;
+    private Priority priority;
+    private Priority effectivePriority;
+    private String assignedTo;
+    private LocalDateTime scheduledDate;
+    private LocalDateTime createdAt;
+    private boolean overdue;
+}
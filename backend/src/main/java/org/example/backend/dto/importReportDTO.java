@@ -0,0 +1,32 @@
+package org.example.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object summarising a bulk import.
+ *
+ * Valid rows are committed even when other rows fail, so {@code importedRows} is what
+ * actually landed in the database. Only the first errors are listed; {@code failedRows}
+ * always carries the full count.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class importReportDTO {
+
+    private String dataset;
+    private long totalRows;
+    private long importedRows;
+    private long failedRows;
+    private long durationMs;
+    private long rowsPerSecond;
+
+    private List<importRowErrorDTO> errors;
+    private boolean errorsTruncated;
+}
@@ -0,0 +1,25 @@
+package org.example.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for one rejected row of a bulk import.
+ *
+ * Rows are numbered from 1 in input order, not counting the CSV header line.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class importRowErrorDTO {
+
+    private long row;
+
+    // Offending field, or null for parse and whole-row errors
+    private String field;
+
+    private String message;
+}
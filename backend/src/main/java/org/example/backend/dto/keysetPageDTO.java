@@ -0,0 +1,31 @@
+package org.example.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for one window of a keyset-paginated list.
+ *
+ * Clients pass {@code nextToken} back unchanged to fetch the following window;
+ * the token is opaque and bound to the sort it was issued for.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class keysetPageDTO<T> {
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+
+    // Null when there is no further window
+    private String nextToken;
+
+    // Only computed when explicitly requested, since it costs a COUNT(*)
+    private Long totalElements;
+}
@@ -0,0 +1,28 @@
+package org.example.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for a map cluster.
+ *
+ * At low zoom levels the map view receives one cluster per grid cell instead of
+ * every property inside the viewport.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class mapClusterDTO {
+
+    // Centroid of the properties in the cluster
+    private double latitude;
+    private double longitude;
+
+    private int count;
+
+    // Set only when the cluster holds a single property
+    private Long propertyId;
+}
@@ -0,0 +1,26 @@
+package org.example.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for the property detail view.
+ *
+ * Bundles a property with its tenants, currently active leases and open maintenance
+ * requests so the detail page needs a single call.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class propertyDetailDTO {
+
+    private propertyDTO property;
+    private List<tenantDTO> tenants;
+    private List<leaseDTO> activeLeases;
+    private List<maintenanceRequestDTO> openMaintenanceRequests;
+}
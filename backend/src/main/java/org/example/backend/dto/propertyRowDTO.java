@@ -0,0 +1,53 @@
+package org.example.backend.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only row of property columns, filled by JPQL constructor expressions.
+ *
+ * Unlike a managed Property entity it carries no dirty-checking snapshot and no
+ * lazy collection proxies, which makes it the cheap choice for read-only lists.
+ */
+public record propertyRowDTO(
+        Long id,
+        String name,
+        String address,
+        String propertyType,
+        Integer totalUnits,
+        Integer occupiedUnits,
+        BigDecimal occupancyRate,
+        BigDecimal rentalIncome,
+        BigDecimal assetValue,
+        BigDecimal esgScore,
+        Integer squareFootage,
+        Integer yearBuilt,
+        BigDecimal latitude,
+        BigDecimal longitude,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+
+    /**
+     * Convert to the API representation
+     */
+    public propertyDTO toDto() {
+        return propertyDTO.builder()
+                .id(id)
+                .name(name)
+                .address(address)
+                .propertyType(propertyType)
+                .totalUnits(totalUnits)
+                .occupiedUnits(occupiedUnits)
+                .occupancyRate(occupancyRate)
+                .rentalIncome(rentalIncome)
+                .assetValue(assetValue)
+                .esgScore(esgScore)
+                .squareFootage(squareFootage)
+                .yearBuilt(yearBuilt)
+                .latitude(latitude)
+                .longitude(longitude)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * LeaseAlert entity recording a renewal or expiry alert fired for a lease.
+ *
+ * One row per lease, alert type and lease end date. The unique constraint makes firing
+ * idempotent: an alert is never raised twice for the same term, even across restarts or
+ * nodes, while an extended lease (new end date) gets a fresh set of alerts.
+ */
+@Entity
+@Table(name = "lease_alerts",
+        uniqueConstraints = @UniqueConstraint(name = "uk_lease_alerts_lease_type_end",
+                columnNames = {"lease_id", "alert_type", "lease_end_date"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaseAlert {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "lease_alerts_seq")
+    @SequenceGenerator(name = "lease_alerts_seq", sequenceName = "lease_alerts_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "lease_id", nullable = false)
+    private Lease lease;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "alert_type", nullable = false, length = 20)
+    private AlertType alertType;
+
+    /**
+     * End date of the lease term the alert was raised for
+     */
+    @Column(name = "lease_end_date", nullable = false)
+    private LocalDate leaseEndDate;
+
+    /**
+     * Date the alert was due; may precede firedAt when catching up after downtime
+     */
+    @Column(name = "due_date", nullable = false)
+    private LocalDate dueDate;
+
+    @Column(name = "fired_at", nullable = false)
+    private LocalDateTime firedAt;
+
+    /**
+     * Alert types in the order they fire for a lease term
+     */
+    public enum AlertType {
+        RENEWAL_90_DAYS(90),
+        RENEWAL_60_DAYS(60),
+        RENEWAL_30_DAYS(30),
+        EXPIRED(-1),
+        AUTO_RENEWED(-1);
+
+        private final int daysBeforeEnd;
+
+        AlertType(int daysBeforeEnd) {
+            this.daysBeforeEnd = daysBeforeEnd;
+        }
+
+        /**
+         * Date the alert is due for a lease ending on the given date; expiry fires the day after
+         */
+        public LocalDate dueDate(LocalDate leaseEndDate) {
+            return leaseEndDate.minusDays(daysBeforeEnd);
+        }
+    }
+}
@@ -24,10 +24,12 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
+@NamedEntityGraph(name = "MaintenanceRequest.withProperty", attributeNodes = @NamedAttributeNode("property"))
 public class MaintenanceRequest {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "maintenance_requests_seq")
+    @SequenceGenerator(name = "maintenance_requests_seq", sequenceName = "maintenance_requests_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 255)
@@ -0,0 +1,77 @@
+package org.example.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * OutboxEvent entity recording one committed change to a property, tenant, lease or
+ * maintenance request.
+ *
+ * Rows are appended in the same transaction as the change they describe and published
+ * to in-process subscribers afterwards, in id order. Ids are identity-generated because
+ * rows are only ever inserted through a plain JDBC batch, never through the persistence
+ * context.
+ */
+@Entity
+@Table(name = "outbox_events")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "aggregate_type", nullable = false, length = 30)
+    private AggregateType aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 10)
+    private ChangeType changeType;
+
+    /**
+     * JSON object of the entity's basic fields after the change (before it, for deletes);
+     * associations are stored as ids under "{name}Id"
+     */
+    @Column(nullable = false, length = 8000)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * When the event was handed to subscribers; null while pending
+     */
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    /**
+     * Enum for the kind of entity that changed
+     */
+    public enum AggregateType {
+        PROPERTY,
+        TENANT,
+        LEASE,
+        MAINTENANCE_REQUEST
+    }
+
+    /**
+     * Enum for the kind of change
+     */
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
@@ -5,11 +5,15 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -26,10 +30,18 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@BatchSize(size = 50)
+@NamedEntityGraph(name = "Property.withTenants", attributeNodes = @NamedAttributeNode("tenants"))
 public class Property {
 
+    /**
+     * Pooled sequence rather than IDENTITY so Hibernate can batch inserts
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "properties_seq")
+    @SequenceGenerator(name = "properties_seq", sequenceName = "properties_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 255)
@@ -93,6 +105,7 @@ public class Property {
      * A property can have multiple tenants
      */
     @OneToMany(mappedBy = "property", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
     private List<Tenant> tenants;
 
     /**
@@ -100,6 +113,7 @@ public class Property {
      * A property can have multiple maintenance requests
      */
     @OneToMany(mappedBy = "property", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
     private List<MaintenanceRequest> maintenanceRequests;
 
     @CreatedDate
@@ -110,13 +124,20 @@ public class Property {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    /**
+     * Write counter, bumped in the transaction of every update (see QueryVersion)
+     */
+    @Version
+    @Column(name = "row_version", nullable = false)
+    private Long version;
+
     /**
      * Helper method to calculate occupancy rate based on units
      */
     public void calculateOccupancyRate() {
         if (totalUnits != null && totalUnits > 0 && occupiedUnits != null) {
             this.occupancyRate = BigDecimal.valueOf(occupiedUnits)
-                    .divide(BigDecimal.valueOf(totalUnits), 4, BigDecimal.ROUND_HALF_UP)
+                    .divide(BigDecimal.valueOf(totalUnits), 4, RoundingMode.HALF_UP)
                     .multiply(BigDecimal.valueOf(100));
         }
     }
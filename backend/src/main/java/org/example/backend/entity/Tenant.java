@@ -5,6 +5,9 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -27,10 +30,16 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@BatchSize(size = 50)
+@NamedEntityGraph(name = "Tenant.withProperty", attributeNodes = @NamedAttributeNode("property"))
+@NamedEntityGraph(name = "Tenant.withLeases", attributeNodes = @NamedAttributeNode("leases"))
 public class Tenant {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tenants_seq")
+    @SequenceGenerator(name = "tenants_seq", sequenceName = "tenants_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 255)
@@ -105,6 +114,7 @@ public class Tenant {
      * A tenant can have multiple lease records over time
      */
     @OneToMany(mappedBy = "tenant", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
     private List<Lease> leases;
 
     @CreatedDate
@@ -115,6 +125,13 @@ public class Tenant {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    /**
+     * Write counter, bumped in the transaction of every update (see QueryVersion)
+     */
+    @Version
+    @Column(name = "row_version", nullable = false)
+    private Long version;
+
     /**
      * Enum for tenant status
      */
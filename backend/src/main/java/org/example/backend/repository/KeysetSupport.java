@@ -0,0 +1,49 @@
+package org.example.backend.repository;
+
+import org.springframework.data.domain.Sort;
+
+import java.util.Set;
+
+/**
+ * Helpers shared by the keyset (seek) pagination methods of the repositories.
+ *
+ * Keyset variants cost the same whatever the page depth and issue no COUNT(*). Pass
+ * {@code ScrollPosition.keyset()} for the first window and the window's last position after
+ * that. Each repository lists the properties it can be scrolled by: only NOT NULL columns
+ * qualify, since the seek predicate silently skips rows whose sort key is null.
+ */
+public final class KeysetSupport {
+
+    private static final String ID = "id";
+
+    private KeysetSupport() {
+    }
+
+    /**
+     * Check the sort only uses allowed keys, then make it stable as {@link #stable(Sort)} does
+     */
+    public static Sort stable(Sort sort, Set<String> allowed) {
+        for (Sort.Order order : sort) {
+            if (!allowed.contains(order.getProperty())) {
+                throw new IllegalArgumentException(
+                        "Unsupported sort property for keyset pagination: " + order.getProperty());
+            }
+        }
+        return stable(sort);
+    }
+
+    /**
+     * Append the id as final sort key so every row has a unique position,
+     * in the direction of the last requested key
+     */
+    public static Sort stable(Sort sort) {
+        if (sort.getOrderFor(ID) != null) {
+            return sort;
+        }
+        Sort.Direction direction = sort.stream()
+                .reduce((first, second) -> second)
+                .map(Sort.Order::getDirection)
+                .orElse(Sort.Direction.ASC);
+        return sort.and(Sort.by(direction, ID));
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.backend.repository;
+
+import org.example.backend.entity.Lease;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Criteria specifications for Lease queries.
+ */
+public final class LeaseSpecifications {
+
+    /**
+     * Statuses a lease or tenant can be filtered by, relative to a date
+     */
+    public static final Set<String> TIMELINE_STATUSES = Set.of("ACTIVE", "EXPIRED", "FUTURE");
+
+    private LeaseSpecifications() {
+    }
+
+    /**
+     * Same criteria as {@link leaseRepository#findWithFilters}, evaluated against the given date
+     */
+    public static Specification<Lease> withFilters(Long propertyId, Long tenantId,
+                                                   BigDecimal minRent, BigDecimal maxRent,
+                                                   String leaseStatus, LocalDate today) {
+        List<Specification<Lease>> specs = new ArrayList<>();
+        if (propertyId != null) {
+            specs.add(byProperty(propertyId));
+        }
+        if (tenantId != null) {
+            specs.add(byTenant(tenantId));
+        }
+        if (minRent != null) {
+            specs.add((root, query, cb) -> cb.greaterThanOrEqualTo(root.get("monthlyRent"), minRent));
+        }
+        if (maxRent != null) {
+            specs.add((root, query, cb) -> cb.lessThanOrEqualTo(root.get("monthlyRent"), maxRent));
+        }
+        if (leaseStatus != null) {
+            specs.add(byTimelineStatus(leaseStatus, today));
+        }
+        return Specification.allOf(specs);
+    }
+
+    public static Specification<Lease> byProperty(Long propertyId) {
+        return (root, query, cb) -> cb.equal(root.get("property").get("id"), propertyId);
+    }
+
+    public static Specification<Lease> byTenant(Long tenantId) {
+        return (root, query, cb) -> cb.equal(root.get("tenant").get("id"), tenantId);
+    }
+
+    /**
+     * Leases that are ACTIVE, EXPIRED or FUTURE on the given date; any other status is rejected
+     */
+    public static Specification<Lease> byTimelineStatus(String leaseStatus, LocalDate today) {
+        return switch (leaseStatus) {
+            case "ACTIVE" -> (root, query, cb) -> cb.and(
+                    cb.lessThanOrEqualTo(root.get("startDate"), today),
+                    cb.greaterThanOrEqualTo(root.get("endDate"), today));
+            case "EXPIRED" -> (root, query, cb) -> cb.lessThan(root.get("endDate"), today);
+            case "FUTURE" -> (root, query, cb) -> cb.greaterThan(root.get("startDate"), today);
+            default -> throw new IllegalArgumentException("Unknown lease status: " + leaseStatus);
+        };
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.backend.repository;
+
+import org.example.backend.entity.MaintenanceRequest;
+import org.example.backend.entity.MaintenanceRequest.Priority;
+import org.example.backend.entity.MaintenanceRequest.RequestStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Criteria specifications for MaintenanceRequest queries.
+ *
+ * The case-insensitive assignee match needs an expression index on upper(assigned_to)
+ * where the database supports one.
+ */
+public final class MaintenanceRequestSpecifications {
+
+    private MaintenanceRequestSpecifications() {
+    }
+
+    /**
+     * Same criteria as {@link maintanenceRequestRepository#findWithFilters}, with the
+     * technician filter applied to the assignee
+     */
+    public static Specification<MaintenanceRequest> withFilters(Long propertyId, RequestStatus status,
+                                                                Priority priority, String assignedTechnician) {
+        List<Specification<MaintenanceRequest>> specs = new ArrayList<>();
+        if (propertyId != null) {
+            specs.add(byProperty(propertyId));
+        }
+        if (status != null) {
+            specs.add(byStatus(status));
+        }
+        if (priority != null) {
+            specs.add((root, query, cb) -> cb.equal(root.get("priority"), priority));
+        }
+        if (assignedTechnician != null) {
+            specs.add((root, query, cb) ->
+                    cb.equal(cb.upper(root.get("assignedTo")), assignedTechnician.toUpperCase(Locale.ROOT)));
+        }
+        return Specification.allOf(specs);
+    }
+
+    public static Specification<MaintenanceRequest> byProperty(Long propertyId) {
+        return (root, query, cb) -> cb.equal(root.get("property").get("id"), propertyId);
+    }
+
+    public static Specification<MaintenanceRequest> byStatus(RequestStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.backend.repository;
+
+import org.example.backend.entity.Property;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Criteria specifications for Property queries.
+ *
+ * Only the criteria actually supplied become predicates, so each combination of
+ * filters produces its own narrow query that the database can match to an index. The
+ * case-insensitive type match needs an expression index on upper(property_type) where
+ * the database supports one. Values are bound as parameters, so with
+ * {@code hibernate.criteria.plan_cache_enabled} each combination is planned once.
+ */
+public final class PropertySpecifications {
+
+    private PropertySpecifications() {
+    }
+
+    /**
+     * Same criteria as {@link propertyRepository#findWithFilters}
+     */
+    public static Specification<Property> withFilters(String propertyType,
+                                                      BigDecimal minOccupancy, BigDecimal maxOccupancy,
+                                                      BigDecimal minEsgScore, BigDecimal maxEsgScore) {
+        List<Specification<Property>> specs = new ArrayList<>();
+        if (propertyType != null) {
+            specs.add((root, query, cb) -> cb.equal(cb.upper(root.get("propertyType")), propertyType.toUpperCase(Locale.ROOT)));
+        }
+        if (minOccupancy != null) {
+            specs.add((root, query, cb) -> cb.greaterThanOrEqualTo(root.get("occupancyRate"), minOccupancy));
+        }
+        if (maxOccupancy != null) {
+            specs.add((root, query, cb) -> cb.lessThanOrEqualTo(root.get("occupancyRate"), maxOccupancy));
+        }
+        if (minEsgScore != null) {
+            specs.add((root, query, cb) -> cb.greaterThanOrEqualTo(root.get("esgScore"), minEsgScore));
+        }
+        if (maxEsgScore != null) {
+            specs.add((root, query, cb) -> cb.lessThanOrEqualTo(root.get("esgScore"), maxEsgScore));
+        }
+        return Specification.allOf(specs);
+    }
+}
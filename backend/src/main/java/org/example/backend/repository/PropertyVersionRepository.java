@@ -0,0 +1,21 @@
+package org.example.backend.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * Versions of property query results, for conditional GETs.
+ */
+public interface PropertyVersionRepository {
+
+    /**
+     * Get the version of the result of {@link propertyRepository#findWithFilters}, for the same criteria
+     */
+    QueryVersion versionWithFilters(String propertyType,
+                                    BigDecimal minOccupancy, BigDecimal maxOccupancy,
+                                    BigDecimal minEsgScore, BigDecimal maxEsgScore);
+
+    /**
+     * Get the version of one property; empty when it does not exist
+     */
+    QueryVersion versionById(Long id);
+}
@@ -0,0 +1,34 @@
+package org.example.backend.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.example.backend.entity.Property;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+
+/**
+ * Aggregates over the same {@link PropertySpecifications} as the filter itself.
+ */
+class PropertyVersionRepositoryImpl implements PropertyVersionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public QueryVersion versionWithFilters(String propertyType,
+                                           BigDecimal minOccupancy, BigDecimal maxOccupancy,
+                                           BigDecimal minEsgScore, BigDecimal maxEsgScore) {
+        return version(PropertySpecifications.withFilters(propertyType, minOccupancy, maxOccupancy,
+                minEsgScore, maxEsgScore));
+    }
+
+    @Override
+    public QueryVersion versionById(Long id) {
+        return version((root, query, cb) -> cb.equal(root.get("id"), id));
+    }
+
+    private QueryVersion version(Specification<Property> spec) {
+        return QueryVersion.of(entityManager, Property.class, spec);
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.backend.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Version of a query result: how many rows match, the sum of their write counters, and the
+ * latest modification among them.
+ *
+ * The write counter is a JPA {@code @Version} column, bumped by the writing transaction, so a
+ * committed update of a matching row always moves the revision forward and a delete lowers
+ * the count. lastModified alone would not do: updatedAt is stamped at flush rather than at
+ * commit, so a transaction that flushes early and commits late can land behind a timestamp
+ * that is already visible. An insert and a delete of a row that was never updated leave count
+ * and revision as they were, and are then only told apart by lastModified. The version costs
+ * one aggregate query over the filter's index, without loading or serializing any rows.
+ *
+ * @param count        rows matching
+ * @param revision     sum of the write counters across the matching rows and the versioned
+ *                     associations
+ * @param lastModified latest audit timestamp across the matching rows and the versioned
+ *                     associations, or null when none is set
+ */
+public record QueryVersion(long count, long revision, LocalDateTime lastModified) {
+
+    private static final String VERSION = "version";
+    private static final String UPDATED_AT = "updatedAt";
+
+    /**
+     * Get the version of the rows a specification matches, from their own write counter and
+     * audit timestamp and those of the given associations rendered with each row
+     */
+    static <T> QueryVersion of(EntityManager entityManager, Class<T> entityType, Specification<T> spec,
+                               String... associations) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object[]> query = cb.createQuery(Object[].class);
+        Root<T> root = query.from(entityType);
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(cb.count(root));
+        selections.add(cb.sum(root.<Long>get(VERSION)));
+        selections.add(cb.greatest(root.<LocalDateTime>get(UPDATED_AT)));
+        for (String association : associations) {
+            Path<?> path = path(root, association);
+            selections.add(cb.sum(path.<Long>get(VERSION)));
+            selections.add(cb.greatest(path.<LocalDateTime>get(UPDATED_AT)));
+        }
+        query.multiselect(selections);
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return of(entityManager.createQuery(query).getSingleResult());
+    }
+
+    /**
+     * Read a version from a COUNT followed by any number of SUM(version), MAX(timestamp) pairs
+     */
+    static QueryVersion of(Object[] row) {
+        long revision = 0;
+        LocalDateTime lastModified = null;
+        for (int i = 1; i + 1 < row.length; i += 2) {
+            if (row[i] instanceof Number counter) {
+                revision += counter.longValue();
+            }
+            if (row[i + 1] instanceof LocalDateTime modified
+                    && (lastModified == null || modified.isAfter(lastModified))) {
+                lastModified = modified;
+            }
+        }
+        return new QueryVersion(((Number) row[0]).longValue(), revision, lastModified);
+    }
+
+    private static Path<?> path(Root<?> root, String dottedPath) {
+        Path<?> path = root;
+        for (String attribute : dottedPath.split("\\.")) {
+            path = path.get(attribute);
+        }
+        return path;
+    }
+}
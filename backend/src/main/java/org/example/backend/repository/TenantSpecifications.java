@@ -0,0 +1,50 @@
+package org.example.backend.repository;
+
+import org.example.backend.entity.Tenant;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Criteria specifications for Tenant queries.
+ */
+public final class TenantSpecifications {
+
+    private TenantSpecifications() {
+    }
+
+    /**
+     * Same criteria as {@link tenantRepository#findWithFilters}, evaluated against the given date
+     */
+    public static Specification<Tenant> withFilters(Long propertyId, String leaseStatus, LocalDate today) {
+        List<Specification<Tenant>> specs = new ArrayList<>();
+        if (propertyId != null) {
+            specs.add(byProperty(propertyId));
+        }
+        if (leaseStatus != null) {
+            specs.add(byLeaseStatus(leaseStatus, today));
+        }
+        return Specification.allOf(specs);
+    }
+
+    public static Specification<Tenant> byProperty(Long propertyId) {
+        return (root, query, cb) -> cb.equal(root.get("property").get("id"), propertyId);
+    }
+
+    /**
+     * Tenants whose current lease is ACTIVE, EXPIRED or FUTURE on the given date; any other
+     * status is rejected
+     */
+    public static Specification<Tenant> byLeaseStatus(String leaseStatus, LocalDate today) {
+        return switch (leaseStatus) {
+            case "ACTIVE" -> (root, query, cb) -> cb.and(
+                    cb.lessThanOrEqualTo(root.get("leaseStart"), today),
+                    cb.greaterThanOrEqualTo(root.get("leaseEnd"), today));
+            case "EXPIRED" -> (root, query, cb) -> cb.lessThan(root.get("leaseEnd"), today);
+            case "FUTURE" -> (root, query, cb) -> cb.greaterThan(root.get("leaseStart"), today);
+            default -> throw new IllegalArgumentException("Unknown lease status: " + leaseStatus);
+        };
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.backend.repository;
+
+/**
+ * Versions of tenant query results, for conditional GETs. They cover the tenants'
+ * properties too, whose name and address are rendered with each tenant.
+ */
+public interface TenantVersionRepository {
+
+    /**
+     * Get the version of the result of {@link tenantRepository#findWithFilters}, for the same criteria
+     */
+    QueryVersion versionWithFilters(Long propertyId, String leaseStatus);
+
+    /**
+     * Get the version of one tenant and its property; empty when the tenant does not exist
+     */
+    QueryVersion versionById(Long id);
+}
@@ -0,0 +1,31 @@
+package org.example.backend.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.example.backend.entity.Tenant;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+
+/**
+ * Aggregates over the same {@link TenantSpecifications} as the filter itself.
+ */
+class TenantVersionRepositoryImpl implements TenantVersionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public QueryVersion versionWithFilters(Long propertyId, String leaseStatus) {
+        return version(TenantSpecifications.withFilters(propertyId, leaseStatus, LocalDate.now()));
+    }
+
+    @Override
+    public QueryVersion versionById(Long id) {
+        return version((root, query, cb) -> cb.equal(root.get("id"), id));
+    }
+
+    private QueryVersion version(Specification<Tenant> spec) {
+        return QueryVersion.of(entityManager, Tenant.class, spec, "property");
+    }
+}
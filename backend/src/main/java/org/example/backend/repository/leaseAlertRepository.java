@@ -0,0 +1,20 @@
+package org.example.backend.repository;
+
+import org.example.backend.entity.LeaseAlert;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface leaseAlertRepository extends JpaRepository<LeaseAlert, Long> {
+
+    /**
+     * Get {lease id, alert type, lease end date} of every alert already fired for the given leases
+     */
+    @Query("SELECT a.lease.id, a.alertType, a.leaseEndDate FROM LeaseAlert a WHERE a.lease.id IN :leaseIds")
+    List<Object[]> findFiredAlerts(@Param("leaseIds") Collection<Long> leaseIds);
+}
@@ -1,28 +1,46 @@
 package org.example.backend.repository;
 
 import org.example.backend.entity.Lease;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
-public interface leaseRepository extends JpaRepository<Lease, Long> {
+public interface leaseRepository extends JpaRepository<Lease, Long>, JpaSpecificationExecutor<Lease> {
+
+    /**
+     * Properties the scroll methods accept as sort keys, all NOT NULL (see {@link KeysetSupport})
+     */
+    Set<String> KEYSET_SORT_PROPERTIES = Set.of("id", "startDate", "endDate", "monthlyRent");
 
     /**
      * Find leases by property ID
      */
+    @EntityGraph("Lease.withTenantAndProperty")
     Page<Lease> findByPropertyId(Long propertyId, Pageable pageable);
 
     /**
      * Find leases by tenant ID
      */
+    @EntityGraph("Lease.withTenantAndProperty")
     Page<Lease> findByTenantId(Long tenantId, Pageable pageable);
 
     /**
@@ -50,8 +68,9 @@ public interface leaseRepository extends JpaRepository<Lease, Long> {
     );
 
     /**
-     * Find leases by property and active status
+     * Find leases by property and active status, with their tenants
      */
+    @EntityGraph(attributePaths = "tenant")
     @Query("SELECT l FROM Lease l WHERE l.property.id = :propertyId AND " +
             "l.startDate <= CURRENT_DATE AND l.endDate >= CURRENT_DATE")
     List<Lease> findActiveLeasesByProperty(@Param("propertyId") Long propertyId);
@@ -84,6 +103,35 @@ public interface leaseRepository extends JpaRepository<Lease, Long> {
             "GROUP BY l.property.id")
     List<Object[]> getRentalIncomeByProperty();
 
+    /**
+     * Get id, property, rent and term of every lease (for the lease timeline)
+     */
+    @Query("SELECT l.id, l.property.id, l.monthlyRent, l.startDate, l.endDate FROM Lease l")
+    List<Object[]> findAllTimelineRows();
+
+    /**
+     * Get id, property and rent of leases active on the given day (for the analytics snapshot)
+     */
+    @Query("SELECT l.id, l.property.id, l.monthlyRent FROM Lease l " +
+            "WHERE l.startDate <= :day AND l.endDate >= :day")
+    List<Object[]> findAnalyticsRowsActiveOn(@Param("day") LocalDate day);
+
+    /**
+     * Get {id, end date, auto renewal} of leases in the given statuses ending on or after a date
+     * (for the lease alert index)
+     */
+    @Query("SELECT l.id, l.endDate, l.autoRenewal FROM Lease l " +
+            "WHERE l.endDate >= :from AND l.status IN :statuses")
+    List<Object[]> findAlertIndexRows(@Param("from") LocalDate from,
+                                      @Param("statuses") Collection<Lease.LeaseStatus> statuses);
+
+    /**
+     * Get {id, end date, auto renewal, status, tenant id, property id} of the given leases
+     */
+    @Query("SELECT l.id, l.endDate, l.autoRenewal, l.status, l.tenant.id, l.property.id FROM Lease l " +
+            "WHERE l.id IN :ids")
+    List<Object[]> findAlertRowsByIds(@Param("ids") Collection<Long> ids);
+
     /**
      * Find leases with security deposit above threshold
      */
@@ -97,30 +145,6 @@ public interface leaseRepository extends JpaRepository<Lease, Long> {
             "l.startDate <= CURRENT_DATE")
     List<Lease> findLeaseRenewalOpportunities(@Param("futureDate") LocalDate futureDate);
 
-    /**
-     * Find leases by multiple filters
-     */
-    @Query("SELECT l FROM Lease l WHERE " +
-            "(:propertyId IS NULL OR l.property.id = :propertyId) AND " +
-            "(:tenantId IS NULL OR l.tenant.id = :tenantId) AND " +
-            "(:minRent IS NULL OR l.monthlyRent >= :minRent) AND " +
-            "(:maxRent IS NULL OR l.monthlyRent <= :maxRent) AND " +
-            "(:leaseStatus IS NULL OR " +
-            "  CASE " +
-            "    WHEN :leaseStatus = 'ACTIVE' THEN (l.startDate <= CURRENT_DATE AND l.endDate >= CURRENT_DATE) " +
-            "    WHEN :leaseStatus = 'EXPIRED' THEN (l.endDate < CURRENT_DATE) " +
-            "    WHEN :leaseStatus = 'FUTURE' THEN (l.startDate > CURRENT_DATE) " +
-            "    ELSE true " +
-            "  END = true)")
-    Page<Lease> findWithFilters(
-            @Param("propertyId") Long propertyId,
-            @Param("tenantId") Long tenantId,
-            @Param("minRent") BigDecimal minRent,
-            @Param("maxRent") BigDecimal maxRent,
-            @Param("leaseStatus") String leaseStatus,
-            Pageable pageable
-    );
-
     /**
      * Get lease duration statistics
      */
@@ -128,7 +152,7 @@ public interface leaseRepository extends JpaRepository<Lease, Long> {
             value = "SELECT AVG(EXTRACT(YEAR FROM AGE(end_date, start_date)) * 12 + EXTRACT(MONTH FROM AGE(end_date, start_date))) AS avgDurationMonths, " +
                     "MIN(EXTRACT(YEAR FROM AGE(end_date, start_date)) * 12 + EXTRACT(MONTH FROM AGE(end_date, start_date))) AS minDurationMonths, " +
                     "MAX(EXTRACT(YEAR FROM AGE(end_date, start_date)) * 12 + EXTRACT(MONTH FROM AGE(end_date, start_date))) AS maxDurationMonths " +
-                    "FROM lease",
+                    "FROM leases",
             nativeQuery = true
     )
     Object[] getLeaseDurationStatistics();
@@ -156,4 +180,121 @@ public interface leaseRepository extends JpaRepository<Lease, Long> {
             "SUM(CASE WHEN l.startDate > CURRENT_DATE THEN 1 ELSE 0 END) as futureLeases " +
             "FROM Lease l")
     Object[] getLeaseStatusCounts();
-}
\ No newline at end of file
+
+    /**
+     * Stream all leases through a forward-only cursor for export.
+     * Must be consumed inside a transaction and closed by the caller; rows bypass the
+     * second-level cache, so an export does not push the working set out of it.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("SELECT l FROM Lease l ORDER BY l.id")
+    Stream<Lease> streamAllForExport();
+
+    /**
+     * Scroll leases of a property by keyset
+     */
+    default Window<Lease> scrollByPropertyId(Long propertyId, KeysetScrollPosition position, Sort sort, int limit) {
+        return findBy(LeaseSpecifications.byProperty(propertyId),
+                q -> q.sortBy(KeysetSupport.stable(sort, KEYSET_SORT_PROPERTIES)).limit(limit).scroll(position));
+    }
+
+    /**
+     * Scroll leases of a tenant by keyset
+     */
+    default Window<Lease> scrollByTenantId(Long tenantId, KeysetScrollPosition position, Sort sort, int limit) {
+        return findBy(LeaseSpecifications.byTenant(tenantId),
+                q -> q.sortBy(KeysetSupport.stable(sort, KEYSET_SORT_PROPERTIES)).limit(limit).scroll(position));
+    }
+
+    /**
+     * Scroll expired leases by keyset
+     */
+    default Window<Lease> scrollExpiredLeases(KeysetScrollPosition position, Sort sort, int limit) {
+        return findBy(LeaseSpecifications.byTimelineStatus("EXPIRED", LocalDate.now()),
+                q -> q.sortBy(KeysetSupport.stable(sort, KEYSET_SORT_PROPERTIES)).limit(limit).scroll(position));
+    }
+
+    /**
+     * Scroll future leases by keyset
+     */
+    default Window<Lease> scrollFutureLeases(KeysetScrollPosition position, Sort sort, int limit) {
+        return findBy(LeaseSpecifications.byTimelineStatus("FUTURE", LocalDate.now()),
+                q -> q.sortBy(KeysetSupport.stable(sort, KEYSET_SORT_PROPERTIES)).limit(limit).scroll(position));
+    }
+
+    /**
+     * Find leases by multiple filters; leaseStatus is ACTIVE, EXPIRED or FUTURE as of today,
+     * or null for any, and any other value is rejected
+     */
+    default Page<Lease> findWithFilters(Long propertyId, Long tenantId,
+                                        BigDecimal minRent, BigDecimal maxRent,
+                                        String leaseStatus, Pageable pageable) {
+        return findAll(LeaseSpecifications.withFilters(propertyId, tenantId, minRent, maxRent,
+                leaseStatus, LocalDate.now()), pageable);
+    }
+
+    /**
+     * Scroll leases matching the filter criteria by keyset
+     */
+    default Window<Lease> scrollWithFilters(Long propertyId, Long tenantId,
+                                            BigDecimal minRent, BigDecimal maxRent, String leaseStatus,
+                                            KeysetScrollPosition position, Sort sort, int limit) {
+        return findBy(LeaseSpecifications.withFilters(propertyId, tenantId, minRent, maxRent,
+                        leaseStatus, LocalDate.now()),
+                q -> q.sortBy(KeysetSupport.stable(sort, KEYSET_SORT_PROPERTIES)).limit(limit).scroll(position));
+    }
+
+    /**
+     * Find which of the given lease numbers are already taken
+     */
+    @Query("SELECT l.leaseNumber FROM Lease l WHERE l.leaseNumber IN :leaseNumbers")
+    List<String> findExistingLeaseNumbers(@Param("leaseNumbers") Collection<String> leaseNumbers);
+
+    /**
+     * Count leases ending between today and the end of the month, and between today and the horizon
+     */
+    @Query("SELECT " +
+            "COALESCE(SUM(CASE WHEN l.endDate <= :monthEnd THEN 1 ELSE 0 END), 0) as expiringThisMonth, " +
+            "COUNT(l) as expiringSoon " +
+            "FROM Lease l WHERE l.endDate BETWEEN :today AND :horizon")
+    LeaseExpiryCounts getLeaseExpiryCounts(@Param("today") LocalDate today,
+                                           @Param("monthEnd") LocalDate monthEnd,
+                                           @Param("horizon") LocalDate horizon);
+
+    /**
+     * Get {start date, end date, lease count, monthly rent} for leases overlapping the period,
+     * grouped by term so the rent roll on any day can be derived without another query
+     */
+    @Query("SELECT l.startDate, l.endDate, COUNT(l), SUM(l.monthlyRent) FROM Lease l " +
+            "WHERE l.endDate >= :from AND l.startDate <= :to " +
+            "GROUP BY l.startDate, l.endDate")
+    List<Object[]> getRentRollByTerm(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Get {property id, start date, end date, monthly rent} for leases overlapping the period,
+     * grouped by property and term
+     */
+    @Query("SELECT l.property.id, l.startDate, l.endDate, SUM(l.monthlyRent) FROM Lease l " +
+            "WHERE l.endDate >= :from AND l.startDate <= :to " +
+            "GROUP BY l.property.id, l.startDate, l.endDate")
+    List<Object[]> getRentRollTermsByProperty(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Get {property id, monthly rent} of leases active on the given day
+     */
+    @Query("SELECT l.property.id, SUM(l.monthlyRent) FROM Lease l " +
+            "WHERE l.startDate <= :day AND l.endDate >= :day GROUP BY l.property.id")
+    List<Object[]> getRentRollByPropertyOn(@Param("day") LocalDate day);
+
+    /**
+     * Custom projection interface for dashboard lease expiry counts
+     */
+    interface LeaseExpiryCounts {
+        Long getExpiringThisMonth();
+        Long getExpiringSoon();
+    }
+}
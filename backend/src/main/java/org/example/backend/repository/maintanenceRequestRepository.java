@@ -3,24 +3,48 @@ package org.example.backend.repository;
 import org.example.backend.entity.MaintenanceRequest;
 import org.example.backend.entity.MaintenanceRequest.RequestStatus;
 import org.example.backend.entity.MaintenanceRequest.Priority;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
-public interface maintanenceRequestRepository extends JpaRepository<MaintenanceRequest, Long> {
+public interface maintanenceRequestRepository extends JpaRepository<MaintenanceRequest, Long>, JpaSpecificationExecutor<MaintenanceRequest> {
+
+    /**
+     * Properties the scroll methods accept as sort keys, all NOT NULL (see {@link KeysetSupport})
+     */
+    Set<String> KEYSET_SORT_PROPERTIES = Set.of("id", "title");
 
     /**
      * Find maintenance requests by property ID
      */
+    @EntityGraph("MaintenanceRequest.withProperty")
     Page<MaintenanceRequest> findByPropertyId(Long propertyId, Pageable pageable);
 
+    /**
+     * Find a property's maintenance requests in any of the given statuses, newest first
+     */
+    List<MaintenanceRequest> findByPropertyIdAndStatusInOrderByCreatedAtDesc(Long propertyId,
+                                                                             Collection<RequestStatus> statuses);
+
     /**
      * Find maintenance requests by status
      */
@@ -34,7 +58,7 @@ public interface maintanenceRequestRepository extends JpaRepository<MaintenanceR
     /**
      * Find maintenance requests by assigned technician
      */
-    Page<MaintenanceRequest> findByAssignedTechnicianIgnoreCase(String assignedTechnician, Pageable pageable);
+    Page<MaintenanceRequest> findByAssignedToIgnoreCase(String assignedTo, Pageable pageable);
 
     /**
      * Search maintenance requests by title or description
@@ -44,19 +68,25 @@ public interface maintanenceRequestRepository extends JpaRepository<MaintenanceR
             "LOWER(m.description) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
     Page<MaintenanceRequest> searchByTitleOrDescription(@Param("searchTerm") String searchTerm, Pageable pageable);
 
+    /**
+     * Get id, title and description of every maintenance request (for the search index)
+     */
+    @Query("SELECT m.id, m.title, m.description FROM MaintenanceRequest m")
+    List<Object[]> findAllSearchFields();
+
     /**
      * Find overdue maintenance requests (created more than X days ago and still open)
      */
     @Query("SELECT m FROM MaintenanceRequest m WHERE " +
-            "m.status IN ('OPEN', 'IN_PROGRESS') AND " +
+            "m.status IN ('PENDING', 'IN_PROGRESS') AND " +
             "m.createdAt < :cutoffDate")
     List<MaintenanceRequest> findOverdueRequests(@Param("cutoffDate") LocalDateTime cutoffDate);
 
     /**
-     * Find urgent maintenance requests (high priority and open)
+     * Find urgent maintenance requests (high or urgent priority and open)
      */
     @Query("SELECT m FROM MaintenanceRequest m WHERE " +
-            "m.priority = 'HIGH' AND m.status IN ('OPEN', 'IN_PROGRESS')")
+            "m.priority IN ('HIGH', 'URGENT') AND m.status IN ('PENDING', 'IN_PROGRESS')")
     List<MaintenanceRequest> findUrgentRequests();
 
     /**
@@ -64,7 +94,7 @@ public interface maintanenceRequestRepository extends JpaRepository<MaintenanceR
      */
     @Query("SELECT m.property.id, " +
             "COUNT(m) as totalRequests, " +
-            "SUM(CASE WHEN m.status = 'OPEN' THEN 1 ELSE 0 END) as openRequests, " +
+            "SUM(CASE WHEN m.status = 'PENDING' THEN 1 ELSE 0 END) as openRequests, " +
             "SUM(CASE WHEN m.status = 'IN_PROGRESS' THEN 1 ELSE 0 END) as inProgressRequests, " +
             "SUM(CASE WHEN m.status = 'COMPLETED' THEN 1 ELSE 0 END) as completedRequests " +
             "FROM MaintenanceRequest m " +
@@ -81,21 +111,6 @@ public interface maintanenceRequestRepository extends JpaRepository<MaintenanceR
             @Param("endDate") LocalDateTime endDate
     );
 
-    /**
-     * Find maintenance requests with multiple filters
-     */
-    @Query("SELECT m FROM MaintenanceRequest m WHERE " +
-            "(:propertyId IS NULL OR m.property.id = :propertyId) AND " +
-            "(:status IS NULL OR m.status = :status) AND " +
-            "(:priority IS NULL OR m.priority = :priority)")
-    Page<MaintenanceRequest> findWithFilters(
-            @Param("propertyId") Long propertyId,
-            @Param("status") RequestStatus status,
-            @Param("priority") Priority priority,
-            @Param("assignedTechnician") String assignedTechnician,
-            Pageable pageable
-    );
-
     /**
      * Count maintenance requests by status for dashboard KPIs
      */
@@ -120,4 +135,124 @@ public interface maintanenceRequestRepository extends JpaRepository<MaintenanceR
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate
     );
-}
\ No newline at end of file
+
+    /**
+     * Stream all maintenance requests through a forward-only cursor for export.
+     * Must be consumed inside a transaction and closed by the caller; rows bypass the
+     * second-level cache, so an export does not push the working set out of it.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("SELECT m FROM MaintenanceRequest m ORDER BY m.id")
+    Stream<MaintenanceRequest> streamAllForExport();
+
+    /**
+     * Scroll maintenance requests of a property by keyset
+     */
+    default Window<MaintenanceRequest> scrollByPropertyId(Long propertyId, KeysetScrollPosition position,
+                                                          Sort sort, int limit) {
+        return findBy(MaintenanceRequestSpecifications.byProperty(propertyId),
+                q -> q.sortBy(KeysetSupport.stable(sort, KEYSET_SORT_PROPERTIES)).limit(limit).scroll(position));
+    }
+
+    /**
+     * Scroll maintenance requests by status by keyset
+     */
+    default Window<MaintenanceRequest> scrollByStatus(RequestStatus status, KeysetScrollPosition position,
+                                                      Sort sort, int limit) {
+        return findBy(MaintenanceRequestSpecifications.byStatus(status),
+                q -> q.sortBy(KeysetSupport.stable(sort, KEYSET_SORT_PROPERTIES)).limit(limit).scroll(position));
+    }
+
+    /**
+     * Find maintenance requests with multiple filters; the technician is matched against
+     * the assignee ignoring case, and null criteria are ignored
+     */
+    default Page<MaintenanceRequest> findWithFilters(Long propertyId, RequestStatus status, Priority priority,
+                                                     String assignedTechnician, Pageable pageable) {
+        return findAll(MaintenanceRequestSpecifications.withFilters(propertyId, status, priority, assignedTechnician),
+                pageable);
+    }
+
+    /**
+     * Scroll maintenance requests matching the filter criteria by keyset
+     */
+    default Window<MaintenanceRequest> scrollWithFilters(Long propertyId, RequestStatus status, Priority priority,
+                                                         String assignedTechnician, KeysetScrollPosition position,
+                                                         Sort sort, int limit) {
+        return findBy(MaintenanceRequestSpecifications.withFilters(propertyId, status, priority, assignedTechnician),
+                q -> q.sortBy(KeysetSupport.stable(sort, KEYSET_SORT_PROPERTIES)).limit(limit).scroll(position));
+    }
+
+    /**
+     * Get pending and open urgent request counts in a single scan for dashboard KPIs
+     */
+    @Query("SELECT " +
+            "COALESCE(SUM(CASE WHEN m.status = :pending THEN 1 ELSE 0 END), 0) as pendingRequests, " +
+            "COALESCE(SUM(CASE WHEN m.priority = :urgent AND m.status NOT IN :closed THEN 1 ELSE 0 END), 0) as urgentOpenRequests " +
+            "FROM MaintenanceRequest m")
+    MaintenanceCounts getMaintenanceCounts(@Param("pending") RequestStatus pending,
+                                           @Param("urgent") Priority urgent,
+                                           @Param("closed") Collection<RequestStatus> closed);
+
+    /**
+     * Get {year, month, cost} since the given time, using actual cost where known and the estimate otherwise
+     */
+    @Query("SELECT EXTRACT(YEAR FROM m.createdAt), EXTRACT(MONTH FROM m.createdAt), " +
+            "COALESCE(SUM(COALESCE(m.actualCost, m.estimatedCost)), 0) " +
+            "FROM MaintenanceRequest m WHERE m.createdAt >= :since " +
+            "GROUP BY EXTRACT(YEAR FROM m.createdAt), EXTRACT(MONTH FROM m.createdAt)")
+    List<Object[]> getMaintenanceCostByMonth(@Param("since") LocalDateTime since);
+
+    /**
+     * Get {property id, year, month, cost} for requests created in [from, to),
+     * using actual cost where known and the estimate otherwise
+     */
+    @Query("SELECT m.property.id, EXTRACT(YEAR FROM m.createdAt), EXTRACT(MONTH FROM m.createdAt), " +
+            "COALESCE(SUM(COALESCE(m.actualCost, m.estimatedCost)), 0) " +
+            "FROM MaintenanceRequest m WHERE m.createdAt >= :from AND m.createdAt < :to " +
+            "GROUP BY m.property.id, EXTRACT(YEAR FROM m.createdAt), EXTRACT(MONTH FROM m.createdAt)")
+    List<Object[]> getMaintenanceCostByPropertyAndMonth(@Param("from") LocalDateTime from,
+                                                        @Param("to") LocalDateTime to);
+
+    /**
+     * Get {id, property id, category, priority, status, assigned to, scheduled date, created at}
+     * of requests in the given statuses (for the dispatch engine)
+     */
+    @Query("SELECT m.id, m.property.id, m.category, m.priority, m.status, m.assignedTo, m.scheduledDate, m.createdAt " +
+            "FROM MaintenanceRequest m WHERE m.status IN :statuses")
+    List<Object[]> findDispatchRows(@Param("statuses") Collection<RequestStatus> statuses);
+
+    /**
+     * Assign requests to a technician and move them to the given status
+     */
+    @Modifying
+    @Query("UPDATE MaintenanceRequest m SET m.assignedTo = :technician, m.status = :status, m.updatedAt = :now " +
+            "WHERE m.id IN :ids")
+    int assignAll(@Param("ids") Collection<Long> ids,
+                  @Param("technician") String technician,
+                  @Param("status") RequestStatus status,
+                  @Param("now") LocalDateTime now);
+
+    /**
+     * Mark requests completed by a technician
+     */
+    @Modifying
+    @Query("UPDATE MaintenanceRequest m SET m.assignedTo = :technician, m.status = :status, " +
+            "m.completedDate = :now, m.updatedAt = :now WHERE m.id IN :ids")
+    int completeAll(@Param("ids") Collection<Long> ids,
+                    @Param("technician") String technician,
+                    @Param("status") RequestStatus status,
+                    @Param("now") LocalDateTime now);
+
+    /**
+     * Custom projection interface for dashboard maintenance counts
+     */
+    interface MaintenanceCounts {
+        Long getPendingRequests();
+        Long getUrgentOpenRequests();
+    }
+}
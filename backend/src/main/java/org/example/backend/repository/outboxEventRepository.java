@@ -0,0 +1,37 @@
+package org.example.backend.repository;
+
+import org.example.backend.entity.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface outboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Find events not yet published, oldest first
+     */
+    @Query("SELECT o FROM OutboxEvent o WHERE o.publishedAt IS NULL ORDER BY o.id")
+    List<OutboxEvent> findUnpublished(Pageable pageable);
+
+    /**
+     * Mark events as published
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent o SET o.publishedAt = :now WHERE o.id IN :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * Delete events published before the cutoff
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxEvent o WHERE o.publishedAt < :cutoff")
+    int deletePublishedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
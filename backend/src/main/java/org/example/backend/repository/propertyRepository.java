@@ -1,16 +1,29 @@
 package org.example.backend.repository;
 
+import org.example.backend.dto.propertyRowDTO;
 import org.example.backend.entity.Property;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Property entity operations.
@@ -19,11 +32,33 @@ import java.util.Optional;
  * for dashboard analytics and filtering capabilities.
  */
 @Repository
-public interface propertyRepository extends JpaRepository<Property, Long> {
+public interface propertyRepository extends JpaRepository<Property, Long>, JpaSpecificationExecutor<Property>, PropertyVersionRepository {
 
     /**
-     * Find properties by occupancy rate range
+     * Properties the scroll methods accept as sort keys, all NOT NULL (see {@link KeysetSupport})
      */
+    Set<String> KEYSET_SORT_PROPERTIES = Set.of("id", "name", "address");
+
+    /**
+     * Constructor expression selecting a propertyRowDTO instead of a managed entity
+     */
+    String PROPERTY_ROW_SELECT = "SELECT new org.example.backend.dto.propertyRowDTO(" +
+            "p.id, p.name, p.address, p.propertyType, p.totalUnits, p.occupiedUnits, p.occupancyRate, " +
+            "p.rentalIncome, p.assetValue, p.esgScore, p.squareFootage, p.yearBuilt, " +
+            "p.latitude, p.longitude, p.createdAt, p.updatedAt) FROM Property p ";
+
+    /**
+     * Query cache region for the range finders; evicted explicitly on property writes
+     */
+    String PROPERTY_RANGE_QUERY_REGION = "property-range-queries";
+
+    /**
+     * Find properties by occupancy rate range (query cached)
+     */
+    @QueryHints(value = {
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = PROPERTY_RANGE_QUERY_REGION)
+    }, forCounting = true)
     Page<Property> findByOccupancyRateBetween(
             BigDecimal minOccupancy,
             BigDecimal maxOccupancy,
@@ -31,14 +66,25 @@ public interface propertyRepository extends JpaRepository<Property, Long> {
     );
 
     /**
-     * Find properties by ESG score range
+     * Find properties by ESG score range (query cached)
      */
+    @QueryHints(value = {
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = PROPERTY_RANGE_QUERY_REGION)
+    }, forCounting = true)
     Page<Property> findByEsgScoreBetween(
             BigDecimal minEsgScore,
             BigDecimal maxEsgScore,
             Pageable pageable
     );
 
+    /**
+     * Find a property with its tenants fetched in the same query
+     */
+    @EntityGraph("Property.withTenants")
+    @Query("SELECT p FROM Property p WHERE p.id = :id")
+    Optional<Property> findWithTenantsById(@Param("id") Long id);
+
     /**
      * Find properties by property type
      */
@@ -71,6 +117,23 @@ public interface propertyRepository extends JpaRepository<Property, Long> {
             "FROM Property p")
     PortfolioSummary getPortfolioSummary();
 
+    /**
+     * Get the raw portfolio sums behind the summary, keeping the non-null counts
+     * so averages can be maintained incrementally
+     */
+    @Query("SELECT " +
+            "COUNT(p) as totalProperties, " +
+            "COALESCE(SUM(p.totalUnits), 0) as totalUnits, " +
+            "COALESCE(SUM(p.occupiedUnits), 0) as occupiedUnits, " +
+            "COALESCE(SUM(p.occupancyRate), 0) as occupancyRateSum, " +
+            "COUNT(p.occupancyRate) as occupancyRateCount, " +
+            "COALESCE(SUM(p.rentalIncome), 0) as totalRentalIncome, " +
+            "COALESCE(SUM(p.assetValue), 0) as totalAssetValue, " +
+            "COALESCE(SUM(p.esgScore), 0) as esgScoreSum, " +
+            "COUNT(p.esgScore) as esgScoreCount " +
+            "FROM Property p")
+    PortfolioTotals getPortfolioTotals();
+
     /**
      * Get top performing properties by rental income per unit
      */
@@ -103,6 +166,79 @@ public interface propertyRepository extends JpaRepository<Property, Long> {
             @Param("maxLng") BigDecimal maxLongitude
     );
 
+    // Read-only row projections of the list queries above; no entities are hydrated
+
+    /**
+     * Get top performing property rows by rental income per unit
+     */
+    @Query(PROPERTY_ROW_SELECT + "WHERE p.totalUnits > 0 ORDER BY (p.rentalIncome / p.totalUnits) DESC")
+    List<propertyRowDTO> findTopPerformingRows(Pageable pageable);
+
+    /**
+     * Get property rows with occupancy below threshold
+     */
+    @Query(PROPERTY_ROW_SELECT + "WHERE p.occupancyRate < :threshold")
+    List<propertyRowDTO> findLowOccupancyRows(@Param("threshold") BigDecimal threshold);
+
+    /**
+     * Get property rows requiring ESG improvement (below threshold or unscored)
+     */
+    @Query(PROPERTY_ROW_SELECT + "WHERE p.esgScore < :threshold OR p.esgScore IS NULL")
+    List<propertyRowDTO> findRowsNeedingEsgImprovement(@Param("threshold") BigDecimal threshold);
+
+    /**
+     * Get property rows with rental income above threshold
+     */
+    @Query(PROPERTY_ROW_SELECT + "WHERE p.rentalIncome > :threshold")
+    List<propertyRowDTO> findRowsByRentalIncomeGreaterThan(@Param("threshold") BigDecimal threshold);
+
+    /**
+     * Get id and coordinates of every geolocated property (for the spatial index)
+     */
+    @Query("SELECT p.id, p.latitude, p.longitude FROM Property p " +
+            "WHERE p.latitude IS NOT NULL AND p.longitude IS NOT NULL")
+    List<Object[]> findAllCoordinates();
+
+    /**
+     * Get id and coordinates of the properties within geographic bounds (for map clusters
+     * while the spatial index is still being built)
+     */
+    @Query("SELECT p.id, p.latitude, p.longitude FROM Property p WHERE " +
+            "p.latitude BETWEEN :minLat AND :maxLat AND " +
+            "p.longitude BETWEEN :minLng AND :maxLng")
+    List<Object[]> findCoordinatesInBounds(
+            @Param("minLat") BigDecimal minLatitude,
+            @Param("maxLat") BigDecimal maxLatitude,
+            @Param("minLng") BigDecimal minLongitude,
+            @Param("maxLng") BigDecimal maxLongitude
+    );
+
+    /**
+     * Get id, type, occupancy and ESG score of every property (for the analytics snapshot)
+     */
+    @Query("SELECT p.id, p.propertyType, p.occupancyRate, p.esgScore FROM Property p")
+    List<Object[]> findAllAnalyticsRows();
+
+    /**
+     * Get id, name and address of every property (for the search index)
+     */
+    @Query("SELECT p.id, p.name, p.address FROM Property p")
+    List<Object[]> findAllSearchFields();
+
+    /**
+     * Get lowest occupancy properties as read-only rows
+     */
+    @Query(PROPERTY_ROW_SELECT + "WHERE p.occupancyRate IS NOT NULL ORDER BY p.occupancyRate ASC, p.id ASC")
+    List<propertyRowDTO> findUnderperformingRows(Pageable pageable);
+
+    /**
+     * Get {property type, average ESG score, properties at or above the green threshold} per type
+     */
+    @Query("SELECT p.propertyType, AVG(p.esgScore), " +
+            "COALESCE(SUM(CASE WHEN p.esgScore >= :greenThreshold THEN 1 ELSE 0 END), 0) " +
+            "FROM Property p GROUP BY p.propertyType")
+    List<Object[]> getEsgByPropertyType(@Param("greenThreshold") BigDecimal greenThreshold);
+
     /**
      * Custom projection interface for portfolio summary
      */
@@ -117,20 +253,66 @@ public interface propertyRepository extends JpaRepository<Property, Long> {
     }
 
     /**
-     * Find properties by multiple filter criteria
+     * Custom projection interface for the raw portfolio sums
      */
-    @Query("SELECT p FROM Property p WHERE " +
-            "(:propertyType IS NULL OR LOWER(p.propertyType) = LOWER(:propertyType)) AND " +
-            "(:minOccupancy IS NULL OR p.occupancyRate >= :minOccupancy) AND " +
-            "(:maxOccupancy IS NULL OR p.occupancyRate <= :maxOccupancy) AND " +
-            "(:minEsgScore IS NULL OR p.esgScore >= :minEsgScore) AND " +
-            "(:maxEsgScore IS NULL OR p.esgScore <= :maxEsgScore)")
-    Page<Property> findWithFilters(
-            @Param("propertyType") String propertyType,
-            @Param("minOccupancy") BigDecimal minOccupancy,
-            @Param("maxOccupancy") BigDecimal maxOccupancy,
-            @Param("minEsgScore") BigDecimal minEsgScore,
-            @Param("maxEsgScore") BigDecimal maxEsgScore,
-            Pageable pageable
-    );
-}
\ No newline at end of file
+    interface PortfolioTotals {
+        Long getTotalProperties();
+        Long getTotalUnits();
+        Long getOccupiedUnits();
+        BigDecimal getOccupancyRateSum();
+        Long getOccupancyRateCount();
+        BigDecimal getTotalRentalIncome();
+        BigDecimal getTotalAssetValue();
+        BigDecimal getEsgScoreSum();
+        Long getEsgScoreCount();
+    }
+
+    /**
+     * Stream all properties through a forward-only cursor for export.
+     * Must be consumed inside a transaction and closed by the caller; rows bypass the
+     * second-level cache, so an export does not push the working set out of it.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("SELECT p FROM Property p ORDER BY p.id")
+    Stream<Property> streamAllForExport();
+
+    /**
+     * Scroll all properties by keyset
+     */
+    default Window<Property> scrollAll(KeysetScrollPosition position, Sort sort, int limit) {
+        return findBy(Specification.allOf(), q -> q.sortBy(KeysetSupport.stable(sort, KEYSET_SORT_PROPERTIES)).limit(limit).scroll(position));
+    }
+
+    /**
+     * Find properties by multiple filter criteria; null criteria are ignored
+     */
+    default Page<Property> findWithFilters(String propertyType,
+                                           BigDecimal minOccupancy, BigDecimal maxOccupancy,
+                                           BigDecimal minEsgScore, BigDecimal maxEsgScore,
+                                           Pageable pageable) {
+        return findAll(PropertySpecifications.withFilters(propertyType, minOccupancy, maxOccupancy,
+                minEsgScore, maxEsgScore), pageable);
+    }
+
+    /**
+     * Scroll properties matching the filter criteria by keyset
+     */
+    default Window<Property> scrollWithFilters(String propertyType,
+                                               BigDecimal minOccupancy, BigDecimal maxOccupancy,
+                                               BigDecimal minEsgScore, BigDecimal maxEsgScore,
+                                               KeysetScrollPosition position, Sort sort, int limit) {
+        return findBy(PropertySpecifications.withFilters(propertyType, minOccupancy, maxOccupancy,
+                        minEsgScore, maxEsgScore),
+                q -> q.sortBy(KeysetSupport.stable(sort, KEYSET_SORT_PROPERTIES)).limit(limit).scroll(position));
+    }
+
+    /**
+     * Find which of the given property ids exist
+     */
+    @Query("SELECT p.id FROM Property p WHERE p.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+}
@@ -1,28 +1,50 @@
 package org.example.backend.repository;
 
 import org.example.backend.entity.Tenant;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
-public interface tenantRepository extends JpaRepository<Tenant, Long> {
+public interface tenantRepository extends JpaRepository<Tenant, Long>, JpaSpecificationExecutor<Tenant>, TenantVersionRepository {
+
+    /**
+     * Properties the scroll methods accept as sort keys, all NOT NULL (see {@link KeysetSupport})
+     */
+    Set<String> KEYSET_SORT_PROPERTIES = Set.of("id", "name", "email");
 
     /**
      * Find tenant by email (for unique constraint validation)
      */
     Optional<Tenant> findByEmail(String email);
 
+    /**
+     * Count tenants with the given status
+     */
+    long countByStatus(Tenant.TenantStatus status);
+
     /**
      * Find tenants by property ID
      */
+    @EntityGraph("Tenant.withProperty")
     Page<Tenant> findByPropertyId(Long propertyId, Pageable pageable);
 
     /**
@@ -33,6 +55,12 @@ public interface tenantRepository extends JpaRepository<Tenant, Long> {
             "LOWER(t.email) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
     Page<Tenant> searchByNameOrEmail(@Param("searchTerm") String searchTerm, Pageable pageable);
 
+    /**
+     * Get id, name and email of every tenant (for the search index)
+     */
+    @Query("SELECT t.id, t.name, t.email FROM Tenant t")
+    List<Object[]> findAllSearchFields();
+
     /**
      * Find tenants with lease expiring within specified days
      */
@@ -49,16 +77,14 @@ public interface tenantRepository extends JpaRepository<Tenant, Long> {
     List<Tenant> findActiveTenantsAsOf(@Param("currentDate") LocalDate currentDate);
 
     /**
-     * Find tenants by lease status
+     * Find tenants by lease status (ACTIVE, EXPIRED or FUTURE as of today); any other status matches none
      */
-    @Query("SELECT t FROM Tenant t WHERE " +
-            "CASE " +
-            "  WHEN :leaseStatus = 'ACTIVE' THEN (t.leaseStart <= CURRENT_DATE AND t.leaseEnd >= CURRENT_DATE) " +
-            "  WHEN :leaseStatus = 'EXPIRED' THEN (t.leaseEnd < CURRENT_DATE) " +
-            "  WHEN :leaseStatus = 'FUTURE' THEN (t.leaseStart > CURRENT_DATE) " +
-            "  ELSE false " +
-            "END = true")
-    Page<Tenant> findByLeaseStatus(@Param("leaseStatus") String leaseStatus, Pageable pageable);
+    default Page<Tenant> findByLeaseStatus(String leaseStatus, Pageable pageable) {
+        if (!LeaseSpecifications.TIMELINE_STATUSES.contains(leaseStatus)) {
+            return Page.empty(pageable);
+        }
+        return findWithFilters(null, leaseStatus, pageable);
+    }
 
     /**
      * Get tenant count by property
@@ -87,20 +113,52 @@ public interface tenantRepository extends JpaRepository<Tenant, Long> {
     Long countActiveTenantsForProperty(@Param("propertyId") Long propertyId);
 
     /**
-     * Find tenants for tenant intelligence analytics
+     * Stream all tenants through a forward-only cursor for export.
+     * Must be consumed inside a transaction and closed by the caller; rows bypass the
+     * second-level cache, so an export does not push the working set out of it.
      */
-    @Query("SELECT t FROM Tenant t WHERE " +
-            "(:propertyId IS NULL OR t.property.id = :propertyId) AND " +
-            "(:leaseStatus IS NULL OR " +
-            "  CASE " +
-            "    WHEN :leaseStatus = 'ACTIVE' THEN (t.leaseStart <= CURRENT_DATE AND t.leaseEnd >= CURRENT_DATE) " +
-            "    WHEN :leaseStatus = 'EXPIRED' THEN (t.leaseEnd < CURRENT_DATE) " +
-            "    WHEN :leaseStatus = 'FUTURE' THEN (t.leaseStart > CURRENT_DATE) " +
-            "    ELSE true " +
-            "  END = true)")
-    Page<Tenant> findWithFilters(
-            @Param("propertyId") Long propertyId,
-            @Param("leaseStatus") String leaseStatus,
-            Pageable pageable
-    );
-}
\ No newline at end of file
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("SELECT t FROM Tenant t ORDER BY t.id")
+    Stream<Tenant> streamAllForExport();
+
+    /**
+     * Scroll tenants of a property by keyset
+     */
+    default Window<Tenant> scrollByPropertyId(Long propertyId, KeysetScrollPosition position, Sort sort, int limit) {
+        return findBy(TenantSpecifications.byProperty(propertyId),
+                q -> q.sortBy(KeysetSupport.stable(sort, KEYSET_SORT_PROPERTIES)).limit(limit).scroll(position));
+    }
+
+    /**
+     * Find tenants for tenant intelligence analytics; leaseStatus is ACTIVE, EXPIRED or
+     * FUTURE as of today, or null for any, and any other value is rejected
+     */
+    default Page<Tenant> findWithFilters(Long propertyId, String leaseStatus, Pageable pageable) {
+        return findAll(TenantSpecifications.withFilters(propertyId, leaseStatus, LocalDate.now()), pageable);
+    }
+
+    /**
+     * Scroll tenants matching the filter criteria by keyset
+     */
+    default Window<Tenant> scrollWithFilters(Long propertyId, String leaseStatus,
+                                             KeysetScrollPosition position, Sort sort, int limit) {
+        return findBy(TenantSpecifications.withFilters(propertyId, leaseStatus, LocalDate.now()),
+                q -> q.sortBy(KeysetSupport.stable(sort, KEYSET_SORT_PROPERTIES)).limit(limit).scroll(position));
+    }
+
+    /**
+     * Find {id, property id} for each of the given tenant ids that exist
+     */
+    @Query("SELECT t.id, t.property.id FROM Tenant t WHERE t.id IN :ids")
+    List<Object[]> findPropertyIdsByTenantIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Find which of the given emails are already taken
+     */
+    @Query("SELECT t.email FROM Tenant t WHERE t.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+}
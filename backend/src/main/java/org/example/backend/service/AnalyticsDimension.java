@@ -0,0 +1,26 @@
+package org.example.backend.service;
+
+/**
+ * Dimensions the portfolio analytics snapshot can group by.
+ */
+public enum AnalyticsDimension {
+    /**
+     * One group for the whole selection
+     */
+    NONE,
+
+    /**
+     * Property type as stored, e.g. Residential or Commercial
+     */
+    PROPERTY_TYPE,
+
+    /**
+     * Occupancy rate in ten-point bands, 0-10 up to 90-100
+     */
+    OCCUPANCY_BAND,
+
+    /**
+     * ESG score in ten-point bands, 0-10 up to 90-100
+     */
+    ESG_BAND
+}
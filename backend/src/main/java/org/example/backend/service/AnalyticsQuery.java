@@ -0,0 +1,25 @@
+package org.example.backend.service;
+
+import java.util.Set;
+
+/**
+ * A filter and group-by over the {@link PortfolioAnalytics} snapshot.
+ *
+ * @param propertyTypes types to keep, matched ignoring case; empty keeps every type
+ * @param minOccupancy  lowest occupancy rate to keep (inclusive), or null for no bound
+ * @param maxOccupancy  highest occupancy rate to keep (inclusive), or null for no bound
+ * @param minEsg        lowest ESG score to keep (inclusive), or null for no bound
+ * @param maxEsg        highest ESG score to keep (inclusive), or null for no bound
+ * @param groupBy       dimension to aggregate by
+ */
+public record AnalyticsQuery(Set<String> propertyTypes, Double minOccupancy, Double maxOccupancy,
+                             Double minEsg, Double maxEsg, AnalyticsDimension groupBy) {
+
+    boolean filtersOccupancy() {
+        return minOccupancy != null || maxOccupancy != null;
+    }
+
+    boolean filtersEsg() {
+        return minEsg != null || maxEsg != null;
+    }
+}
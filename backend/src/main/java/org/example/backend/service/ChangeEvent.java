@@ -0,0 +1,40 @@
+package org.example.backend.service;
+
+import org.example.backend.entity.OutboxEvent.AggregateType;
+import org.example.backend.entity.OutboxEvent.ChangeType;
+
+import java.util.Map;
+
+/**
+ * A committed entity change as delivered to {@link ChangeEventSubscriber}s.
+ *
+ * @param sequence      outbox event id; increases in commit order for a given entity
+ * @param aggregateType kind of entity
+ * @param aggregateId   entity id
+ * @param changeType    created, updated or deleted
+ * @param state         the entity's basic fields after the change (before it, for deletes),
+ *                      with associations as "{name}Id"
+ */
+public record ChangeEvent(long sequence, AggregateType aggregateType, Long aggregateId,
+                          ChangeType changeType, Map<String, Object> state) {
+
+    public boolean isDelete() {
+        return changeType == ChangeType.DELETED;
+    }
+
+    /**
+     * Get a field as text, or null when absent
+     */
+    public String text(String field) {
+        Object value = state.get(field);
+        return value == null ? null : value.toString();
+    }
+
+    /**
+     * Get a numeric field, or null when absent
+     */
+    public Double number(String field) {
+        Object value = state.get(field);
+        return value instanceof Number number ? number.doubleValue() : null;
+    }
+}
@@ -0,0 +1,145 @@
+package org.example.backend.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * In-process, batched, back-pressured bus delivering outbox changes to subscribers.
+ *
+ * Each subscriber has its own bounded queue of batches and its own delivery thread, so a
+ * slow subscriber never delays the others and always sees changes in outbox order. Batches
+ * that queue up behind a slow call are merged into one call. If a merged call throws, its
+ * batches are retried one at a time with exponential back-off, and nothing new is taken
+ * from the queue meanwhile. A batch that still fails after {@code outbox.bus.max-attempts}
+ * is logged with its outbox sequences and skipped, for the subscriber's own reconciliation
+ * or rebuild to repair. When a subscriber's queue is full,
+ * {@link #publish} blocks, which holds back the outbox poller until it catches up.
+ */
+@Component
+@Slf4j
+public class ChangeEventBus {
+
+    private final List<Lane> lanes = new ArrayList<>();
+
+    public ChangeEventBus(List<ChangeEventSubscriber> subscribers,
+                         @Value("${outbox.bus.queue-capacity:64}") int queueCapacity,
+                         @Value("${outbox.bus.retry-delay:PT1S}") Duration retryDelay,
+                         @Value("${outbox.bus.max-retry-delay:PT1M}") Duration maxRetryDelay,
+                         @Value("${outbox.bus.max-attempts:10}") int maxAttempts) {
+        for (ChangeEventSubscriber subscriber : subscribers) {
+            lanes.add(new Lane(subscriber, queueCapacity, retryDelay.toMillis(), maxRetryDelay.toMillis(), maxAttempts));
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        lanes.forEach(lane -> lane.thread.start());
+        log.info("Change event bus started with {} subscribers", lanes.size());
+    }
+
+    @PreDestroy
+    public void stop() {
+        lanes.forEach(lane -> lane.thread.interrupt());
+    }
+
+    /**
+     * Hand a batch to every subscriber interested in any of its changes, blocking while a queue is full
+     */
+    public void publish(List<ChangeEvent> batch) throws InterruptedException {
+        for (Lane lane : lanes) {
+            List<ChangeEvent> wanted = batch.stream()
+                    .filter(change -> lane.subscriber.subscribedTypes().contains(change.aggregateType()))
+                    .toList();
+            if (!wanted.isEmpty()) {
+                lane.queue.put(wanted);
+            }
+        }
+    }
+
+    private static final class Lane implements Runnable {
+        private final ChangeEventSubscriber subscriber;
+        private final BlockingQueue<List<ChangeEvent>> queue;
+        private final Thread thread;
+        private final long retryDelayMillis;
+        private final long maxRetryDelayMillis;
+        private final int maxAttempts;
+
+        private Lane(ChangeEventSubscriber subscriber, int queueCapacity,
+                     long retryDelayMillis, long maxRetryDelayMillis, int maxAttempts) {
+            this.subscriber = subscriber;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+            this.retryDelayMillis = retryDelayMillis;
+            this.maxRetryDelayMillis = maxRetryDelayMillis;
+            this.maxAttempts = maxAttempts;
+            this.thread = new Thread(this, "change-events-" + ClassUtils.getUserClass(subscriber).getSimpleName());
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            List<List<ChangeEvent>> batches = new ArrayList<>();
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    batches.add(queue.take());
+                    queue.drainTo(batches);
+                    if (batches.size() == 1) {
+                        deliver(batches.get(0));
+                    } else if (!attempt(batches.stream().flatMap(List::stream).toList())) {
+                        // One batch at a time, so a batch that keeps failing is skipped on its own
+                        for (List<ChangeEvent> batch : batches) {
+                            deliver(batch);
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    return;
+                }
+                batches.clear();
+            }
+        }
+
+        private boolean attempt(List<ChangeEvent> changes) {
+            try {
+                subscriber.onChanges(changes);
+                return true;
+            } catch (RuntimeException e) {
+                log.warn("Change event subscriber {} failed on {} merged changes, retrying batch by batch",
+                        thread.getName(), changes.size(), e);
+                return false;
+            }
+        }
+
+        /**
+         * Deliver one batch, retrying with back-off while the queue fills up behind it
+         */
+        private void deliver(List<ChangeEvent> batch) throws InterruptedException {
+            long delay = retryDelayMillis;
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    subscriber.onChanges(batch);
+                    return;
+                } catch (RuntimeException e) {
+                    if (attempt >= maxAttempts) {
+                        log.error("Change event subscriber {} skipped {} changes after {} attempts, outbox sequences {}",
+                                thread.getName(), batch.size(), attempt,
+                                batch.stream().map(ChangeEvent::sequence).toList(), e);
+                        return;
+                    }
+                    log.error("Change event subscriber {} failed on {} changes (attempt {} of {}), retrying in {} ms",
+                            thread.getName(), batch.size(), attempt, maxAttempts, delay, e);
+                    Thread.sleep(delay);
+                    delay = Math.min(delay * 2, maxRetryDelayMillis);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package org.example.backend.service;
+
+import org.example.backend.entity.OutboxEvent.AggregateType;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Receives committed entity changes from the outbox through the {@link ChangeEventBus}.
+ *
+ * Every bean implementing this interface is subscribed. Batches arrive in outbox order on
+ * a thread dedicated to the subscriber. An event may be delivered more than once, so
+ * handling must be idempotent.
+ */
+public interface ChangeEventSubscriber {
+
+    /**
+     * Kinds of entity this subscriber wants changes for
+     */
+    Set<AggregateType> subscribedTypes();
+
+    /**
+     * Apply a batch of changes, oldest first
+     */
+    void onChanges(List<ChangeEvent> changes);
+}
@@ -0,0 +1,128 @@
+package org.example.backend.service;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Encodes keyset scroll positions as opaque, URL-safe continuation tokens.
+ *
+ * A token carries the sort it was issued for alongside the typed key values of the
+ * last row, so a token cannot be replayed against a different ordering.
+ */
+public final class ContinuationTokens {
+
+    private static final char FIELD_SEPARATOR = '\u001f';
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private ContinuationTokens() {
+    }
+
+    /**
+     * Encode the position of the last row of a window
+     */
+    public static String encode(Sort sort, ScrollPosition position) {
+        if (!(position instanceof KeysetScrollPosition keyset)) {
+            throw new IllegalArgumentException("Only keyset positions can be encoded");
+        }
+        StringBuilder token = new StringBuilder(signature(sort));
+        for (Map.Entry<String, Object> key : keyset.getKeys().entrySet()) {
+            Object value = key.getValue();
+            token.append(FIELD_SEPARATOR).append(key.getKey())
+                    .append(FIELD_SEPARATOR).append(typeTag(value))
+                    .append(FIELD_SEPARATOR).append(value == null ? "" : value.toString());
+        }
+        return ENCODER.encodeToString(token.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Token for the window following the given one, or null if it is the last
+     */
+    public static String next(Sort sort, Window<?> window) {
+        return window.hasNext() && !window.isEmpty() ? encode(sort, window.positionAt(window.size() - 1)) : null;
+    }
+
+    /**
+     * Decode a token issued for the given sort; a null token yields the initial position
+     */
+    public static KeysetScrollPosition decode(Sort sort, String token) {
+        if (token == null || token.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        String[] parts;
+        try {
+            parts = new String(DECODER.decode(token), StandardCharsets.UTF_8)
+                    .split(String.valueOf(FIELD_SEPARATOR), -1);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed continuation token", e);
+        }
+        if (!parts[0].equals(signature(sort)) || (parts.length - 1) % 3 != 0) {
+            throw new IllegalArgumentException("Continuation token does not match the requested sort");
+        }
+        Map<String, Object> keys = new LinkedHashMap<>();
+        for (int i = 1; i < parts.length; i += 3) {
+            keys.put(parts[i], parseValue(parts[i + 1], parts[i + 2]));
+        }
+        return ScrollPosition.forward(keys);
+    }
+
+    private static String signature(Sort sort) {
+        StringBuilder signature = new StringBuilder();
+        for (Sort.Order order : sort) {
+            signature.append(order.getProperty()).append(':').append(order.getDirection()).append(';');
+        }
+        return signature.toString();
+    }
+
+    private static String typeTag(Object value) {
+        if (value == null) {
+            return "N";
+        }
+        if (value instanceof Long) {
+            return "L";
+        }
+        if (value instanceof Integer) {
+            return "I";
+        }
+        if (value instanceof BigDecimal) {
+            return "D";
+        }
+        if (value instanceof LocalDate) {
+            return "LD";
+        }
+        if (value instanceof LocalDateTime) {
+            return "LDT";
+        }
+        if (value instanceof String) {
+            return "S";
+        }
+        throw new IllegalArgumentException("Unsupported keyset value type: " + value.getClass().getName());
+    }
+
+    private static Object parseValue(String tag, String value) {
+        try {
+            return switch (tag) {
+                case "N" -> null;
+                case "L" -> Long.valueOf(value);
+                case "I" -> Integer.valueOf(value);
+                case "D" -> new BigDecimal(value);
+                case "LD" -> LocalDate.parse(value);
+                case "LDT" -> LocalDateTime.parse(value);
+                case "S" -> value;
+                default -> throw new IllegalArgumentException("Unknown keyset value type: " + tag);
+            };
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Malformed continuation token", e);
+        }
+    }
+}
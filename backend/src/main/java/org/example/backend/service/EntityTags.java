@@ -0,0 +1,81 @@
+package org.example.backend.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.backend.repository.QueryVersion;
+import org.example.backend.repository.propertyRepository;
+import org.example.backend.repository.tenantRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Entity tags for conditional GETs of properties and tenants.
+ *
+ * A tag is built from the {@link QueryVersion} of what the response would contain, read by
+ * one aggregate query over the same filter shape, so a client whose If-None-Match still
+ * matches is answered 304 before any page is loaded or DTO serialized. The version sums the
+ * rows' write counters, which only become visible as their transaction commits, so an update
+ * that commits after a later-stamped one still changes the tag. Hashing the rendered
+ * body instead, as ShallowEtagHeaderFilter does, would only save bandwidth.
+ *
+ * Tags are weak: equal tags mean the same rows, not byte-identical JSON. Take the tag in the
+ * transaction that loads the body, before loading it: the two then come from the same data
+ * source, and a change in between can only make the tag stale, never the body.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class EntityTags {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final propertyRepository propertyRepository;
+    private final tenantRepository tenantRepository;
+
+    /**
+     * Tag of one property
+     */
+    public String property(Long id) {
+        return tag("property", propertyRepository.versionById(id));
+    }
+
+    /**
+     * Tag of the property filter's result, covering every page
+     */
+    public String properties(String propertyType,
+                             BigDecimal minOccupancy, BigDecimal maxOccupancy,
+                             BigDecimal minEsgScore, BigDecimal maxEsgScore) {
+        return tag("properties", propertyRepository.versionWithFilters(propertyType,
+                minOccupancy, maxOccupancy, minEsgScore, maxEsgScore));
+    }
+
+    /**
+     * Tag of one tenant; changes daily as well, with the days until its lease expires
+     */
+    public String tenant(Long id) {
+        return tag("tenant", tenantRepository.versionById(id), LocalDate.now());
+    }
+
+    /**
+     * Tag of the tenant filter's result, covering every page; changes daily as well
+     */
+    public String tenants(Long propertyId, String leaseStatus) {
+        return tag("tenants", tenantRepository.versionWithFilters(propertyId, leaseStatus), LocalDate.now());
+    }
+
+    private static String tag(String kind, QueryVersion version, Object... qualifiers) {
+        long modified = version.lastModified() == null ? 0 : ChronoUnit.MICROS.between(EPOCH, version.lastModified());
+        StringBuilder tag = new StringBuilder("W/\"").append(kind)
+                .append('-').append(version.count())
+                .append('-').append(Long.toString(version.revision(), Character.MAX_RADIX))
+                .append('-').append(Long.toString(modified, Character.MAX_RADIX));
+        for (Object qualifier : qualifiers) {
+            tag.append('-').append(qualifier);
+        }
+        return tag.append('"').toString();
+    }
+}
@@ -0,0 +1,268 @@
+package org.example.backend.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.entity.Lease;
+import org.example.backend.entity.MaintenanceRequest;
+import org.example.backend.entity.Property;
+import org.example.backend.entity.Tenant;
+import org.example.backend.repository.leaseRepository;
+import org.example.backend.repository.maintanenceRequestRepository;
+import org.example.backend.repository.propertyRepository;
+import org.example.backend.repository.tenantRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Service streaming whole tables to an output stream as NDJSON or CSV.
+ *
+ * Rows are read through a forward-only cursor with a fetch size, written one at a time
+ * and detached from the persistence context as they pass, so memory stays constant
+ * regardless of portfolio size.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class ExportService {
+
+    /**
+     * Rows between persistence context clears and output flushes
+     */
+    private static final int FLUSH_INTERVAL = 500;
+
+    private static final List<Column<Property>> PROPERTY_COLUMNS = List.of(
+            new Column<>("id", Property::getId),
+            new Column<>("name", Property::getName),
+            new Column<>("address", Property::getAddress),
+            new Column<>("propertyType", Property::getPropertyType),
+            new Column<>("totalUnits", Property::getTotalUnits),
+            new Column<>("occupiedUnits", Property::getOccupiedUnits),
+            new Column<>("occupancyRate", Property::getOccupancyRate),
+            new Column<>("rentalIncome", Property::getRentalIncome),
+            new Column<>("assetValue", Property::getAssetValue),
+            new Column<>("esgScore", Property::getEsgScore),
+            new Column<>("squareFootage", Property::getSquareFootage),
+            new Column<>("yearBuilt", Property::getYearBuilt),
+            new Column<>("latitude", Property::getLatitude),
+            new Column<>("longitude", Property::getLongitude),
+            new Column<>("createdAt", Property::getCreatedAt),
+            new Column<>("updatedAt", Property::getUpdatedAt));
+
+    private static final List<Column<Tenant>> TENANT_COLUMNS = List.of(
+            new Column<>("id", Tenant::getId),
+            new Column<>("name", Tenant::getName),
+            new Column<>("email", Tenant::getEmail),
+            new Column<>("phone", Tenant::getPhone),
+            new Column<>("leaseStart", Tenant::getLeaseStart),
+            new Column<>("leaseEnd", Tenant::getLeaseEnd),
+            new Column<>("monthlyRent", Tenant::getMonthlyRent),
+            new Column<>("securityDeposit", Tenant::getSecurityDeposit),
+            new Column<>("status", Tenant::getStatus),
+            new Column<>("unitNumber", Tenant::getUnitNumber),
+            new Column<>("paymentScore", Tenant::getPaymentScore),
+            new Column<>("propertyId", t -> t.getProperty().getId()),
+            new Column<>("createdAt", Tenant::getCreatedAt),
+            new Column<>("updatedAt", Tenant::getUpdatedAt));
+
+    private static final List<Column<Lease>> LEASE_COLUMNS = List.of(
+            new Column<>("id", Lease::getId),
+            new Column<>("leaseNumber", Lease::getLeaseNumber),
+            new Column<>("startDate", Lease::getStartDate),
+            new Column<>("endDate", Lease::getEndDate),
+            new Column<>("monthlyRent", Lease::getMonthlyRent),
+            new Column<>("securityDeposit", Lease::getSecurityDeposit),
+            new Column<>("status", Lease::getStatus),
+            new Column<>("leaseType", Lease::getLeaseType),
+            new Column<>("unitNumber", Lease::getUnitNumber),
+            new Column<>("squareFootage", Lease::getSquareFootage),
+            new Column<>("autoRenewal", Lease::getAutoRenewal),
+            new Column<>("tenantId", l -> l.getTenant().getId()),
+            new Column<>("propertyId", l -> l.getProperty().getId()),
+            new Column<>("createdAt", Lease::getCreatedAt),
+            new Column<>("updatedAt", Lease::getUpdatedAt));
+
+    private static final List<Column<MaintenanceRequest>> MAINTENANCE_REQUEST_COLUMNS = List.of(
+            new Column<>("id", MaintenanceRequest::getId),
+            new Column<>("title", MaintenanceRequest::getTitle),
+            new Column<>("description", MaintenanceRequest::getDescription),
+            new Column<>("status", MaintenanceRequest::getStatus),
+            new Column<>("priority", MaintenanceRequest::getPriority),
+            new Column<>("category", MaintenanceRequest::getCategory),
+            new Column<>("unitNumber", MaintenanceRequest::getUnitNumber),
+            new Column<>("assignedTo", MaintenanceRequest::getAssignedTo),
+            new Column<>("estimatedCost", MaintenanceRequest::getEstimatedCost),
+            new Column<>("actualCost", MaintenanceRequest::getActualCost),
+            new Column<>("scheduledDate", MaintenanceRequest::getScheduledDate),
+            new Column<>("completedDate", MaintenanceRequest::getCompletedDate),
+            new Column<>("propertyId", m -> m.getProperty().getId()),
+            new Column<>("createdAt", MaintenanceRequest::getCreatedAt),
+            new Column<>("updatedAt", MaintenanceRequest::getUpdatedAt));
+
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final propertyRepository propertyRepository;
+    private final tenantRepository tenantRepository;
+    private final leaseRepository leaseRepository;
+    private final maintanenceRequestRepository maintenanceRequestRepository;
+
+    /**
+     * Export every property
+     */
+    public long exportProperties(ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<Property> rows = propertyRepository.streamAllForExport()) {
+            return export("properties", rows, PROPERTY_COLUMNS, format, out);
+        }
+    }
+
+    /**
+     * Export every tenant
+     */
+    public long exportTenants(ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<Tenant> rows = tenantRepository.streamAllForExport()) {
+            return export("tenants", rows, TENANT_COLUMNS, format, out);
+        }
+    }
+
+    /**
+     * Export every lease
+     */
+    public long exportLeases(ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<Lease> rows = leaseRepository.streamAllForExport()) {
+            return export("leases", rows, LEASE_COLUMNS, format, out);
+        }
+    }
+
+    /**
+     * Export every maintenance request
+     */
+    public long exportMaintenanceRequests(ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<MaintenanceRequest> rows = maintenanceRequestRepository.streamAllForExport()) {
+            return export("maintenance requests", rows, MAINTENANCE_REQUEST_COLUMNS, format, out);
+        }
+    }
+
+    private <T> long export(String dataset, Stream<T> rows, List<Column<T>> columns,
+                            ExportFormat format, OutputStream out) throws IOException {
+        log.debug("Exporting {} as {}", dataset, format);
+        RowWriter writer = format == ExportFormat.CSV ? new CsvRowWriter(out) : new NdjsonRowWriter(out);
+        writer.start(columns);
+        long count = 0;
+        Iterator<T> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            T row = iterator.next();
+            writer.write(columns, row);
+            entityManager.detach(row);
+            if (++count % FLUSH_INTERVAL == 0) {
+                entityManager.clear();
+                writer.flush();
+            }
+        }
+        writer.flush();
+        log.info("Exported {} {} as {}", count, dataset, format);
+        return count;
+    }
+
+    /**
+     * Named value extractor for one output column
+     */
+    private record Column<T>(String name, Function<T, Object> value) {
+    }
+
+    private interface RowWriter {
+        <T> void start(List<Column<T>> columns) throws IOException;
+
+        <T> void write(List<Column<T>> columns, T row) throws IOException;
+
+        void flush() throws IOException;
+    }
+
+    private final class NdjsonRowWriter implements RowWriter {
+        private final JsonGenerator generator;
+
+        NdjsonRowWriter(OutputStream out) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(out)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        @Override
+        public <T> void start(List<Column<T>> columns) {
+        }
+
+        @Override
+        public <T> void write(List<Column<T>> columns, T row) throws IOException {
+            generator.writeStartObject();
+            for (Column<T> column : columns) {
+                generator.writeFieldName(column.name());
+                generator.writeObject(column.value().apply(row));
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+        }
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+
+        CsvRowWriter(OutputStream out) {
+            this.writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public <T> void start(List<Column<T>> columns) throws IOException {
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(columns.get(i).name());
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public <T> void write(List<Column<T>> columns, T row) throws IOException {
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                Object value = columns.get(i).value().apply(row);
+                if (value != null) {
+                    writer.write(escape(value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString()));
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+
+        private static String escape(String value) {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                    && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.backend.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Fixed-point arithmetic for money, percentages and scores on aggregation paths.
+ *
+ * Values are held as longs in hundredths: money in cents, and percentages and scores in
+ * basis points (83.25% is 8325). Every such column is stored at scale 2, so converting at
+ * the entity, query-row and DTO edges is exact, and sums and averages in between run on
+ * primitives without allocating. Sums throw on overflow instead of wrapping.
+ */
+public final class FixedPoint {
+
+    /**
+     * Decimal places represented by one unit
+     */
+    public static final int SCALE = 2;
+
+    private static final long PERCENT = 100 * 100;
+
+    private FixedPoint() {
+    }
+
+    /**
+     * Convert a decimal to hundredths; null counts as zero
+     */
+    public static long of(BigDecimal value) {
+        if (value == null) {
+            return 0;
+        }
+        return value.movePointRight(SCALE).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    /**
+     * Convert hundredths back to a scale-2 decimal
+     */
+    public static BigDecimal toDecimal(long units) {
+        return BigDecimal.valueOf(units, SCALE);
+    }
+
+    /**
+     * Add two amounts, failing on overflow
+     */
+    public static long add(long a, long b) {
+        return Math.addExact(a, b);
+    }
+
+    /**
+     * Divide rounding half away from zero, the long equivalent of {@link RoundingMode#HALF_UP}
+     */
+    public static long divide(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = Math.abs(dividend % divisor);
+        if (remainder >= Math.abs(divisor) - remainder) {
+            quotient += Long.signum(dividend) * Long.signum(divisor);
+        }
+        return quotient;
+    }
+
+    /**
+     * Get part as a percentage of whole in basis points, rounded half up; zero when whole is not positive
+     */
+    public static long percentage(long part, long whole) {
+        if (whole <= 0) {
+            return 0;
+        }
+        return divide(Math.multiplyExact(part, PERCENT), whole);
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.backend.service;
+
+/**
+ * Monthly series the forecasting engine can project.
+ */
+public enum ForecastMetric {
+    /**
+     * Rent roll: monthly rent of leases active on the first day of the month
+     */
+    RENT,
+
+    /**
+     * Maintenance spend: actual cost, or the estimate where no actual is recorded, by month created
+     */
+    MAINTENANCE
+}
@@ -0,0 +1,345 @@
+package org.example.backend.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.dto.forecastDTO;
+import org.example.backend.dto.forecastDTO.ConfidenceInterval;
+import org.example.backend.dto.forecastDTO.ForecastDataPoint;
+import org.example.backend.entity.Property;
+import org.example.backend.repository.leaseRepository;
+import org.example.backend.repository.maintanenceRequestRepository;
+import org.example.backend.repository.propertyRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Service producing {@link forecastDTO}s for the portfolio and for single properties.
+ *
+ * Each metric is turned into one monthly double[] series per property over the last
+ * {@link #HISTORY_MONTHS} completed months, loaded with a single grouped query, and every
+ * series gets its own {@link TimeSeriesModel}. Models are fitted in parallel on the
+ * fork-join common pool and cached. When a month completes, the new month is loaded for
+ * all properties with one query and every model slides forward incrementally; a full
+ * refit runs on a fixed delay to pick up backdated changes and clear rounding drift.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ForecastService {
+
+    /**
+     * Length of the history window, in completed months
+     */
+    static final int HISTORY_MONTHS = 36;
+
+    private static final int MAX_HORIZON_MONTHS = 36;
+    private static final int SCALE = 2;
+    private static final BigDecimal CONFIDENCE_LEVEL = BigDecimal.valueOf(95);
+
+    /**
+     * Yearly trend, as a share of the mean, below which a series counts as stable
+     */
+    private static final double STABLE_TREND = 0.01;
+
+    private static final TimeSeriesModel NO_HISTORY = TimeSeriesModel.fit(new double[HISTORY_MONTHS]);
+
+    private final leaseRepository leaseRepository;
+    private final maintanenceRequestRepository maintenanceRequestRepository;
+    private final propertyRepository propertyRepository;
+
+    /**
+     * Guards {@link #models}
+     */
+    private final ReentrantLock modelsLock = new ReentrantLock();
+
+    /**
+     * Fitted models per metric; guarded by modelsLock
+     */
+    private final Map<ForecastMetric, Models> models = new EnumMap<>(ForecastMetric.class);
+
+    /**
+     * Forecast a metric for the whole portfolio
+     */
+    public forecastDTO forecastPortfolio(ForecastMetric metric, int horizonMonths) {
+        Models current = fittedModels(metric);
+        return toDto(metric, current.portfolio(), current.lastMonth(), horizon(horizonMonths), null, null);
+    }
+
+    /**
+     * Forecast a metric for one property; empty when the property does not exist
+     */
+    public Optional<forecastDTO> forecastProperty(ForecastMetric metric, Long propertyId, int horizonMonths) {
+        Optional<String> name = propertyRepository.findById(propertyId).map(Property::getName);
+        if (name.isEmpty()) {
+            return Optional.empty();
+        }
+        Models current = fittedModels(metric);
+        TimeSeriesModel model = current.byProperty().getOrDefault(propertyId, NO_HISTORY);
+        return Optional.of(toDto(metric, model, current.lastMonth(), horizon(horizonMonths), propertyId, name.get()));
+    }
+
+    /**
+     * Summarise the next twelve months across the portfolio
+     */
+    public forecastDTO.PortfolioForecastSummary getPortfolioForecastSummary() {
+        Models rent = fittedModels(ForecastMetric.RENT);
+        Models maintenance = fittedModels(ForecastMetric.MAINTENANCE);
+
+        double expectedRevenue = 0;
+        for (int month = 1; month <= 12; month++) {
+            expectedRevenue += Math.max(0, rent.portfolio().predict(month));
+        }
+        Map<String, Long> rentDirections = rent.byProperty().values().parallelStream()
+                .collect(Collectors.groupingByConcurrent(ForecastService::direction, Collectors.counting()));
+
+        List<String> risks = new ArrayList<>();
+        List<String> opportunities = new ArrayList<>();
+        long declining = rentDirections.getOrDefault("DECREASING", 0L);
+        if (declining > 0) {
+            risks.add(declining + " properties with a declining rent roll");
+        }
+        if ("INCREASING".equals(direction(maintenance.portfolio()))) {
+            risks.add("Maintenance spend rising by " + decimal(maintenance.portfolio().slope()).toPlainString()
+                    + " per month");
+        }
+        long growing = rentDirections.getOrDefault("INCREASING", 0L);
+        if (growing > 0) {
+            opportunities.add(growing + " properties with a growing rent roll");
+        }
+        return forecastDTO.PortfolioForecastSummary.builder()
+                .expectedRevenue12Months(decimal(expectedRevenue))
+                .keyRisks(risks)
+                .opportunities(opportunities)
+                .build();
+    }
+
+    /**
+     * Refit every metric from scratch
+     */
+    @Scheduled(fixedDelayString = "${forecast.refit-interval:PT24H}",
+            initialDelayString = "${forecast.refit-interval:PT24H}")
+    public void refit() {
+        YearMonth lastMonth = lastCompletedMonth();
+        for (ForecastMetric metric : ForecastMetric.values()) {
+            Models fresh = fitAll(metric, lastMonth);
+            modelsLock.lock();
+            try {
+                models.put(metric, fresh);
+            } finally {
+                modelsLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Get the models for the last completed month, sliding or refitting cached ones as needed
+     */
+    private Models fittedModels(ForecastMetric metric) {
+        YearMonth target = lastCompletedMonth();
+        modelsLock.lock();
+        try {
+            Models current = models.get(metric);
+            if (current != null && current.lastMonth().equals(target)) {
+                return current;
+            }
+            Models next;
+            if (current != null && current.lastMonth().isBefore(target)
+                    && current.lastMonth().until(target, ChronoUnit.MONTHS) < HISTORY_MONTHS) {
+                next = current;
+                for (YearMonth month = current.lastMonth().plusMonths(1); !month.isAfter(target); month = month.plusMonths(1)) {
+                    next = slide(next, month, loadMonth(metric, month));
+                }
+            } else {
+                next = fitAll(metric, target);
+            }
+            models.put(metric, next);
+            return next;
+        } finally {
+            modelsLock.unlock();
+        }
+    }
+
+    private Models fitAll(ForecastMetric metric, YearMonth lastMonth) {
+        long start = System.nanoTime();
+        YearMonth first = lastMonth.minusMonths(HISTORY_MONTHS - 1);
+        Map<Long, double[]> series = metric == ForecastMetric.RENT
+                ? loadRentRoll(first, lastMonth)
+                : loadMaintenanceCosts(first, lastMonth);
+        Map<Long, TimeSeriesModel> byProperty = series.entrySet().parallelStream()
+                .collect(Collectors.toConcurrentMap(Map.Entry::getKey, entry -> TimeSeriesModel.fit(entry.getValue())));
+        double[] total = new double[HISTORY_MONTHS];
+        for (double[] values : series.values()) {
+            for (int i = 0; i < HISTORY_MONTHS; i++) {
+                total[i] += values[i];
+            }
+        }
+        log.info("Fitted {} forecast models for {} properties through {} in {} ms",
+                metric, byProperty.size(), lastMonth, (System.nanoTime() - start) / 1_000_000);
+        return new Models(lastMonth, byProperty, TimeSeriesModel.fit(total));
+    }
+
+    private Models slide(Models current, YearMonth month, Map<Long, Double> values) {
+        Set<Long> ids = new HashSet<>(current.byProperty().keySet());
+        ids.addAll(values.keySet());
+        Map<Long, TimeSeriesModel> byProperty = ids.parallelStream()
+                .collect(Collectors.toConcurrentMap(id -> id, id -> current.byProperty()
+                        .getOrDefault(id, NO_HISTORY)
+                        .slide(values.getOrDefault(id, 0.0))));
+        double total = values.values().stream().mapToDouble(Double::doubleValue).sum();
+        log.info("Advanced forecast models for {} properties to {}", byProperty.size(), month);
+        return new Models(month, byProperty, current.portfolio().slide(total));
+    }
+
+    /**
+     * Rent roll on the first of every month in the window, per property
+     */
+    private Map<Long, double[]> loadRentRoll(YearMonth first, YearMonth last) {
+        Map<Long, double[]> series = new HashMap<>();
+        for (Object[] row : leaseRepository.getRentRollTermsByProperty(first.atDay(1), last.atDay(1))) {
+            LocalDate startDate = (LocalDate) row[1];
+            LocalDate endDate = (LocalDate) row[2];
+            // First month whose first day falls inside the lease
+            YearMonth from = YearMonth.from(startDate);
+            if (startDate.getDayOfMonth() > 1) {
+                from = from.plusMonths(1);
+            }
+            int fromIndex = Math.max(0, index(first, from));
+            int toIndex = Math.min(HISTORY_MONTHS - 1, index(first, YearMonth.from(endDate)));
+            double rent = ((Number) row[3]).doubleValue();
+            double[] values = series.computeIfAbsent((Long) row[0], id -> new double[HISTORY_MONTHS]);
+            for (int i = fromIndex; i <= toIndex; i++) {
+                values[i] += rent;
+            }
+        }
+        return series;
+    }
+
+    /**
+     * Maintenance cost by month created over the window, per property
+     */
+    private Map<Long, double[]> loadMaintenanceCosts(YearMonth first, YearMonth last) {
+        Map<Long, double[]> series = new HashMap<>();
+        for (Object[] row : maintenanceRequestRepository.getMaintenanceCostByPropertyAndMonth(
+                first.atDay(1).atStartOfDay(), last.plusMonths(1).atDay(1).atStartOfDay())) {
+            int i = index(first, YearMonth.of(((Number) row[1]).intValue(), ((Number) row[2]).intValue()));
+            if (i >= 0 && i < HISTORY_MONTHS) {
+                series.computeIfAbsent((Long) row[0], id -> new double[HISTORY_MONTHS])[i] +=
+                        ((Number) row[3]).doubleValue();
+            }
+        }
+        return series;
+    }
+
+    /**
+     * One month's value per property, for sliding the models forward
+     */
+    private Map<Long, Double> loadMonth(ForecastMetric metric, YearMonth month) {
+        List<Object[]> rows = metric == ForecastMetric.RENT
+                ? leaseRepository.getRentRollByPropertyOn(month.atDay(1))
+                : maintenanceRequestRepository.getMaintenanceCostByPropertyAndMonth(
+                        month.atDay(1).atStartOfDay(), month.plusMonths(1).atDay(1).atStartOfDay());
+        Map<Long, Double> values = new HashMap<>(rows.size() * 2);
+        for (Object[] row : rows) {
+            values.merge((Long) row[0], ((Number) row[row.length - 1]).doubleValue(), Double::sum);
+        }
+        return values;
+    }
+
+    private static forecastDTO toDto(ForecastMetric metric, TimeSeriesModel model, YearMonth lastMonth,
+                                     int horizon, Long propertyId, String propertyName) {
+        int size = model.size();
+        List<ForecastDataPoint> historical = new ArrayList<>(size);
+        for (int x = 0; x < size; x++) {
+            YearMonth month = lastMonth.minusMonths(size - 1 - x);
+            historical.add(point(month, model.value(x), true, propertyId, propertyName));
+        }
+        List<ForecastDataPoint> forecasted = new ArrayList<>(horizon);
+        List<ConfidenceInterval> intervals = new ArrayList<>(horizon);
+        for (int ahead = 1; ahead <= horizon; ahead++) {
+            YearMonth month = lastMonth.plusMonths(ahead);
+            double prediction = Math.max(0, model.predict(ahead));
+            double halfWidth = model.intervalHalfWidth(ahead);
+            forecasted.add(point(month, prediction, false, propertyId, propertyName));
+            intervals.add(ConfidenceInterval.builder()
+                    .date(month.atDay(1))
+                    .lowerBound(decimal(Math.max(0, prediction - halfWidth)))
+                    .upperBound(decimal(prediction + halfWidth))
+                    .confidenceLevel(CONFIDENCE_LEVEL)
+                    .build());
+        }
+        return forecastDTO.builder()
+                .metric(metric.name())
+                .timeframe("MONTHLY")
+                .startDate(lastMonth.minusMonths(size - 1).atDay(1))
+                .endDate(lastMonth.plusMonths(horizon).atDay(1))
+                .historicalData(historical)
+                .forecastedData(forecasted)
+                .confidenceIntervals(intervals)
+                .forecastModel("YEARLY".equals(model.seasonality()) ? "LINEAR_REGRESSION_SEASONAL" : "LINEAR_REGRESSION")
+                .accuracy(Double.isNaN(model.accuracy()) ? null : decimal(model.accuracy()))
+                .lastTrainingDate(lastMonth.atEndOfMonth().toString())
+                .trendDirection(direction(model))
+                .trendStrength(decimal(model.rSquared() * 100))
+                .seasonality(model.seasonality())
+                .build();
+    }
+
+    private static ForecastDataPoint point(YearMonth month, double value, boolean actual,
+                                           Long propertyId, String propertyName) {
+        return ForecastDataPoint.builder()
+                .date(month.atDay(1))
+                .value(decimal(value))
+                .isActual(actual)
+                .label(month.toString())
+                .propertyId(propertyId)
+                .propertyName(propertyName)
+                .build();
+    }
+
+    private static String direction(TimeSeriesModel model) {
+        double yearlyChange = model.slope() * 12;
+        double mean = Math.abs(model.mean());
+        if (mean == 0 ? yearlyChange == 0 : Math.abs(yearlyChange) / mean < STABLE_TREND) {
+            return "STABLE";
+        }
+        return yearlyChange > 0 ? "INCREASING" : "DECREASING";
+    }
+
+    private static int horizon(int horizonMonths) {
+        return Math.max(1, Math.min(MAX_HORIZON_MONTHS, horizonMonths));
+    }
+
+    private static int index(YearMonth first, YearMonth month) {
+        return (int) first.until(month, ChronoUnit.MONTHS);
+    }
+
+    private static YearMonth lastCompletedMonth() {
+        return YearMonth.now().minusMonths(1);
+    }
+
+    private static BigDecimal decimal(double value) {
+        return BigDecimal.valueOf(value).setScale(SCALE, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Models for one metric, fitted through the given month
+     */
+    private record Models(YearMonth lastMonth, Map<Long, TimeSeriesModel> byProperty, TimeSeriesModel portfolio) {
+    }
+}
@@ -0,0 +1,463 @@
+package org.example.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.FutureOrPresent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.dto.importReportDTO;
+import org.example.backend.dto.importRowErrorDTO;
+import org.example.backend.dto.leaseDTO;
+import org.example.backend.dto.propertyDTO;
+import org.example.backend.dto.tenantDTO;
+import org.example.backend.entity.Lease;
+import org.example.backend.entity.Property;
+import org.example.backend.entity.Tenant;
+import org.example.backend.repository.leaseRepository;
+import org.example.backend.repository.propertyRepository;
+import org.example.backend.repository.tenantRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service loading CSV or NDJSON streams of properties, tenants and leases in bulk.
+ *
+ * Input is read in chunks. Each chunk is validated in parallel against the DTO constraints,
+ * checked for missing references and duplicate unique keys with one query per kind, and the
+ * surviving rows are persisted in one transaction as JDBC batches. Rejected rows are reported
+ * and skipped rather than failing the whole import; a chunk the database refuses is retried
+ * in halves down to the offending rows. Imported rows reach the change outbox like any other
+ * write, so derived views, caches and other nodes follow through their subscriptions.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ImportService {
+
+    /**
+     * Maximum number of row errors listed in a report
+     */
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    /**
+     * Lease DTO constraints meant for leases entered by hand; imported leases are historical
+     */
+    private static final Set<Class<? extends Annotation>> HISTORICAL_DATE_CONSTRAINTS =
+            Set.of(Future.class, FutureOrPresent.class);
+
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+            .findAndAddModules()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+            .enable(CsvParser.Feature.TRIM_SPACES)
+            .build();
+
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final PlatformTransactionManager transactionManager;
+    private final propertyRepository propertyRepository;
+    private final tenantRepository tenantRepository;
+    private final leaseRepository leaseRepository;
+    private final PortfolioSummaryAggregate portfolioSummaryAggregate;
+
+    @Value("${import.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:500}")
+    private int batchSize;
+
+    /**
+     * Import properties
+     */
+    public importReportDTO importProperties(ExportFormat format, InputStream in) throws IOException {
+        return run(new Dataset<>("properties", propertyDTO.class, Set.of(),
+                (rows, tally) -> rows, this::toProperty), format, in);
+    }
+
+    /**
+     * Import tenants; every row must reference an existing property
+     */
+    public importReportDTO importTenants(ExportFormat format, InputStream in) throws IOException {
+        return run(new Dataset<>("tenants", tenantDTO.class, Set.of(),
+                this::checkTenants, this::toTenant), format, in);
+    }
+
+    /**
+     * Import leases; every row must reference an existing tenant of the given property
+     */
+    public importReportDTO importLeases(ExportFormat format, InputStream in) throws IOException {
+        return run(new Dataset<>("leases", leaseDTO.class, HISTORICAL_DATE_CONSTRAINTS,
+                this::checkLeases, this::toLease), format, in);
+    }
+
+    private <D> importReportDTO run(Dataset<D> dataset, ExportFormat format, InputStream in) throws IOException {
+        long start = System.nanoTime();
+        Tally tally = new Tally();
+        RowReader<D> reader = format == ExportFormat.CSV
+                ? new CsvRowReader<>(dataset.type(), in)
+                : new NdjsonRowReader<>(dataset.type(), in);
+        List<Row<D>> chunk = new ArrayList<>(chunkSize);
+        Row<D> row;
+        while ((row = reader.next(tally)) != null) {
+            chunk.add(row);
+            if (chunk.size() == chunkSize) {
+                importChunk(dataset, chunk, tally);
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+        importChunk(dataset, chunk, tally);
+
+        long durationMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        log.info("Imported {} of {} {} in {} ms ({} failed)",
+                tally.imported, tally.total, dataset.name(), durationMs, tally.failed);
+        return importReportDTO.builder()
+                .dataset(dataset.name())
+                .totalRows(tally.total)
+                .importedRows(tally.imported)
+                .failedRows(tally.failed)
+                .durationMs(durationMs)
+                .rowsPerSecond(tally.total * 1000 / durationMs)
+                .errors(tally.errors)
+                .errorsTruncated(tally.errorsTruncated)
+                .build();
+    }
+
+    /**
+     * Validate, check and persist one chunk
+     */
+    private <D> void importChunk(Dataset<D> dataset, List<Row<D>> chunk, Tally tally) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<Set<ConstraintViolation<D>>> violations = chunk.parallelStream()
+                .map(row -> validate(row.value(), dataset.exemptConstraints()))
+                .toList();
+        List<Row<D>> valid = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            if (violations.get(i).isEmpty()) {
+                valid.add(chunk.get(i));
+            } else {
+                tally.reject(chunk.get(i).number(), violations.get(i));
+            }
+        }
+        List<Row<D>> accepted = valid.isEmpty() ? valid : dataset.check().check(valid, tally);
+        if (!accepted.isEmpty()) {
+            commit(dataset, accepted, tally);
+        }
+    }
+
+    /**
+     * Persist rows in one transaction. If it fails, each half is retried on its own until
+     * the failure is pinned to single rows, so only those are rejected, each with its own cause.
+     */
+    private <D> void commit(Dataset<D> dataset, List<Row<D>> rows, Tally tally) {
+        try {
+            new TransactionTemplate(transactionManager)
+                    .executeWithoutResult(status -> persist(rows, dataset.toEntity()));
+            tally.imported += rows.size();
+        } catch (RuntimeException e) {
+            String cause = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            if (rows.size() == 1) {
+                tally.reject(rows.get(0).number(), null, cause);
+                return;
+            }
+            log.debug("Import batch of {} {} rolled back, retrying in halves: {}", rows.size(), dataset.name(), cause);
+            int half = rows.size() / 2;
+            commit(dataset, rows.subList(0, half), tally);
+            commit(dataset, rows.subList(half, rows.size()), tally);
+        }
+    }
+
+    private <D> void persist(List<Row<D>> rows, Function<D, Object> toEntity) {
+        for (int i = 0; i < rows.size(); i++) {
+            entityManager.persist(toEntity.apply(rows.get(i).value()));
+            if ((i + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private <D> Set<ConstraintViolation<D>> validate(D value, Set<Class<? extends Annotation>> exempt) {
+        Set<ConstraintViolation<D>> violations = validator.validate(value);
+        if (exempt.isEmpty() || violations.isEmpty()) {
+            return violations;
+        }
+        return violations.stream()
+                .filter(v -> !exempt.contains(v.getConstraintDescriptor().getAnnotation().annotationType()))
+                .collect(Collectors.toSet());
+    }
+
+    private List<Row<tenantDTO>> checkTenants(List<Row<tenantDTO>> rows, Tally tally) {
+        Set<Long> properties = new HashSet<>(propertyRepository.findExistingIds(
+                rows.stream().map(row -> row.value().getPropertyId()).collect(Collectors.toSet())));
+        Set<String> takenEmails = new HashSet<>(tenantRepository.findExistingEmails(
+                rows.stream().map(row -> row.value().getEmail()).collect(Collectors.toSet())));
+        List<Row<tenantDTO>> accepted = new ArrayList<>(rows.size());
+        for (Row<tenantDTO> row : rows) {
+            tenantDTO tenant = row.value();
+            if (!properties.contains(tenant.getPropertyId())) {
+                tally.reject(row.number(), "propertyId", "Property " + tenant.getPropertyId() + " does not exist");
+            } else if (!takenEmails.add(tenant.getEmail())) {
+                tally.reject(row.number(), "email", "Email " + tenant.getEmail() + " is already in use");
+            } else {
+                accepted.add(row);
+            }
+        }
+        return accepted;
+    }
+
+    private List<Row<leaseDTO>> checkLeases(List<Row<leaseDTO>> rows, Tally tally) {
+        Map<Long, Long> propertyByTenant = new HashMap<>();
+        for (Object[] tenant : tenantRepository.findPropertyIdsByTenantIds(
+                rows.stream().map(row -> row.value().getTenantId()).collect(Collectors.toSet()))) {
+            propertyByTenant.put((Long) tenant[0], (Long) tenant[1]);
+        }
+        Set<String> leaseNumbers = rows.stream()
+                .map(row -> row.value().getLeaseNumber())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<String> takenNumbers = leaseNumbers.isEmpty()
+                ? new HashSet<>()
+                : new HashSet<>(leaseRepository.findExistingLeaseNumbers(leaseNumbers));
+        List<Row<leaseDTO>> accepted = new ArrayList<>(rows.size());
+        for (Row<leaseDTO> row : rows) {
+            leaseDTO lease = row.value();
+            Long tenantProperty = propertyByTenant.get(lease.getTenantId());
+            if (tenantProperty == null) {
+                tally.reject(row.number(), "tenantId", "Tenant " + lease.getTenantId() + " does not exist");
+            } else if (!tenantProperty.equals(lease.getPropertyId())) {
+                tally.reject(row.number(), "propertyId",
+                        "Tenant " + lease.getTenantId() + " belongs to property " + tenantProperty);
+            } else if (lease.getLeaseNumber() != null && !takenNumbers.add(lease.getLeaseNumber())) {
+                tally.reject(row.number(), "leaseNumber", "Lease number " + lease.getLeaseNumber() + " is already in use");
+            } else {
+                accepted.add(row);
+            }
+        }
+        return accepted;
+    }
+
+    private Property toProperty(propertyDTO dto) {
+        LocalDateTime now = LocalDateTime.now();
+        Property property = Property.builder()
+                .name(dto.getName())
+                .address(dto.getAddress())
+                .propertyType(dto.getPropertyType())
+                .totalUnits(dto.getTotalUnits())
+                .occupiedUnits(dto.getOccupiedUnits())
+                .occupancyRate(dto.getOccupancyRate())
+                .rentalIncome(dto.getRentalIncome())
+                .assetValue(dto.getAssetValue())
+                .esgScore(dto.getEsgScore())
+                .squareFootage(dto.getSquareFootage())
+                .yearBuilt(dto.getYearBuilt())
+                .latitude(dto.getLatitude())
+                .longitude(dto.getLongitude())
+                .createdAt(dto.getCreatedAt() != null ? dto.getCreatedAt() : now)
+                .updatedAt(now)
+                .build();
+        if (property.getOccupancyRate() == null) {
+            property.calculateOccupancyRate();
+        }
+        // Applied once the transaction commits, as for properties created one at a time
+        portfolioSummaryAggregate.recordCreated(property);
+        return property;
+    }
+
+    private Tenant toTenant(tenantDTO dto) {
+        LocalDateTime now = LocalDateTime.now();
+        return Tenant.builder()
+                .name(dto.getName())
+                .email(dto.getEmail())
+                .phone(dto.getPhone())
+                .emergencyContact(dto.getEmergencyContact())
+                .emergencyPhone(dto.getEmergencyPhone())
+                .leaseStart(dto.getLeaseStart())
+                .leaseEnd(dto.getLeaseEnd())
+                .monthlyRent(dto.getMonthlyRent())
+                .securityDeposit(dto.getSecurityDeposit())
+                .status(dto.getStatus())
+                .unitNumber(dto.getUnitNumber())
+                .paymentScore(dto.getPaymentScore())
+                .property(entityManager.getReference(Property.class, dto.getPropertyId()))
+                .createdAt(dto.getCreatedAt() != null ? dto.getCreatedAt() : now)
+                .updatedAt(now)
+                .build();
+    }
+
+    private Lease toLease(leaseDTO dto) {
+        LocalDateTime now = LocalDateTime.now();
+        return Lease.builder()
+                .leaseNumber(dto.getLeaseNumber())
+                .startDate(dto.getStartDate())
+                .endDate(dto.getEndDate())
+                .monthlyRent(dto.getMonthlyRent())
+                .securityDeposit(dto.getSecurityDeposit())
+                .status(dto.getStatus())
+                .leaseType(dto.getLeaseType())
+                .unitNumber(dto.getUnitNumber())
+                .squareFootage(dto.getSquareFootage())
+                .notes(dto.getNotes())
+                .autoRenewal(dto.getAutoRenewal())
+                .tenant(entityManager.getReference(Tenant.class, dto.getTenantId()))
+                .property(entityManager.getReference(Property.class, dto.getPropertyId()))
+                .createdAt(dto.getCreatedAt() != null ? dto.getCreatedAt() : now)
+                .updatedAt(now)
+                .build();
+    }
+
+    /**
+     * One parsed input row, numbered from 1 in input order
+     */
+    private record Row<D>(long number, D value) {
+    }
+
+    /**
+     * Per-dataset import rules
+     *
+     * @param exemptConstraints DTO constraints ignored for imported rows
+     * @param check             rejects rows with missing references or duplicate keys
+     */
+    private record Dataset<D>(String name, Class<D> type, Set<Class<? extends Annotation>> exemptConstraints,
+                              ChunkCheck<D> check, Function<D, Object> toEntity) {
+    }
+
+    @FunctionalInterface
+    private interface ChunkCheck<D> {
+        List<Row<D>> check(List<Row<D>> rows, Tally tally);
+    }
+
+    /**
+     * Running counts and the first row errors of one import
+     */
+    private static final class Tally {
+        long total;
+        long imported;
+        long failed;
+        boolean errorsTruncated;
+        final List<importRowErrorDTO> errors = new ArrayList<>();
+
+        void reject(long row, String field, String message) {
+            failed++;
+            error(row, field, message);
+        }
+
+        <D> void reject(long row, Set<ConstraintViolation<D>> violations) {
+            failed++;
+            for (ConstraintViolation<D> violation : violations) {
+                String field = violation.getPropertyPath().toString();
+                error(row, field.isEmpty() ? null : field, violation.getMessage());
+            }
+        }
+
+        private void error(long row, String field, String message) {
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new importRowErrorDTO(row, field, message));
+            } else {
+                errorsTruncated = true;
+            }
+        }
+    }
+
+    private interface RowReader<D> {
+        /**
+         * Read the next parseable row, rejecting unparseable ones on the way; null at end of input
+         */
+        Row<D> next(Tally tally) throws IOException;
+    }
+
+    /**
+     * One JSON object per line; a malformed line only rejects that line
+     */
+    private final class NdjsonRowReader<D> implements RowReader<D> {
+        private final BufferedReader lines;
+        private final ObjectReader reader;
+
+        NdjsonRowReader(Class<D> type, InputStream in) {
+            this.lines = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            this.reader = objectMapper.readerFor(type);
+        }
+
+        @Override
+        public Row<D> next(Tally tally) throws IOException {
+            String line;
+            while ((line = lines.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                long number = ++tally.total;
+                try {
+                    D value = reader.readValue(line);
+                    if (value != null) {
+                        return new Row<>(number, value);
+                    }
+                    tally.reject(number, null, "Row is null");
+                } catch (JsonProcessingException e) {
+                    tally.reject(number, null, e.getOriginalMessage());
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * CSV with a header line naming the DTO fields; empty cells are read as null
+     */
+    private static final class CsvRowReader<D> implements RowReader<D> {
+        private final MappingIterator<D> rows;
+
+        CsvRowReader(Class<D> type, InputStream in) throws IOException {
+            this.rows = CSV_MAPPER.readerFor(type)
+                    .with(CsvSchema.emptySchema().withHeader())
+                    .readValues(in);
+        }
+
+        @Override
+        public Row<D> next(Tally tally) throws IOException {
+            while (rows.hasNextValue()) {
+                long number = ++tally.total;
+                try {
+                    return new Row<>(number, rows.nextValue());
+                } catch (JsonProcessingException e) {
+                    // The iterator skips the rest of the bad record on the next hasNextValue()
+                    tally.reject(number, null, e.getOriginalMessage());
+                }
+            }
+            return null;
+        }
+    }
+}
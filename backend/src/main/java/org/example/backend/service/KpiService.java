@@ -0,0 +1,344 @@
+package org.example.backend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.dto.kpiDTO;
+import org.example.backend.dto.kpiDTO.ChartDataPoint;
+import org.example.backend.dto.kpiDTO.PropertyPerformanceDTO;
+import org.example.backend.dto.propertyRowDTO;
+import org.example.backend.entity.MaintenanceRequest.Priority;
+import org.example.backend.entity.OutboxEvent.AggregateType;
+import org.example.backend.entity.MaintenanceRequest.RequestStatus;
+import org.example.backend.entity.Tenant.TenantStatus;
+import org.example.backend.repository.leaseRepository;
+import org.example.backend.repository.maintanenceRequestRepository;
+import org.example.backend.repository.propertyRepository;
+import org.example.backend.repository.tenantRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Service assembling the dashboard {@link kpiDTO}.
+ *
+ * Figures already held in memory come from {@link PortfolioSummaryAggregate} and
+ * {@link LeaseTimeline}. The rest come from a handful of multi-aggregate queries, one
+ * per table and shape, which run concurrently on the application task executor, so
+ * building the dashboard takes about as long as its slowest query. Money is summed in
+ * {@link FixedPoint} cents and only turned into decimals for the DTO. The result is cached
+ * for a short TTL and rebuilt by one caller at a time.
+ */
+@Service
+@Slf4j
+public class KpiService implements ChangeEventSubscriber {
+
+    private static final int TREND_MONTHS = 12;
+    private static final int RANKING_SIZE = 5;
+    private static final int EXPIRING_SOON_DAYS = 60;
+    private static final int SCALE = 2;
+
+    /**
+     * ESG score at or above which a property counts as green certified
+     */
+    private static final BigDecimal GREEN_ESG_SCORE = BigDecimal.valueOf(80);
+
+    private static final Set<RequestStatus> CLOSED_STATUSES = Set.of(RequestStatus.COMPLETED, RequestStatus.CANCELLED);
+
+    private final propertyRepository propertyRepository;
+    private final tenantRepository tenantRepository;
+    private final leaseRepository leaseRepository;
+    private final maintanenceRequestRepository maintenanceRequestRepository;
+    private final PortfolioSummaryAggregate portfolioSummaryAggregate;
+    private final LeaseTimeline leaseTimeline;
+    private final AsyncTaskExecutor executor;
+    private final Duration cacheTtl;
+
+    /**
+     * Serialises rebuilds
+     */
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private volatile Cached cached;
+
+    public KpiService(propertyRepository propertyRepository,
+                      tenantRepository tenantRepository,
+                      leaseRepository leaseRepository,
+                      maintanenceRequestRepository maintenanceRequestRepository,
+                      PortfolioSummaryAggregate portfolioSummaryAggregate,
+                      LeaseTimeline leaseTimeline,
+                      @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                      AsyncTaskExecutor executor,
+                      @Value("${kpi.cache-ttl:PT30S}") Duration cacheTtl) {
+        this.propertyRepository = propertyRepository;
+        this.tenantRepository = tenantRepository;
+        this.leaseRepository = leaseRepository;
+        this.maintenanceRequestRepository = maintenanceRequestRepository;
+        this.portfolioSummaryAggregate = portfolioSummaryAggregate;
+        this.leaseTimeline = leaseTimeline;
+        this.executor = executor;
+        this.cacheTtl = cacheTtl;
+    }
+
+    /**
+     * Get the dashboard KPIs, at most {@code kpi.cache-ttl} old
+     */
+    public kpiDTO getKpis() {
+        Cached current = cached;
+        if (current != null && current.isFresh()) {
+            return current.kpis();
+        }
+        rebuildLock.lock();
+        try {
+            current = cached;
+            if (current == null || !current.isFresh()) {
+                current = new Cached(computeKpis(), System.nanoTime() + cacheTtl.toNanos());
+                cached = current;
+            }
+            return current.kpis();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Drop the cached KPIs so the next read recomputes them
+     */
+    public void evict() {
+        cached = null;
+    }
+
+    @Override
+    public Set<AggregateType> subscribedTypes() {
+        return EnumSet.allOf(AggregateType.class);
+    }
+
+    /**
+     * Drop the cached KPIs whenever committed changes arrive from the outbox
+     */
+    @Override
+    public void onChanges(List<ChangeEvent> changes) {
+        evict();
+    }
+
+    private kpiDTO computeKpis() {
+        long start = System.nanoTime();
+        LocalDate today = LocalDate.now();
+        YearMonth thisMonth = YearMonth.from(today);
+        YearMonth firstTrendMonth = thisMonth.minusMonths(TREND_MONTHS - 1);
+
+        CompletableFuture<maintanenceRequestRepository.MaintenanceCounts> maintenanceCounts = async(() ->
+                maintenanceRequestRepository.getMaintenanceCounts(RequestStatus.PENDING, Priority.URGENT, CLOSED_STATUSES));
+        CompletableFuture<List<Object[]>> maintenanceCosts = async(() ->
+                maintenanceRequestRepository.getMaintenanceCostByMonth(firstTrendMonth.atDay(1).atStartOfDay()));
+        CompletableFuture<leaseRepository.LeaseExpiryCounts> expiryCounts = async(() ->
+                leaseRepository.getLeaseExpiryCounts(today, thisMonth.atEndOfMonth(), today.plusDays(EXPIRING_SOON_DAYS)));
+        CompletableFuture<List<Object[]>> rentRoll = async(() ->
+                leaseRepository.getRentRollByTerm(firstTrendMonth.atDay(1), today));
+        CompletableFuture<Long> activeTenants = async(() -> tenantRepository.countByStatus(TenantStatus.ACTIVE));
+        CompletableFuture<List<Object[]>> esgByType = async(() -> propertyRepository.getEsgByPropertyType(GREEN_ESG_SCORE));
+        CompletableFuture<List<propertyRowDTO>> topPerformers = async(() ->
+                propertyRepository.findTopPerformingRows(Pageable.ofSize(RANKING_SIZE)));
+        CompletableFuture<List<propertyRowDTO>> underperformers = async(() ->
+                propertyRepository.findUnderperformingRows(Pageable.ofSize(RANKING_SIZE)));
+
+        // In-memory figures are read while the queries run
+        propertyRepository.PortfolioSummary summary = portfolioSummaryAggregate.current();
+        long monthlyRevenue = leaseTimeline.getTotalActiveRent();
+
+        join(maintenanceCounts, maintenanceCosts, expiryCounts, rentRoll, activeTenants,
+                esgByType, topPerformers, underperformers);
+
+        long[] costByMonth = costByMonth(maintenanceCosts.join(), firstTrendMonth);
+        List<RentRoll> rentRollByMonth = rentRollByMonth(rentRoll.join(), firstTrendMonth, thisMonth, today);
+        long yearToDateRevenue = 0;
+        for (RentRoll roll : rentRollByMonth) {
+            if (roll.month().getYear() == today.getYear()) {
+                yearToDateRevenue = FixedPoint.add(yearToDateRevenue, roll.rent());
+            }
+        }
+        long yearToDateMaintenance = 0;
+        for (int i = 0; i < TREND_MONTHS; i++) {
+            if (firstTrendMonth.plusMonths(i).getYear() == today.getYear()) {
+                yearToDateMaintenance = FixedPoint.add(yearToDateMaintenance, costByMonth[i]);
+            }
+        }
+        long totalUnits = summary.getTotalUnits();
+
+        kpiDTO kpis = kpiDTO.builder()
+                .totalProperties(Math.toIntExact(summary.getTotalProperties()))
+                .totalUnits(Math.toIntExact(totalUnits))
+                .occupiedUnits(Math.toIntExact(summary.getOccupiedUnits()))
+                .overallOccupancyRate(FixedPoint.toDecimal(FixedPoint.percentage(summary.getOccupiedUnits(), totalUnits)))
+                .totalRentalIncome(summary.getTotalRentalIncome())
+                .totalAssetValue(summary.getTotalAssetValue())
+                .averageEsgScore(summary.getAvgEsgScore())
+                .monthlyRevenue(FixedPoint.toDecimal(monthlyRevenue))
+                .yearToDateRevenue(FixedPoint.toDecimal(yearToDateRevenue))
+                .averageRentPerUnit(FixedPoint.toDecimal(perUnit(monthlyRevenue, summary.getOccupiedUnits())))
+                .totalMaintenanceCosts(FixedPoint.toDecimal(yearToDateMaintenance))
+                .netOperatingIncome(FixedPoint.toDecimal(yearToDateRevenue - yearToDateMaintenance))
+                .activeTenants(Math.toIntExact(activeTenants.join()))
+                .leasesExpiringThisMonth(Math.toIntExact(expiryCounts.join().getExpiringThisMonth()))
+                .leasesExpiringSoon(Math.toIntExact(expiryCounts.join().getExpiringSoon()))
+                .pendingMaintenanceRequests(Math.toIntExact(maintenanceCounts.join().getPendingRequests()))
+                .urgentMaintenanceRequests(Math.toIntExact(maintenanceCounts.join().getUrgentOpenRequests()))
+                .occupancyTrend(rentRollByMonth.stream()
+                        .map(roll -> point(roll.month(), FixedPoint.percentage(roll.leases(), totalUnits)))
+                        .toList())
+                .revenueTrend(rentRollByMonth.stream()
+                        .map(roll -> point(roll.month(), roll.rent()))
+                        .toList())
+                .maintenanceCostTrend(IntStream.range(0, TREND_MONTHS)
+                        .mapToObj(i -> point(firstTrendMonth.plusMonths(i), costByMonth[i]))
+                        .toList())
+                .esgTrend(esgByType.join().stream()
+                        .map(row -> ChartDataPoint.builder()
+                                .label(row[0] == null ? "Unspecified" : (String) row[0])
+                                .value(row[1] == null ? null : toDecimal(row[1]).setScale(SCALE, RoundingMode.HALF_UP))
+                                .category("propertyType")
+                                .build())
+                        .toList())
+                .greenCertifiedProperties(esgByType.join().stream()
+                        .mapToInt(row -> ((Number) row[2]).intValue())
+                        .sum())
+                .topPerformingProperties(topPerformers.join().stream().map(KpiService::performance).toList())
+                .underperformingProperties(underperformers.join().stream().map(KpiService::performance).toList())
+                .lastUpdated(LocalDateTime.now())
+                .build();
+        log.debug("Computed dashboard KPIs in {} ms", (System.nanoTime() - start) / 1_000_000);
+        return kpis;
+    }
+
+    private <T> CompletableFuture<T> async(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(query, executor);
+    }
+
+    private static void join(CompletableFuture<?>... futures) {
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Monthly maintenance cost in cents for every trend month, zero-filled, indexed from the first month
+     */
+    private static long[] costByMonth(List<Object[]> rows, YearMonth first) {
+        long[] costs = new long[TREND_MONTHS];
+        for (Object[] row : rows) {
+            YearMonth month = YearMonth.of(((Number) row[0]).intValue(), ((Number) row[1]).intValue());
+            long i = first.until(month, ChronoUnit.MONTHS);
+            if (i >= 0 && i < TREND_MONTHS) {
+                costs[(int) i] = FixedPoint.add(costs[(int) i], FixedPoint.of(toDecimal(row[2])));
+            }
+        }
+        return costs;
+    }
+
+    /**
+     * Lease count and rent of leases active on the first of each trend month (today for the current one)
+     */
+    private static List<RentRoll> rentRollByMonth(List<Object[]> terms, YearMonth first, YearMonth current,
+                                                  LocalDate today) {
+        long[] termRents = new long[terms.size()];
+        for (int t = 0; t < termRents.length; t++) {
+            termRents[t] = FixedPoint.of(toDecimal(terms.get(t)[3]));
+        }
+        List<RentRoll> months = new ArrayList<>(TREND_MONTHS);
+        for (YearMonth month = first; !month.isAfter(current); month = month.plusMonths(1)) {
+            LocalDate day = month.equals(current) ? today : month.atDay(1);
+            long leases = 0;
+            long rent = 0;
+            for (int t = 0; t < termRents.length; t++) {
+                Object[] term = terms.get(t);
+                LocalDate startDate = (LocalDate) term[0];
+                LocalDate endDate = (LocalDate) term[1];
+                if (!startDate.isAfter(day) && !endDate.isBefore(day)) {
+                    leases += ((Number) term[2]).longValue();
+                    rent = FixedPoint.add(rent, termRents[t]);
+                }
+            }
+            months.add(new RentRoll(month, leases, rent));
+        }
+        return months;
+    }
+
+    private static PropertyPerformanceDTO performance(propertyRowDTO property) {
+        return PropertyPerformanceDTO.builder()
+                .propertyId(property.id())
+                .propertyName(property.name())
+                .occupancyRate(property.occupancyRate())
+                .monthlyRevenue(property.rentalIncome())
+                .esgScore(property.esgScore())
+                .performanceRating(rating(property.occupancyRate()))
+                .build();
+    }
+
+    private static String rating(BigDecimal occupancyRate) {
+        if (occupancyRate == null) {
+            return null;
+        }
+        double rate = occupancyRate.doubleValue();
+        if (rate >= 95) {
+            return "EXCELLENT";
+        } else if (rate >= 85) {
+            return "GOOD";
+        } else if (rate >= 70) {
+            return "AVERAGE";
+        }
+        return "POOR";
+    }
+
+    /**
+     * Chart point for a month, from a value in hundredths
+     */
+    private static ChartDataPoint point(YearMonth month, long value) {
+        return ChartDataPoint.builder().label(month.toString()).value(FixedPoint.toDecimal(value)).build();
+    }
+
+    private static long perUnit(long amount, long count) {
+        return count <= 0 ? 0 : FixedPoint.divide(amount, count);
+    }
+
+    private static BigDecimal toDecimal(Object value) {
+        if (value == null) {
+            return BigDecimal.ZERO;
+        }
+        return value instanceof BigDecimal decimal ? decimal : new BigDecimal(value.toString());
+    }
+
+    /**
+     * Rent in cents
+     */
+    private record RentRoll(YearMonth month, long leases, long rent) {
+    }
+
+    private record Cached(kpiDTO kpis, long expiresAtNanos) {
+        boolean isFresh() {
+            return System.nanoTime() - expiresAtNanos < 0;
+        }
+    }
+}
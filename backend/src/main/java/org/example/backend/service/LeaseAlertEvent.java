@@ -0,0 +1,12 @@
+package org.example.backend.service;
+
+import org.example.backend.entity.LeaseAlert.AlertType;
+
+import java.time.LocalDate;
+
+/**
+ * Published after commit for every lease renewal or expiry alert fired by {@link LeaseAlertScheduler}.
+ */
+public record LeaseAlertEvent(Long leaseId, Long tenantId, Long propertyId,
+                              AlertType alertType, LocalDate leaseEndDate, LocalDate dueDate) {
+}
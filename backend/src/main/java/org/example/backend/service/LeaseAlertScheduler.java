@@ -0,0 +1,327 @@
+package org.example.backend.service;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.entity.Lease;
+import org.example.backend.entity.Lease.LeaseStatus;
+import org.example.backend.entity.LeaseAlert;
+import org.example.backend.entity.LeaseAlert.AlertType;
+import org.example.backend.entity.OutboxEvent.AggregateType;
+import org.example.backend.repository.leaseAlertRepository;
+import org.example.backend.repository.leaseRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fires lease renewal alerts 90, 60 and 30 days before a lease ends and an expiry alert the
+ * day after, replacing range polls over the leases table.
+ *
+ * Lease ids sit in a date-bucketed index keyed by the due date of their next alert, one entry
+ * per lease. The daily run drains the buckets due by today, rechecks those leases and their
+ * fired alerts with one query each per batch, records the alerts, and moves each lease to the
+ * bucket of its following alert; no other lease is read. Leases with {@code autoRenewal} skip
+ * the renewal notices and get an {@link AlertType#AUTO_RENEWED} alert instead of an expiry.
+ *
+ * Every alert is stored as a {@link LeaseAlert} row unique per lease, type and end date, so
+ * each alert fires exactly once even across restarts or several nodes, and a {@link LeaseAlertEvent}
+ * is published after commit. When several alerts of a lease are overdue only the latest fires.
+ *
+ * Committed lease changes from the outbox file the lease under the due date of its next alert
+ * as of its new end date, auto-renewal flag and status. Entries left behind by a change, or by
+ * a deletion, only cost a recheck when their bucket falls due, and go with it. The index is
+ * built from the database once, on startup, and kept current from then on by those changes
+ * alone; alerts that fell due up to {@code lease.alerts.catch-up-days} before startup or a
+ * change are still fired.
+ */
+@Component
+@Slf4j
+public class LeaseAlertScheduler implements ChangeEventSubscriber {
+
+    private static final List<AlertType> RENEWAL_ALERTS = List.of(
+            AlertType.RENEWAL_90_DAYS, AlertType.RENEWAL_60_DAYS, AlertType.RENEWAL_30_DAYS, AlertType.EXPIRED);
+    private static final List<AlertType> AUTO_RENEWAL_ALERTS = List.of(AlertType.AUTO_RENEWED);
+
+    /**
+     * Lease statuses that still receive alerts
+     */
+    private static final Set<LeaseStatus> ALERTED_STATUSES = EnumSet.of(LeaseStatus.ACTIVE, LeaseStatus.PENDING);
+
+    /**
+     * Maximum number of lease ids per IN-list
+     */
+    private static final int ID_BATCH_SIZE = 1000;
+
+    /**
+     * Attempts at a batch that collides with alerts fired concurrently by another node
+     */
+    private static final int MAX_BATCH_ATTEMPTS = 3;
+
+    private final leaseRepository leaseRepository;
+    private final leaseAlertRepository leaseAlertRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int catchUpDays;
+
+    /**
+     * Serialises runs and rebuilds, which both query the database while owning the index
+     */
+    private final ReentrantLock runLock = new ReentrantLock();
+
+    /**
+     * Lease ids by the due date of their next alert; guarded by runLock
+     */
+    private final TreeMap<LocalDate, IdBucket> buckets = new TreeMap<>();
+
+    public LeaseAlertScheduler(leaseRepository leaseRepository,
+                               leaseAlertRepository leaseAlertRepository,
+                               EntityManager entityManager,
+                               PlatformTransactionManager transactionManager,
+                               ApplicationEventPublisher eventPublisher,
+                               @Value("${lease.alerts.catch-up-days:7}") int catchUpDays) {
+        this.leaseRepository = leaseRepository;
+        this.leaseAlertRepository = leaseAlertRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.catchUpDays = catchUpDays;
+    }
+
+    @Override
+    public Set<AggregateType> subscribedTypes() {
+        return Set.of(AggregateType.LEASE);
+    }
+
+    /**
+     * File changed leases under the due date of their next alert
+     */
+    @Override
+    public void onChanges(List<ChangeEvent> changes) {
+        runLock.lock();
+        try {
+            LocalDate today = LocalDate.now();
+            LocalDate earliestDue = today.minusDays(catchUpDays);
+            for (ChangeEvent change : changes) {
+                String endDate = change.text("endDate");
+                String status = change.text("status");
+                if (change.isDelete() || endDate == null || status == null
+                        || !ALERTED_STATUSES.contains(LeaseStatus.valueOf(status))) {
+                    continue;
+                }
+                LocalDate next = nextDueDate(alerts(change.state().get("autoRenewal")),
+                        LocalDate.parse(endDate), earliestDue);
+                if (next != null) {
+                    buckets.computeIfAbsent(next.isBefore(today) ? today : next, date -> new IdBucket())
+                            .add(change.aggregateId());
+                }
+            }
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        log.info("Seeding lease alert index");
+        reconcile();
+        fireDueAlerts();
+    }
+
+    /**
+     * Fire every alert due by today
+     */
+    @Scheduled(cron = "${lease.alerts.cron:0 5 0 * * *}")
+    public void fireDueAlerts() {
+        runLock.lock();
+        try {
+            LocalDate today = LocalDate.now();
+            NavigableMap<LocalDate, IdBucket> due = buckets.headMap(today, true);
+            Set<Long> ids = new LinkedHashSet<>();
+            due.values().forEach(bucket -> bucket.addTo(ids));
+            due.clear();
+            if (ids.isEmpty()) {
+                return;
+            }
+            List<Long> batch = new ArrayList<>(ids);
+            int fired = 0;
+            for (int from = 0; from < batch.size(); from += ID_BATCH_SIZE) {
+                fired += fireBatch(batch.subList(from, Math.min(from + ID_BATCH_SIZE, batch.size())), today);
+            }
+            log.info("Fired {} lease alerts from {} due leases", fired, ids.size());
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    /**
+     * Build the index from the leases table, dropping entries left behind by lease changes
+     */
+    public void reconcile() {
+        runLock.lock();
+        try {
+            LocalDate today = LocalDate.now();
+            LocalDate earliestDue = today.minusDays(catchUpDays);
+            // Expiry alerts fall due the day after the end date
+            List<Object[]> rows = leaseRepository.findAlertIndexRows(earliestDue.minusDays(1), ALERTED_STATUSES);
+            TreeMap<LocalDate, IdBucket> fresh = new TreeMap<>();
+            for (Object[] row : rows) {
+                LocalDate endDate = (LocalDate) row[1];
+                LocalDate next = nextDueDate(alerts(row[2]), endDate, earliestDue);
+                if (next != null) {
+                    fresh.computeIfAbsent(next.isBefore(today) ? today : next, date -> new IdBucket())
+                            .add((Long) row[0]);
+                }
+            }
+            buckets.clear();
+            buckets.putAll(fresh);
+            log.info("Indexed {} leases for alerts across {} dates", rows.size(), fresh.size());
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    /**
+     * Fire the due alerts of one batch of leases in one transaction and re-index them. If
+     * another node fired some of them first, the batch is rechecked at once, which skips those.
+     */
+    private int fireBatch(List<Long> ids, LocalDate today) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return tryFireBatch(ids, today);
+            } catch (DataIntegrityViolationException e) {
+                if (attempt == MAX_BATCH_ATTEMPTS) {
+                    log.warn("Lease alerts for {} leases kept colliding with another node, rechecking tomorrow",
+                            ids.size());
+                    IdBucket retry = buckets.computeIfAbsent(today.plusDays(1), date -> new IdBucket());
+                    ids.forEach(retry::add);
+                    return 0;
+                }
+                log.debug("Lease alerts for {} leases were fired concurrently, rechecking", ids.size());
+            }
+        }
+    }
+
+    private int tryFireBatch(List<Long> ids, LocalDate today) {
+        List<LeaseAlertEvent> events = new ArrayList<>();
+        Map<Long, LocalDate> nextDueDates = new HashMap<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<Term, Set<AlertType>> fired = firedAlerts(ids);
+            LocalDateTime now = LocalDateTime.now();
+            for (Object[] row : leaseRepository.findAlertRowsByIds(ids)) {
+                Long id = (Long) row[0];
+                LocalDate endDate = (LocalDate) row[1];
+                if (!ALERTED_STATUSES.contains((LeaseStatus) row[3])) {
+                    continue;
+                }
+                List<AlertType> alerts = alerts(row[2]);
+                Set<AlertType> firedForTerm = fired.getOrDefault(new Term(id, endDate), Set.of());
+                int last = -1;
+                int due = -1;
+                for (int i = 0; i < alerts.size(); i++) {
+                    if (firedForTerm.contains(alerts.get(i))) {
+                        last = i;
+                        due = -1;
+                    } else if (!alerts.get(i).dueDate(endDate).isAfter(today)) {
+                        due = i;
+                    }
+                }
+                if (due >= 0) {
+                    AlertType type = alerts.get(due);
+                    LocalDate dueDate = type.dueDate(endDate);
+                    leaseAlertRepository.save(LeaseAlert.builder()
+                            .lease(entityManager.getReference(Lease.class, id))
+                            .alertType(type)
+                            .leaseEndDate(endDate)
+                            .dueDate(dueDate)
+                            .firedAt(now)
+                            .build());
+                    events.add(new LeaseAlertEvent(id, (Long) row[4], (Long) row[5], type, endDate, dueDate));
+                }
+                int next = Math.max(last, due) + 1;
+                if (next < alerts.size()) {
+                    nextDueDates.put(id, alerts.get(next).dueDate(endDate));
+                }
+            }
+            List<LeaseAlertEvent> committed = List.copyOf(events);
+            TransactionHooks.afterCommit(() -> committed.forEach(eventPublisher::publishEvent));
+        });
+        LocalDate tomorrow = today.plusDays(1);
+        nextDueDates.forEach((id, date) ->
+                buckets.computeIfAbsent(date.isBefore(tomorrow) ? tomorrow : date, d -> new IdBucket()).add(id));
+        return events.size();
+    }
+
+    private Map<Term, Set<AlertType>> firedAlerts(List<Long> ids) {
+        Map<Term, Set<AlertType>> fired = new HashMap<>();
+        for (Object[] row : leaseAlertRepository.findFiredAlerts(ids)) {
+            fired.computeIfAbsent(new Term((Long) row[0], (LocalDate) row[2]), term -> EnumSet.noneOf(AlertType.class))
+                    .add((AlertType) row[1]);
+        }
+        return fired;
+    }
+
+    private static List<AlertType> alerts(Object autoRenewal) {
+        return Boolean.TRUE.equals(autoRenewal) ? AUTO_RENEWAL_ALERTS : RENEWAL_ALERTS;
+    }
+
+    /**
+     * Due date of the first alert falling due on or after the given date, or null when none is left
+     */
+    private static LocalDate nextDueDate(List<AlertType> alerts, LocalDate endDate, LocalDate notBefore) {
+        for (AlertType alert : alerts) {
+            LocalDate dueDate = alert.dueDate(endDate);
+            if (!dueDate.isBefore(notBefore)) {
+                return dueDate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A lease term; alerts are tracked per term so an extended lease is alerted again
+     */
+    private record Term(Long leaseId, LocalDate endDate) {
+    }
+
+    /**
+     * Growable array of lease ids, 8 bytes per lease instead of a boxed set entry
+     */
+    private static final class IdBucket {
+        private long[] ids = new long[4];
+        private int size;
+
+        void add(long id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        void addTo(Set<Long> target) {
+            for (int i = 0; i < size; i++) {
+                target.add(ids[i]);
+            }
+        }
+    }
+}
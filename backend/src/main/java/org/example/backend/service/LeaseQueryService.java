@@ -0,0 +1,61 @@
+package org.example.backend.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.backend.dto.keysetPageDTO;
+import org.example.backend.dto.leaseDTO;
+import org.example.backend.entity.Lease;
+import org.example.backend.repository.KeysetSupport;
+import org.example.backend.repository.LeaseSpecifications;
+import org.example.backend.repository.leaseRepository;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Reads leases by keyset, continuing from the opaque tokens of {@link ContinuationTokens} as
+ * {@link TenantQueryService} does for tenants.
+ *
+ * Each lease's tenant and property come from the second-level cache or in batches, so a
+ * window costs its select whichever tenants and properties it spans.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class LeaseQueryService {
+
+    private final leaseRepository leaseRepository;
+
+    /**
+     * Get a window of leases, optionally of one property or tenant, within a rent range and
+     * in one lease status (ACTIVE, EXPIRED or FUTURE as of today).
+     * Each window costs the same regardless of depth; the total is only counted on request.
+     */
+    public keysetPageDTO<leaseDTO> scrollLeases(Long propertyId, Long tenantId, BigDecimal minRent,
+                                                BigDecimal maxRent, String leaseStatus, String sortProperty,
+                                                Sort.Direction direction, String continuationToken,
+                                                int size, boolean includeTotal) {
+        Sort sort = KeysetSupport.stable(Sort.by(direction, sortProperty), leaseRepository.KEYSET_SORT_PROPERTIES);
+        KeysetScrollPosition position = ContinuationTokens.decode(sort, continuationToken);
+
+        Window<Lease> window = leaseRepository.scrollWithFilters(propertyId, tenantId, minRent, maxRent,
+                leaseStatus, position, sort, size);
+        Long total = includeTotal
+                ? leaseRepository.count(LeaseSpecifications.withFilters(propertyId, tenantId, minRent, maxRent,
+                        leaseStatus, LocalDate.now()))
+                : null;
+        return keysetPageDTO.<leaseDTO>builder()
+                .content(window.getContent().stream()
+                        .map(lease -> PropertyDetailService.toDTO(lease, lease.getProperty()))
+                        .toList())
+                .size(window.size())
+                .hasNext(window.hasNext())
+                .nextToken(ContinuationTokens.next(sort, window))
+                .totalElements(total)
+                .build();
+    }
+}
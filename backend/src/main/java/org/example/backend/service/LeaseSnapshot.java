@@ -0,0 +1,44 @@
+package org.example.backend.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Immutable copy of the lease fields that derived views depend on.
+ *
+ * Built from a database row or a committed change event, so derived views never hold
+ * on to a managed entity. Rent is in {@link FixedPoint} cents.
+ */
+public record LeaseSnapshot(Long id, Long propertyId, long monthlyRent,
+                            LocalDate startDate, LocalDate endDate) {
+
+    /**
+     * Build a snapshot from a lease change event, or null when the state lacks the property, term or rent
+     */
+    static LeaseSnapshot of(ChangeEvent change) {
+        String startDate = change.text("startDate");
+        String endDate = change.text("endDate");
+        String monthlyRent = change.text("monthlyRent");
+        Double propertyId = change.number("propertyId");
+        if (propertyId == null || startDate == null || endDate == null || monthlyRent == null) {
+            return null;
+        }
+        return new LeaseSnapshot(change.aggregateId(), propertyId.longValue(),
+                FixedPoint.of(new BigDecimal(monthlyRent)), LocalDate.parse(startDate), LocalDate.parse(endDate));
+    }
+
+    /**
+     * Build a snapshot from a {id, propertyId, monthlyRent, startDate, endDate} row
+     */
+    static LeaseSnapshot of(Object[] row) {
+        return new LeaseSnapshot((Long) row[0], (Long) row[1], FixedPoint.of((BigDecimal) row[2]),
+                (LocalDate) row[3], (LocalDate) row[4]);
+    }
+
+    /**
+     * Whether the lease term covers the given date
+     */
+    boolean isActiveOn(LocalDate date) {
+        return !startDate.isAfter(date) && !endDate.isBefore(date);
+    }
+}
@@ -0,0 +1,304 @@
+package org.example.backend.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.entity.OutboxEvent.AggregateType;
+import org.example.backend.repository.leaseRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory lease timeline holding active/expired/future counts and active rent sums.
+ *
+ * The counts follow the same date rules as the lease repository queries: a lease is
+ * active while its term covers today, expired after its end date and future before its
+ * start date. Every lease is tracked by id with the snapshot it is currently counted as,
+ * so committed lease changes from the outbox replace that snapshot rather than adding a
+ * delta, and a change delivered twice has no further effect. The timeline advances one
+ * day at a time, moving only the leases whose start or end boundary falls on that day.
+ * A full reconciliation against the database corrects any drift.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LeaseTimeline implements ChangeEventSubscriber {
+
+    private final leaseRepository leaseRepository;
+
+    /**
+     * Snapshot each lease is currently counted as, keyed by lease id
+     */
+    private final Map<Long, LeaseSnapshot> leases = new HashMap<>();
+
+    /**
+     * Ids of the tracked leases by start date and by end date, so a rollover visits only
+     * the leases crossing that day's boundary
+     */
+    private Map<LocalDate, Set<Long>> leasesByStart = new HashMap<>();
+    private Map<LocalDate, Set<Long>> leasesByEnd = new HashMap<>();
+
+    /**
+     * Monthly rent of active leases in {@link FixedPoint} cents, keyed by property id
+     */
+    private final Map<Long, Long> activeRentByProperty = new ConcurrentHashMap<>();
+
+    /**
+     * The date the counts are valid for; null until the first successful seed
+     */
+    private LocalDate asOf;
+    private long activeLeases;
+    private long expiredLeases;
+    private long futureLeases;
+    private long totalActiveRent;
+
+    /**
+     * Changes applied while a reconciliation query is running, replayed on top of its result
+     */
+    private List<Change> changesDuringReconcile;
+
+    private final ReentrantLock reconcileLock = new ReentrantLock();
+
+    /**
+     * Get lease counts by timeline status
+     */
+    public LeaseStatusCounts getStatusCounts() {
+        ensureCurrent();
+        synchronized (this) {
+            return new LeaseStatusCounts(activeLeases, expiredLeases, futureLeases);
+        }
+    }
+
+    /**
+     * Get total monthly rent of active leases
+     */
+    public BigDecimal getTotalActiveRentalIncome() {
+        return FixedPoint.toDecimal(getTotalActiveRent());
+    }
+
+    /**
+     * Get total monthly rent of active leases in cents
+     */
+    public long getTotalActiveRent() {
+        ensureCurrent();
+        synchronized (this) {
+            return totalActiveRent;
+        }
+    }
+
+    /**
+     * Get monthly rent of active leases for one property
+     */
+    public BigDecimal getActiveRentalIncome(Long propertyId) {
+        ensureCurrent();
+        return FixedPoint.toDecimal(activeRentByProperty.getOrDefault(propertyId, 0L));
+    }
+
+    /**
+     * Get monthly rent of active leases in cents keyed by property id (live read-only view)
+     */
+    public Map<Long, Long> getRentalIncomeByProperty() {
+        ensureCurrent();
+        return Collections.unmodifiableMap(activeRentByProperty);
+    }
+
+    @Override
+    public Set<AggregateType> subscribedTypes() {
+        return Set.of(AggregateType.LEASE);
+    }
+
+    /**
+     * Apply committed lease changes from the outbox
+     */
+    @Override
+    public void onChanges(List<ChangeEvent> changes) {
+        for (ChangeEvent change : changes) {
+            apply(new Change(change.aggregateId(), change.isDelete() ? null : LeaseSnapshot.of(change)));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        log.info("Seeding lease timeline");
+        reconcile();
+    }
+
+    /**
+     * Advance the timeline to today, one day boundary at a time
+     */
+    @Scheduled(cron = "${lease.timeline.rollover-cron:0 0 0 * * *}")
+    public synchronized void rollover() {
+        LocalDate today = LocalDate.now();
+        while (asOf != null && asOf.isBefore(today)) {
+            LocalDate current = asOf;
+            LocalDate next = current.plusDays(1);
+            Set<Long> moving = new HashSet<>(leasesByEnd.getOrDefault(current, Set.of()));
+            moving.addAll(leasesByStart.getOrDefault(next, Set.of()));
+            for (Long id : moving) {
+                LeaseSnapshot lease = leases.get(id);
+                remove(lease, current);
+                add(lease, next);
+            }
+            asOf = next;
+            log.info("Lease timeline rolled over to {}: {} leases started or ended", next, moving.size());
+        }
+    }
+
+    /**
+     * Replace all counts with a full classification of the leases table.
+     * Changes delivered while the query runs are replayed on top of its result.
+     */
+    @Scheduled(fixedDelayString = "${lease.timeline.reconcile-interval:PT6H}",
+            initialDelayString = "${lease.timeline.reconcile-interval:PT6H}")
+    public void reconcile() {
+        reconcileLock.lock();
+        try {
+            synchronized (this) {
+                changesDuringReconcile = new ArrayList<>();
+            }
+            List<Object[]> rows;
+            try {
+                rows = leaseRepository.findAllTimelineRows();
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    changesDuringReconcile = null;
+                }
+                throw e;
+            }
+            LocalDate today = LocalDate.now();
+            Map<Long, LeaseSnapshot> fresh = new HashMap<>();
+            Map<LocalDate, Set<Long>> byStart = new HashMap<>();
+            Map<LocalDate, Set<Long>> byEnd = new HashMap<>();
+            long active = 0;
+            long expired = 0;
+            long future = 0;
+            long total = 0;
+            Map<Long, Long> rentByProperty = new HashMap<>();
+            for (Object[] row : rows) {
+                LeaseSnapshot lease = LeaseSnapshot.of(row);
+                fresh.put(lease.id(), lease);
+                index(byStart, lease.startDate(), lease.id());
+                index(byEnd, lease.endDate(), lease.id());
+                if (lease.endDate().isBefore(today)) {
+                    expired++;
+                } else if (lease.startDate().isAfter(today)) {
+                    future++;
+                } else {
+                    active++;
+                    total = FixedPoint.add(total, lease.monthlyRent());
+                    rentByProperty.merge(lease.propertyId(), lease.monthlyRent(), FixedPoint::add);
+                }
+            }
+            synchronized (this) {
+                if (asOf != null && leases.size() != fresh.size()) {
+                    log.warn("Lease timeline drifted from database: {} leases tracked, {} stored",
+                            leases.size(), fresh.size());
+                }
+                leases.clear();
+                leases.putAll(fresh);
+                leasesByStart = byStart;
+                leasesByEnd = byEnd;
+                activeLeases = active;
+                expiredLeases = expired;
+                futureLeases = future;
+                totalActiveRent = total;
+                activeRentByProperty.keySet().retainAll(rentByProperty.keySet());
+                activeRentByProperty.putAll(rentByProperty);
+                asOf = today;
+                List<Change> replay = changesDuringReconcile;
+                changesDuringReconcile = null;
+                replay.forEach(this::apply);
+            }
+        } finally {
+            reconcileLock.unlock();
+        }
+    }
+
+    private void ensureCurrent() {
+        LocalDate current;
+        synchronized (this) {
+            current = asOf;
+        }
+        if (current != null && current.isBefore(LocalDate.now())) {
+            rollover();
+        }
+    }
+
+    private synchronized void apply(Change change) {
+        if (changesDuringReconcile != null) {
+            changesDuringReconcile.add(change);
+        }
+        if (asOf == null) {
+            return;
+        }
+        LeaseSnapshot before = change.lease() == null ? leases.remove(change.id()) : leases.put(change.id(), change.lease());
+        if (before != null) {
+            remove(before, asOf);
+            unindex(leasesByStart, before.startDate(), before.id());
+            unindex(leasesByEnd, before.endDate(), before.id());
+        }
+        if (change.lease() != null) {
+            add(change.lease(), asOf);
+            index(leasesByStart, change.lease().startDate(), change.id());
+            index(leasesByEnd, change.lease().endDate(), change.id());
+        }
+    }
+
+    private static void index(Map<LocalDate, Set<Long>> byDate, LocalDate date, Long id) {
+        byDate.computeIfAbsent(date, d -> new HashSet<>()).add(id);
+    }
+
+    private static void unindex(Map<LocalDate, Set<Long>> byDate, LocalDate date, Long id) {
+        Set<Long> ids = byDate.get(date);
+        if (ids != null && ids.remove(id) && ids.isEmpty()) {
+            byDate.remove(date);
+        }
+    }
+
+    private void add(LeaseSnapshot lease, LocalDate date) {
+        adjust(lease, date, 1);
+    }
+
+    private void remove(LeaseSnapshot lease, LocalDate date) {
+        adjust(lease, date, -1);
+    }
+
+    private void adjust(LeaseSnapshot lease, LocalDate date, int sign) {
+        if (lease.endDate().isBefore(date)) {
+            expiredLeases += sign;
+        } else if (lease.startDate().isAfter(date)) {
+            futureLeases += sign;
+        } else {
+            activeLeases += sign;
+            long rent = sign * lease.monthlyRent();
+            totalActiveRent = FixedPoint.add(totalActiveRent, rent);
+            activeRentByProperty.merge(lease.propertyId(), rent,
+                    (a, b) -> FixedPoint.add(a, b) == 0 ? null : FixedPoint.add(a, b));
+        }
+    }
+
+    /**
+     * A lease's state after a committed change; lease is null once it is deleted
+     */
+    private record Change(Long id, LeaseSnapshot lease) {
+    }
+
+    /**
+     * Lease counts by timeline status
+     */
+    public record LeaseStatusCounts(long activeLeases, long expiredLeases, long futureLeases) {
+    }
+}
@@ -0,0 +1,464 @@
+package org.example.backend.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.dto.dispatchItemDTO;
+import org.example.backend.entity.MaintenanceRequest.Category;
+import org.example.backend.entity.MaintenanceRequest.Priority;
+import org.example.backend.entity.MaintenanceRequest.RequestStatus;
+import org.example.backend.repository.maintanenceRequestRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory work-queue engine dispatching open maintenance requests to technicians.
+ *
+ * Unassigned requests wait in one concurrent skip-list per category, ordered by effective
+ * priority, then scheduled date, then age. A technician pulls the best head across the
+ * categories they cover; claiming is a lock-free remove from the skip-list, so exactly one
+ * caller wins each request and dispatchers never block each other. Claimed work moves to
+ * the technician's own queue.
+ *
+ * Waiting requests escalate one priority level per {@code maintenance.dispatch.escalate-after}
+ * and one more once their scheduled date has passed. Assignments and completions are queued
+ * and written in batched bulk updates on a short fixed delay, off the dispatch path, with
+ * an outbox event for each updated request. A group of rows whose update fails transiently
+ * is retried on later flushes up to {@code maintenance.dispatch.max-write-attempts} times;
+ * after that, or on any other failure, its writes are dropped and the engine's view of
+ * those requests is left for reconciliation to restore from the database. The engine is
+ * seeded from the database and periodically reconciled with it.
+ */
+@Component
+@Slf4j
+public class MaintenanceDispatcher {
+
+    private static final Priority[] PRIORITIES = Priority.values();
+
+    /**
+     * Statuses the engine tracks; requests in any other status leave the queues
+     */
+    private static final Set<RequestStatus> OPEN_STATUSES = EnumSet.of(RequestStatus.PENDING, RequestStatus.IN_PROGRESS);
+
+    /**
+     * Maximum number of ids per bulk update
+     */
+    private static final int ID_BATCH_SIZE = 1000;
+
+    private static final Comparator<WorkItem> DISPATCH_ORDER = Comparator
+            .comparing(WorkItem::effectivePriority, Comparator.reverseOrder())
+            .thenComparing(WorkItem::scheduledDate, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(WorkItem::createdAt, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(WorkItem::id);
+
+    private final maintanenceRequestRepository maintenanceRequestRepository;
+    private final OutboxEntityListener outboxEntityListener;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration escalateAfter;
+    private final int maxWriteAttempts;
+
+    /**
+     * Unassigned requests per category; the map itself is never modified after construction
+     */
+    private final Map<Category, ConcurrentSkipListSet<WorkItem>> queues = new EnumMap<>(Category.class);
+
+    /**
+     * Unassigned requests by id, mirroring the category queues
+     */
+    private final Map<Long, WorkItem> queued = new ConcurrentHashMap<>();
+
+    private final Map<String, ConcurrentSkipListSet<WorkItem>> technicianQueues = new ConcurrentHashMap<>();
+    private final Map<Long, Assignment> assignments = new ConcurrentHashMap<>();
+
+    /**
+     * Assignments and completions not yet written to the database
+     */
+    private final LinkedBlockingDeque<PendingWrite> pendingWrites = new LinkedBlockingDeque<>();
+
+    /**
+     * Serialises flushes and reconciliation, so a reconciliation never reads rows a flush is writing
+     */
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    public MaintenanceDispatcher(maintanenceRequestRepository maintenanceRequestRepository,
+                                 OutboxEntityListener outboxEntityListener,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${maintenance.dispatch.escalate-after:PT4H}") Duration escalateAfter,
+                                 @Value("${maintenance.dispatch.max-write-attempts:5}") int maxWriteAttempts) {
+        if (escalateAfter.isZero() || escalateAfter.isNegative()) {
+            throw new IllegalArgumentException("maintenance.dispatch.escalate-after must be positive");
+        }
+        if (maxWriteAttempts < 1) {
+            throw new IllegalArgumentException("maintenance.dispatch.max-write-attempts must be at least 1");
+        }
+        this.maxWriteAttempts = maxWriteAttempts;
+        this.maintenanceRequestRepository = maintenanceRequestRepository;
+        this.outboxEntityListener = outboxEntityListener;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.escalateAfter = escalateAfter;
+        for (Category category : Category.values()) {
+            queues.put(category, new ConcurrentSkipListSet<>(DISPATCH_ORDER));
+        }
+    }
+
+    /**
+     * Claim the most pressing unassigned request in the given categories (all when empty) for a technician
+     */
+    public Optional<dispatchItemDTO> dispatchNext(String technician, Collection<Category> categories) {
+        Collection<Category> covered = categories == null || categories.isEmpty() ? queues.keySet() : categories;
+        while (true) {
+            WorkItem best = null;
+            for (Category category : covered) {
+                WorkItem head = head(queues.get(category));
+                if (head != null && (best == null || DISPATCH_ORDER.compare(head, best) < 0)) {
+                    best = head;
+                }
+            }
+            if (best == null) {
+                return Optional.empty();
+            }
+            // Only one caller can remove a given item; losers look again. The item is recorded as
+            // assigned before it leaves the id index, so reconciliation always sees it somewhere.
+            if (queues.get(best.category()).remove(best)) {
+                assign(best, technician);
+                pendingWrites.add(new PendingWrite(best.id(), technician, RequestStatus.IN_PROGRESS, 0));
+                queued.remove(best.id(), best);
+                return Optional.of(toDto(best, technician));
+            }
+        }
+    }
+
+    /**
+     * Complete a request assigned to the technician; false when it is not assigned to them
+     */
+    public boolean complete(String technician, Long requestId) {
+        Assignment assignment = assignments.get(requestId);
+        if (assignment == null || !assignment.technician().equals(technician)) {
+            return false;
+        }
+        // The write is queued before the assignment goes, so reconciliation never finds the
+        // request both untracked and without an unflushed write, and re-adds it from its stale row
+        PendingWrite write = new PendingWrite(requestId, technician, RequestStatus.COMPLETED, 0);
+        pendingWrites.add(write);
+        if (!assignments.remove(requestId, assignment)) {
+            pendingWrites.removeLastOccurrence(write);
+            return false;
+        }
+        unassign(assignment);
+        return true;
+    }
+
+    /**
+     * Get the work assigned to a technician, most pressing first
+     */
+    public List<dispatchItemDTO> getTechnicianQueue(String technician) {
+        ConcurrentSkipListSet<WorkItem> technicianQueue = technicianQueues.get(technician);
+        if (technicianQueue == null) {
+            return List.of();
+        }
+        return technicianQueue.stream().map(item -> toDto(item, technician)).toList();
+    }
+
+    /**
+     * Get the number of unassigned requests per category
+     */
+    public Map<Category, Integer> getQueueDepths() {
+        Map<Category, Integer> depths = new EnumMap<>(Category.class);
+        queues.forEach((category, queue) -> depths.put(category, queue.size()));
+        return depths;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        log.info("Seeding maintenance dispatch queues");
+        reconcile();
+    }
+
+    /**
+     * Raise the effective priority of requests that have waited too long or are past their scheduled date
+     */
+    @Scheduled(fixedDelayString = "${maintenance.dispatch.escalation-interval:PT1M}",
+            initialDelayString = "${maintenance.dispatch.escalation-interval:PT1M}")
+    public void escalate() {
+        LocalDateTime now = LocalDateTime.now();
+        int escalated = 0;
+        for (WorkItem item : queued.values()) {
+            Priority effective = effectivePriority(item.priority(), item.scheduledDate(), item.createdAt(), now);
+            if (effective == item.effectivePriority()) {
+                continue;
+            }
+            // Losing the remove means the item was just claimed; leave it to its technician
+            ConcurrentSkipListSet<WorkItem> queue = queues.get(item.category());
+            if (queue.remove(item)) {
+                WorkItem raised = item.withEffectivePriority(effective);
+                queued.replace(item.id(), item, raised);
+                queue.add(raised);
+                escalated++;
+            }
+        }
+        if (escalated > 0) {
+            log.info("Escalated {} maintenance requests", escalated);
+        }
+    }
+
+    /**
+     * Write queued assignments and completions as bulk updates, one transaction per technician,
+     * status and id chunk, so one failing group never holds back the others
+     */
+    @Scheduled(fixedDelayString = "${maintenance.dispatch.flush-interval:PT1S}")
+    public void flush() {
+        writeLock.lock();
+        try {
+            List<PendingWrite> batch = new ArrayList<>();
+            pendingWrites.drainTo(batch);
+            if (batch.isEmpty()) {
+                return;
+            }
+            // Only the last write per request matters
+            Map<Long, PendingWrite> latest = new LinkedHashMap<>();
+            batch.forEach(write -> latest.put(write.requestId(), write));
+            Map<PendingWrite.Key, List<PendingWrite>> groups = latest.values().stream()
+                    .collect(Collectors.groupingBy(PendingWrite::key, LinkedHashMap::new, Collectors.toList()));
+            List<PendingWrite> retries = new ArrayList<>();
+            int persisted = 0;
+            for (Map.Entry<PendingWrite.Key, List<PendingWrite>> group : groups.entrySet()) {
+                List<PendingWrite> writes = group.getValue();
+                for (int from = 0; from < writes.size(); from += ID_BATCH_SIZE) {
+                    List<PendingWrite> chunk = writes.subList(from, Math.min(from + ID_BATCH_SIZE, writes.size()));
+                    try {
+                        write(group.getKey(), chunk.stream().map(PendingWrite::requestId).toList());
+                        persisted += chunk.size();
+                    } catch (RuntimeException e) {
+                        failed(group.getKey(), chunk, e, retries);
+                    }
+                }
+            }
+            // Put retries back ahead of anything queued since, preserving order
+            for (int i = retries.size() - 1; i >= 0; i--) {
+                pendingWrites.offerFirst(retries.get(i));
+            }
+            log.debug("Persisted {} maintenance dispatch updates, {} to retry", persisted, retries.size());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Pick up requests opened, assigned or closed outside the engine.
+     * Requests with unwritten changes are left alone; the flush makes the database agree.
+     */
+    @Scheduled(fixedDelayString = "${maintenance.dispatch.reconcile-interval:PT1M}",
+            initialDelayString = "${maintenance.dispatch.reconcile-interval:PT1M}")
+    public void reconcile() {
+        writeLock.lock();
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            Set<Long> open = new HashSet<>();
+            List<Object[]> untracked = new ArrayList<>();
+            for (Object[] row : maintenanceRequestRepository.findDispatchRows(OPEN_STATUSES)) {
+                Long id = (Long) row[0];
+                open.add(id);
+                if (!queued.containsKey(id) && !assignments.containsKey(id)) {
+                    untracked.add(row);
+                }
+            }
+            // Taken after the lookups above: a request completed while they ran has its write in here
+            Set<Long> unflushed = pendingWrites.stream().map(PendingWrite::requestId).collect(Collectors.toSet());
+            int added = 0;
+            for (Object[] row : untracked) {
+                Long id = (Long) row[0];
+                if (unflushed.contains(id)) {
+                    continue;
+                }
+                WorkItem item = toWorkItem(row, now);
+                String technician = (String) row[5];
+                if (technician == null || technician.isBlank()) {
+                    queued.put(id, item);
+                    queues.get(item.category()).add(item);
+                } else {
+                    assign(item, technician);
+                }
+                added++;
+            }
+            int removed = 0;
+            for (WorkItem item : queued.values()) {
+                if (!open.contains(item.id()) && !unflushed.contains(item.id())
+                        && queues.get(item.category()).remove(item)) {
+                    queued.remove(item.id(), item);
+                    removed++;
+                }
+            }
+            for (Assignment assignment : assignments.values()) {
+                Long id = assignment.item().id();
+                if (!open.contains(id) && !unflushed.contains(id) && assignments.remove(id, assignment)) {
+                    unassign(assignment);
+                    removed++;
+                }
+            }
+            log.info("Reconciled maintenance dispatch: {} added, {} removed, {} queued, {} assigned",
+                    added, removed, queued.size(), assignments.size());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void write(PendingWrite.Key key, List<Long> ids) {
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (key.status() == RequestStatus.COMPLETED) {
+                maintenanceRequestRepository.completeAll(ids, key.technician(), key.status(), now);
+            } else {
+                maintenanceRequestRepository.assignAll(ids, key.technician(), key.status(), now);
+            }
+            outboxEntityListener.captureBulkUpdate(maintenanceRequestRepository.findAllById(ids));
+        });
+    }
+
+    /**
+     * Queue a failed group for retry while attempts remain and the failure may pass; otherwise
+     * drop its writes and forget the engine's claims on those requests, so the next
+     * reconciliation restores them from the database
+     */
+    private void failed(PendingWrite.Key key, List<PendingWrite> writes, RuntimeException e, List<PendingWrite> retries) {
+        int attempts = writes.stream().mapToInt(PendingWrite::attempts).max().orElse(0) + 1;
+        if (isTransient(e) && attempts < maxWriteAttempts) {
+            log.warn("Failed to persist {} maintenance dispatch updates for {} (attempt {} of {}), retrying",
+                    writes.size(), key, attempts, maxWriteAttempts, e);
+            writes.forEach(write -> retries.add(write.retried()));
+            return;
+        }
+        log.error("Dropping {} maintenance dispatch updates for {} after {} attempts: {}",
+                writes.size(), key, attempts, writes.stream().map(PendingWrite::requestId).toList(), e);
+        for (PendingWrite write : writes) {
+            Assignment assignment = assignments.get(write.requestId());
+            if (assignment != null && assignment.technician().equals(key.technician())
+                    && assignments.remove(write.requestId(), assignment)) {
+                unassign(assignment);
+            }
+        }
+    }
+
+    private static boolean isTransient(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof CannotCreateTransactionException;
+    }
+
+    private void assign(WorkItem item, String technician) {
+        assignments.put(item.id(), new Assignment(item, technician));
+        technicianQueues.computeIfAbsent(technician, name -> new ConcurrentSkipListSet<>(DISPATCH_ORDER)).add(item);
+    }
+
+    private void unassign(Assignment assignment) {
+        ConcurrentSkipListSet<WorkItem> technicianQueue = technicianQueues.get(assignment.technician());
+        if (technicianQueue != null) {
+            technicianQueue.remove(assignment.item());
+        }
+    }
+
+    private WorkItem toWorkItem(Object[] row, LocalDateTime now) {
+        Category category = row[2] == null ? Category.OTHER : (Category) row[2];
+        Priority priority = row[3] == null ? Priority.MEDIUM : (Priority) row[3];
+        LocalDateTime scheduledDate = (LocalDateTime) row[6];
+        LocalDateTime createdAt = (LocalDateTime) row[7];
+        return new WorkItem((Long) row[0], (Long) row[1], category, priority,
+                effectivePriority(priority, scheduledDate, createdAt, now), scheduledDate, createdAt);
+    }
+
+    private Priority effectivePriority(Priority priority, LocalDateTime scheduledDate,
+                                       LocalDateTime createdAt, LocalDateTime now) {
+        long level = priority.ordinal();
+        if (createdAt != null && createdAt.isBefore(now)) {
+            level += Duration.between(createdAt, now).toMillis() / escalateAfter.toMillis();
+        }
+        if (scheduledDate != null && scheduledDate.isBefore(now)) {
+            level++;
+        }
+        return PRIORITIES[(int) Math.min(level, PRIORITIES.length - 1)];
+    }
+
+    private static WorkItem head(ConcurrentSkipListSet<WorkItem> queue) {
+        try {
+            return queue.first();
+        } catch (NoSuchElementException e) {
+            return null;
+        }
+    }
+
+    private static dispatchItemDTO toDto(WorkItem item, String technician) {
+        return dispatchItemDTO.builder()
+                .requestId(item.id())
+                .propertyId(item.propertyId())
+                .category(item.category())
+                .priority(item.priority())
+                .effectivePriority(item.effectivePriority())
+                .assignedTo(technician)
+                .scheduledDate(item.scheduledDate())
+                .createdAt(item.createdAt())
+                .overdue(item.scheduledDate() != null && item.scheduledDate().isBefore(LocalDateTime.now()))
+                .build();
+    }
+
+    /**
+     * Immutable queue entry; escalation replaces it rather than mutating the sort key
+     */
+    private record WorkItem(Long id, Long propertyId, Category category, Priority priority,
+                            Priority effectivePriority, LocalDateTime scheduledDate, LocalDateTime createdAt) {
+
+        WorkItem withEffectivePriority(Priority raised) {
+            return new WorkItem(id, propertyId, category, priority, raised, scheduledDate, createdAt);
+        }
+    }
+
+    private record Assignment(WorkItem item, String technician) {
+    }
+
+    /**
+     * A write not yet persisted; attempts counts the flushes it has already failed in
+     */
+    private record PendingWrite(Long requestId, String technician, RequestStatus status, int attempts) {
+
+        Key key() {
+            return new Key(technician, status);
+        }
+
+        PendingWrite retried() {
+            return new PendingWrite(requestId, technician, status, attempts + 1);
+        }
+
+        record Key(String technician, RequestStatus status) {
+        }
+    }
+}
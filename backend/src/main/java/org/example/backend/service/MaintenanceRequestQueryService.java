@@ -0,0 +1,58 @@
+package org.example.backend.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.backend.dto.keysetPageDTO;
+import org.example.backend.dto.maintenanceRequestDTO;
+import org.example.backend.entity.MaintenanceRequest;
+import org.example.backend.entity.MaintenanceRequest.Priority;
+import org.example.backend.entity.MaintenanceRequest.RequestStatus;
+import org.example.backend.repository.KeysetSupport;
+import org.example.backend.repository.MaintenanceRequestSpecifications;
+import org.example.backend.repository.maintanenceRequestRepository;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Reads maintenance requests by keyset, continuing from the opaque tokens of
+ * {@link ContinuationTokens} as {@link TenantQueryService} does for tenants.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MaintenanceRequestQueryService {
+
+    private final maintanenceRequestRepository maintenanceRequestRepository;
+
+    /**
+     * Get a window of maintenance requests, optionally of one property, status, priority and
+     * technician. Each window costs the same regardless of depth; the total is only counted on request.
+     */
+    public keysetPageDTO<maintenanceRequestDTO> scrollMaintenanceRequests(Long propertyId, RequestStatus status,
+                                                                          Priority priority, String assignedTechnician,
+                                                                          String sortProperty, Sort.Direction direction,
+                                                                          String continuationToken, int size,
+                                                                          boolean includeTotal) {
+        Sort sort = KeysetSupport.stable(Sort.by(direction, sortProperty),
+                maintanenceRequestRepository.KEYSET_SORT_PROPERTIES);
+        KeysetScrollPosition position = ContinuationTokens.decode(sort, continuationToken);
+
+        Window<MaintenanceRequest> window = maintenanceRequestRepository.scrollWithFilters(propertyId, status,
+                priority, assignedTechnician, position, sort, size);
+        Long total = includeTotal
+                ? maintenanceRequestRepository.count(MaintenanceRequestSpecifications.withFilters(propertyId,
+                        status, priority, assignedTechnician))
+                : null;
+        return keysetPageDTO.<maintenanceRequestDTO>builder()
+                .content(window.getContent().stream()
+                        .map(request -> PropertyDetailService.toDTO(request, request.getProperty()))
+                        .toList())
+                .size(window.size())
+                .hasNext(window.hasNext())
+                .nextToken(ContinuationTokens.next(sort, window))
+                .totalElements(total)
+                .build();
+    }
+}
@@ -0,0 +1,204 @@
+package org.example.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.example.backend.entity.Lease;
+import org.example.backend.entity.MaintenanceRequest;
+import org.example.backend.entity.OutboxEvent.AggregateType;
+import org.example.backend.entity.OutboxEvent.ChangeType;
+import org.example.backend.entity.Property;
+import org.example.backend.entity.Tenant;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.type.Type;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Appends an outbox row for every insert, update and delete of a property, tenant, lease
+ * or maintenance request, in the same transaction as the change.
+ *
+ * Registered as a Hibernate post-insert/update/delete listener. Changes are buffered per
+ * session and written as one JDBC batch on the session's connection just before the
+ * transaction completes, after the final flush, so a rolled-back change never reaches the
+ * outbox and a committed one always does. Once the transaction commits the publisher is
+ * asked to poll. Bulk JPQL updates bypass entity events, so their callers report the
+ * updated rows through {@link #captureBulkUpdate}.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEntityListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private static final Map<Class<?>, AggregateType> AGGREGATE_TYPES = Map.of(
+            Property.class, AggregateType.PROPERTY,
+            Tenant.class, AggregateType.TENANT,
+            Lease.class, AggregateType.LEASE,
+            MaintenanceRequest.class, AggregateType.MAINTENANCE_REQUEST);
+
+    private static final String INSERT_SQL = "INSERT INTO outbox_events " +
+            "(aggregate_type, aggregate_id, change_type, payload, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ObjectMapper objectMapper;
+    private final OutboxPublisher outboxPublisher;
+
+    /**
+     * Changes captured per session, written before its transaction completes
+     */
+    private final Map<EventSource, List<Pending>> buffers = new ConcurrentHashMap<>();
+
+    /**
+     * Capture entities changed by a bulk JPQL update as updates, in the current transaction.
+     * They must have been loaded after the update ran, so they carry the new state.
+     */
+    public void captureBulkUpdate(Collection<?> entities) {
+        if (entities.isEmpty()) {
+            return;
+        }
+        EventSource session = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory)
+                .unwrap(EventSource.class);
+        for (Object entity : entities) {
+            EntityPersister persister = session.getEntityPersister(null, entity);
+            capture(session, persister, persister.getIdentifier(entity, session), persister.getValues(entity),
+                    ChangeType.UPDATED);
+        }
+    }
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        capture(event.getSession(), event.getPersister(), event.getId(), event.getState(), ChangeType.CREATED);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        capture(event.getSession(), event.getPersister(), event.getId(), event.getState(), ChangeType.UPDATED);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        capture(event.getSession(), event.getPersister(), event.getId(), event.getDeletedState(), ChangeType.DELETED);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void capture(EventSource session, EntityPersister persister, Object id, Object[] state, ChangeType change) {
+        AggregateType type = AGGREGATE_TYPES.get(persister.getMappedClass());
+        if (type == null) {
+            return;
+        }
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(toMap(session, persister, state));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialise " + type + " " + id + " for the outbox", e);
+        }
+        buffer(session).add(new Pending(type, (Long) id, change, payload, LocalDateTime.now()));
+    }
+
+    private List<Pending> buffer(EventSource session) {
+        List<Pending> buffer = buffers.get(session);
+        if (buffer == null) {
+            List<Pending> created = new ArrayList<>();
+            buffers.put(session, created);
+            session.getActionQueue().registerProcess((BeforeTransactionCompletionProcess) s -> write(s, created));
+            session.getActionQueue().registerProcess((AfterTransactionCompletionProcess) (success, s) -> {
+                buffers.remove(session);
+                if (success) {
+                    outboxPublisher.requestPoll();
+                }
+            });
+            buffer = created;
+        }
+        return buffer;
+    }
+
+    private void write(SessionImplementor session, List<Pending> pending) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        session.doWork(connection -> {
+            try (PreparedStatement insert = connection.prepareStatement(INSERT_SQL)) {
+                for (Pending event : pending) {
+                    insert.setString(1, event.type().name());
+                    insert.setLong(2, event.id());
+                    insert.setString(3, event.change().name());
+                    insert.setString(4, event.payload());
+                    insert.setTimestamp(5, Timestamp.valueOf(event.createdAt()));
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+        });
+    }
+
+    /**
+     * Basic fields by name; associations become "{name}Id" and collections are skipped
+     */
+    private static Map<String, Object> toMap(EventSource session, EntityPersister persister, Object[] state) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        if (state == null) {
+            return fields;
+        }
+        String[] names = persister.getPropertyNames();
+        Type[] types = persister.getPropertyTypes();
+        for (int i = 0; i < names.length; i++) {
+            Object value = state[i];
+            if (types[i].isCollectionType()) {
+                continue;
+            }
+            if (types[i].isEntityType()) {
+                Object associatedId = null;
+                if (value instanceof HibernateProxy proxy) {
+                    associatedId = proxy.getHibernateLazyInitializer().getIdentifier();
+                } else if (value != null) {
+                    associatedId = session.getEntityPersister(null, value).getIdentifier(value, session);
+                }
+                fields.put(names[i] + "Id", associatedId);
+            } else {
+                fields.put(names[i], value);
+            }
+        }
+        return fields;
+    }
+
+    private record Pending(AggregateType type, Long id, ChangeType change, String payload, LocalDateTime createdAt) {
+    }
+}
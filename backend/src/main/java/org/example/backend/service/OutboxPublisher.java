@@ -0,0 +1,134 @@
+package org.example.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.entity.OutboxEvent;
+import org.example.backend.repository.outboxEventRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Moves pending outbox rows onto the {@link ChangeEventBus}, oldest first.
+ *
+ * Polls on a short fixed delay and immediately after any transaction that appended rows
+ * commits. A batch is marked published once every subscriber has queued it; if the process
+ * dies in between, the batch is delivered again on restart, which subscribers tolerate.
+ * One publisher per database is assumed, since each event goes to the node that marks it.
+ * Published rows are purged after {@code outbox.retention}.
+ */
+@Component
+@Slf4j
+public class OutboxPublisher {
+
+    private static final TypeReference<Map<String, Object>> STATE_TYPE = new TypeReference<>() {
+    };
+
+    private final outboxEventRepository outboxEventRepository;
+    private final ChangeEventBus changeEventBus;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final AsyncTaskExecutor executor;
+    private final int batchSize;
+    private final Duration retention;
+
+    private final ReentrantLock pollLock = new ReentrantLock();
+    private final AtomicBoolean pollRequested = new AtomicBoolean();
+
+    public OutboxPublisher(outboxEventRepository outboxEventRepository,
+                           ChangeEventBus changeEventBus,
+                           ObjectMapper objectMapper,
+                           PlatformTransactionManager transactionManager,
+                           @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                           AsyncTaskExecutor executor,
+                           @Value("${outbox.batch-size:500}") int batchSize,
+                           @Value("${outbox.retention:P7D}") Duration retention) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.changeEventBus = changeEventBus;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = executor;
+        this.batchSize = batchSize;
+        this.retention = retention;
+    }
+
+    /**
+     * Poll as soon as possible, e.g. right after a transaction that appended events commits
+     */
+    public void requestPoll() {
+        if (pollRequested.compareAndSet(false, true)) {
+            executor.execute(this::poll);
+        }
+    }
+
+    /**
+     * Publish every pending event, one batch at a time
+     */
+    @Scheduled(fixedDelayString = "${outbox.poll-interval:PT1S}")
+    public void poll() {
+        pollRequested.set(false);
+        if (!pollLock.tryLock()) {
+            return;
+        }
+        try {
+            int published;
+            do {
+                published = publishBatch();
+            } while (published == batchSize);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            pollLock.unlock();
+        }
+    }
+
+    /**
+     * Delete published events older than the retention period
+     */
+    @Scheduled(cron = "${outbox.purge-cron:0 30 3 * * *}")
+    public void purge() {
+        int deleted = transactionTemplate.execute(status ->
+                outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minus(retention)));
+        log.info("Purged {} published outbox events", deleted);
+    }
+
+    private int publishBatch() throws InterruptedException {
+        List<OutboxEvent> batch = outboxEventRepository.findUnpublished(PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        changeEventBus.publish(batch.stream().map(this::toChange).toList());
+        List<Long> ids = batch.stream().map(OutboxEvent::getId).toList();
+        transactionTemplate.executeWithoutResult(status ->
+                outboxEventRepository.markPublished(ids, LocalDateTime.now()));
+        log.debug("Published {} outbox events up to {}", batch.size(), ids.get(ids.size() - 1));
+        return batch.size();
+    }
+
+    private ChangeEvent toChange(OutboxEvent event) {
+        Map<String, Object> state;
+        try {
+            state = objectMapper.readValue(event.getPayload(), STATE_TYPE);
+        } catch (JsonProcessingException e) {
+            log.warn("Unreadable payload on outbox event {}, publishing without state", event.getId());
+            state = Map.of();
+        }
+        return new ChangeEvent(event.getId(), event.getAggregateType(), event.getAggregateId(),
+                event.getChangeType(), state);
+    }
+}
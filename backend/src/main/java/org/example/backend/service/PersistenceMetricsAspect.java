@@ -0,0 +1,161 @@
+package org.example.backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every repository method and every {@link PropertyService} method.
+ *
+ * Each call records a latency timer, the number of rows returned (collections, pages,
+ * slices and optionals) and the number of SQL statements it caused, all tagged by layer,
+ * type and method. A service call whose statement count grows with its row count is the
+ * signature of an N+1 load on a lazy collection. Calls over the slow-call or statement
+ * threshold are logged and published as {@link SlowPersistenceCallEvent}.
+ */
+@Aspect
+@Component
+@Slf4j
+public class PersistenceMetricsAspect {
+
+    private static final String REPOSITORY = "repository";
+    private static final String SERVICE = "service";
+
+    private final MeterRegistry meterRegistry;
+    private final StatementCounter statementCounter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long slowCallNanos;
+    private final long statementThreshold;
+
+    private final Map<String, CallMeters> meters = new ConcurrentHashMap<>();
+
+    public PersistenceMetricsAspect(MeterRegistry meterRegistry,
+                                    StatementCounter statementCounter,
+                                    ApplicationEventPublisher eventPublisher,
+                                    @Value("${persistence.metrics.slow-call-threshold:PT0.5S}") Duration slowCallThreshold,
+                                    @Value("${persistence.metrics.statement-threshold:25}") long statementThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.statementCounter = statementCounter;
+        this.eventPublisher = eventPublisher;
+        this.slowCallNanos = slowCallThreshold.toNanos();
+        this.statementThreshold = statementThreshold;
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(REPOSITORY, repositoryName(joinPoint.getTarget()), joinPoint);
+    }
+
+    @Around("execution(public * org.example.backend.service.PropertyService.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(SERVICE, PropertyService.class.getSimpleName(), joinPoint);
+    }
+
+    private Object time(String layer, String type, ProceedingJoinPoint joinPoint) throws Throwable {
+        String method = joinPoint.getSignature().getName();
+        CallMeters callMeters = meters.computeIfAbsent(layer + ':' + type + '.' + method,
+                key -> new CallMeters(layer, type, method));
+        long statementsBefore = statementCounter.current();
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            Object result = joinPoint.proceed();
+            failed = false;
+            long rows = rowCount(result);
+            if (rows >= 0) {
+                callMeters.rows.record(rows);
+            }
+            return result;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            long statements = statementCounter.current() - statementsBefore;
+            (failed ? callMeters.failed : callMeters.succeeded).record(elapsed, TimeUnit.NANOSECONDS);
+            callMeters.statements.record(statements);
+            if (elapsed > slowCallNanos || statements > statementThreshold) {
+                callMeters.slow.increment();
+                Duration duration = Duration.ofNanos(elapsed);
+                log.warn("Slow {} call {}.{}: {} ms, {} statements",
+                        layer, type, method, duration.toMillis(), statements);
+                eventPublisher.publishEvent(new SlowPersistenceCallEvent(layer, type, method, duration, statements));
+            }
+        }
+    }
+
+    /**
+     * Rows carried by a result, or -1 for scalars and other shapes
+     */
+    private static long rowCount(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        return -1;
+    }
+
+    /**
+     * Spring Data repositories are proxies; name them after the application interface they implement
+     */
+    private static String repositoryName(Object target) {
+        return Arrays.stream(AopProxyUtils.proxiedUserInterfaces(target))
+                .filter(Repository.class::isAssignableFrom)
+                .findFirst()
+                .map(Class::getSimpleName)
+                .orElseGet(() -> target.getClass().getSimpleName());
+    }
+
+    private final class CallMeters {
+        private final Timer succeeded;
+        private final Timer failed;
+        private final DistributionSummary rows;
+        private final DistributionSummary statements;
+        private final Counter slow;
+
+        private CallMeters(String layer, String type, String method) {
+            this.succeeded = timer(layer, type, method, "success");
+            this.failed = timer(layer, type, method, "error");
+            this.rows = DistributionSummary.builder("persistence.rows")
+                    .description("Rows returned per call")
+                    .tags("layer", layer, "type", type, "method", method)
+                    .register(meterRegistry);
+            this.statements = DistributionSummary.builder("persistence.statements")
+                    .description("SQL statements prepared per call, including lazy loads")
+                    .tags("layer", layer, "type", type, "method", method)
+                    .register(meterRegistry);
+            this.slow = Counter.builder("persistence.slow.calls")
+                    .description("Calls over the slow-call or statement threshold")
+                    .tags("layer", layer, "type", type, "method", method)
+                    .register(meterRegistry);
+        }
+
+        private Timer timer(String layer, String type, String method, String outcome) {
+            return Timer.builder("persistence.calls")
+                    .description("Repository and service call latency")
+                    .tags("layer", layer, "type", type, "method", method, "outcome", outcome)
+                    .register(meterRegistry);
+        }
+    }
+}
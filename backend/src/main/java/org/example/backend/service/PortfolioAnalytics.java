@@ -0,0 +1,554 @@
+package org.example.backend.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.dto.analyticsResultDTO;
+import org.example.backend.entity.OutboxEvent.AggregateType;
+import org.example.backend.repository.leaseRepository;
+import org.example.backend.repository.propertyRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Columnar in-memory snapshot of the portfolio for ad-hoc filter, group-by and aggregate
+ * queries.
+ *
+ * One row per property, held as parallel primitive columns: dictionary-encoded type,
+ * occupancy and ESG score as doubles (NaN when not recorded), and the rent in cents and
+ * count of its active leases. Queries scan the columns in blocks of {@link #BLOCK_ROWS}:
+ * each predicate narrows a selection vector in a tight single-column loop, then the
+ * survivors are aggregated per group. Chunks of blocks run in parallel on the common
+ * fork-join pool. The snapshot is rebuilt from the database at startup and on a fixed
+ * delay, which also picks up leases starting or ending, and kept in sync with property
+ * and lease writes in between.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PortfolioAnalytics implements ChangeEventSubscriber {
+
+    /**
+     * Rows filtered and aggregated together; small enough for the selection vector to stay in L1
+     */
+    static final int BLOCK_ROWS = 1024;
+
+    /**
+     * Rows per parallel task
+     */
+    static final int CHUNK_ROWS = 64 * BLOCK_ROWS;
+
+    private static final int BANDS = 10;
+    private static final double BAND_WIDTH = 10.0;
+
+    private final propertyRepository propertyRepository;
+    private final leaseRepository leaseRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Snapshot snapshot = new Snapshot(0);
+    private volatile boolean ready;
+
+    /**
+     * Deltas committed while a rebuild query is running, replayed on top of its result
+     */
+    private List<Runnable> deltasDuringRebuild;
+
+    /**
+     * Whether the snapshot has been built and can answer queries
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Filter the snapshot and aggregate the matching properties by the query's dimension
+     */
+    public analyticsResultDTO query(AnalyticsQuery query) {
+        long start = System.nanoTime();
+        lock.readLock().lock();
+        try {
+            Snapshot current = snapshot;
+            Scan scan = new Scan(current, query);
+            int size = current.size;
+            int chunks = (size + CHUNK_ROWS - 1) / CHUNK_ROWS;
+            Partial total = chunks <= 1
+                    ? scan.run(0, size)
+                    : IntStream.range(0, chunks).parallel()
+                    .mapToObj(chunk -> scan.run(chunk * CHUNK_ROWS, Math.min(size, (chunk + 1) * CHUNK_ROWS)))
+                    .reduce(Partial::merge)
+                    .orElseThrow();
+            return analyticsResultDTO.builder()
+                    .groupBy(query.groupBy().name())
+                    .scannedProperties(size)
+                    .matchedProperties(Arrays.stream(total.properties).sum())
+                    .groups(toGroups(current, query.groupBy(), total))
+                    .elapsedMicros((System.nanoTime() - start) / 1_000)
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Set<AggregateType> subscribedTypes() {
+        return Set.of(AggregateType.PROPERTY, AggregateType.LEASE);
+    }
+
+    /**
+     * Apply committed property and lease changes from the outbox
+     */
+    @Override
+    public void onChanges(List<ChangeEvent> changes) {
+        LocalDate today = LocalDate.now();
+        for (ChangeEvent change : changes) {
+            long id = change.aggregateId();
+            if (change.aggregateType() == AggregateType.PROPERTY) {
+                if (change.isDelete()) {
+                    applyDelta(() -> snapshot.removeProperty(id));
+                } else {
+                    String type = change.text("propertyType");
+                    double occupancy = orNaN(change.number("occupancyRate"));
+                    double esg = orNaN(change.number("esgScore"));
+                    applyDelta(() -> snapshot.putProperty(id, type, occupancy, esg));
+                }
+            } else if (!change.isDelete() && isActiveOn(change, today)) {
+                long propertyId = change.number("propertyId").longValue();
+                long rentCents = FixedPoint.of(new BigDecimal(change.text("monthlyRent")));
+                applyDelta(() -> snapshot.putLease(id, propertyId, rentCents));
+            } else {
+                applyDelta(() -> snapshot.removeLease(id));
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        rebuild();
+    }
+
+    /**
+     * Rebuild the whole snapshot from the database
+     */
+    @Scheduled(fixedDelayString = "${analytics.snapshot.rebuild-interval:PT1H}",
+            initialDelayString = "${analytics.snapshot.rebuild-interval:PT1H}")
+    public void rebuild() {
+        long start = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            deltasDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        Snapshot rebuilt;
+        try {
+            List<Object[]> properties = propertyRepository.findAllAnalyticsRows();
+            List<Object[]> leases = leaseRepository.findAnalyticsRowsActiveOn(LocalDate.now());
+            rebuilt = new Snapshot(properties.size());
+            for (Object[] row : properties) {
+                rebuilt.putProperty((Long) row[0], (String) row[1], toDouble(row[2]), toDouble(row[3]));
+            }
+            for (Object[] row : leases) {
+                rebuilt.putLease((Long) row[0], (Long) row[1], FixedPoint.of((BigDecimal) row[2]));
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                deltasDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+        lock.writeLock().lock();
+        try {
+            snapshot = rebuilt;
+            deltasDuringRebuild.forEach(Runnable::run);
+            deltasDuringRebuild = null;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Built portfolio analytics snapshot with {} properties and {} active leases in {} ms",
+                rebuilt.size, rebuilt.leases.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void applyDelta(Runnable delta) {
+        lock.writeLock().lock();
+        try {
+            delta.run();
+            if (deltasDuringRebuild != null) {
+                deltasDuringRebuild.add(delta);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static List<analyticsResultDTO.Group> toGroups(Snapshot snapshot, AnalyticsDimension groupBy,
+                                                            Partial total) {
+        List<analyticsResultDTO.Group> groups = new ArrayList<>();
+        for (int g = 0; g < total.properties.length; g++) {
+            if (total.properties[g] == 0) {
+                continue;
+            }
+            groups.add(analyticsResultDTO.Group.builder()
+                    .key(groupKey(snapshot, groupBy, g))
+                    .properties(total.properties[g])
+                    .activeLeases(total.leases[g])
+                    .monthlyRent(FixedPoint.toDecimal(total.rentCents[g]))
+                    .averageOccupancy(total.occupancyCount[g] == 0 ? null
+                            : total.occupancySum[g] / total.occupancyCount[g])
+                    .averageEsgScore(total.esgCount[g] == 0 ? null : total.esgSum[g] / total.esgCount[g])
+                    .build());
+        }
+        if (groupBy == AnalyticsDimension.PROPERTY_TYPE) {
+            groups.sort(Comparator.comparing(analyticsResultDTO.Group::getKey,
+                    Comparator.nullsLast(Comparator.naturalOrder())));
+        }
+        return groups;
+    }
+
+    private static String groupKey(Snapshot snapshot, AnalyticsDimension groupBy, int group) {
+        return switch (groupBy) {
+            case NONE -> "ALL";
+            case PROPERTY_TYPE -> snapshot.typeNames.get(group);
+            case OCCUPANCY_BAND, ESG_BAND -> group == BANDS ? null
+                    : (int) (group * BAND_WIDTH) + "-" + (int) ((group + 1) * BAND_WIDTH);
+        };
+    }
+
+    private static int groupCount(Snapshot snapshot, AnalyticsDimension groupBy) {
+        return switch (groupBy) {
+            case NONE -> 1;
+            case PROPERTY_TYPE -> snapshot.typeNames.size();
+            case OCCUPANCY_BAND, ESG_BAND -> BANDS + 1;
+        };
+    }
+
+    /**
+     * Band index of a value, with a final band for values not recorded
+     */
+    private static int band(double value) {
+        if (Double.isNaN(value)) {
+            return BANDS;
+        }
+        return Math.max(0, Math.min(BANDS - 1, (int) (value / BAND_WIDTH)));
+    }
+
+    private static boolean isActiveOn(ChangeEvent change, LocalDate day) {
+        String startDate = change.text("startDate");
+        String endDate = change.text("endDate");
+        return startDate != null && endDate != null
+                && !LocalDate.parse(startDate).isAfter(day) && !LocalDate.parse(endDate).isBefore(day);
+    }
+
+    private static double orNaN(Double value) {
+        return value == null ? Double.NaN : value;
+    }
+
+    private static double toDouble(Object value) {
+        return value == null ? Double.NaN : ((BigDecimal) value).doubleValue();
+    }
+
+    /**
+     * One query's scan over a snapshot; {@link #run} is called concurrently for disjoint row ranges
+     */
+    private static final class Scan {
+        private final Snapshot snapshot;
+        private final AnalyticsDimension groupBy;
+        private final int groups;
+        private final boolean[] typeAllowed;
+        private final boolean filtersOccupancy;
+        private final double minOccupancy;
+        private final double maxOccupancy;
+        private final boolean filtersEsg;
+        private final double minEsg;
+        private final double maxEsg;
+
+        Scan(Snapshot snapshot, AnalyticsQuery query) {
+            this.snapshot = snapshot;
+            this.groupBy = query.groupBy();
+            this.groups = groupCount(snapshot, groupBy);
+            this.typeAllowed = allowedTypes(snapshot, query.propertyTypes());
+            this.filtersOccupancy = query.filtersOccupancy();
+            this.minOccupancy = query.minOccupancy() == null ? Double.NEGATIVE_INFINITY : query.minOccupancy();
+            this.maxOccupancy = query.maxOccupancy() == null ? Double.POSITIVE_INFINITY : query.maxOccupancy();
+            this.filtersEsg = query.filtersEsg();
+            this.minEsg = query.minEsg() == null ? Double.NEGATIVE_INFINITY : query.minEsg();
+            this.maxEsg = query.maxEsg() == null ? Double.POSITIVE_INFINITY : query.maxEsg();
+        }
+
+        Partial run(int from, int to) {
+            Partial partial = new Partial(groups);
+            int[] selection = new int[BLOCK_ROWS];
+            int[] groupIds = new int[BLOCK_ROWS];
+            for (int blockStart = from; blockStart < to; blockStart += BLOCK_ROWS) {
+                int blockEnd = Math.min(to, blockStart + BLOCK_ROWS);
+                int selected = 0;
+                for (int row = blockStart; row < blockEnd; row++) {
+                    selection[selected++] = row;
+                }
+                if (typeAllowed != null) {
+                    selected = filterTypes(selection, selected);
+                }
+                if (filtersOccupancy) {
+                    selected = filterRange(snapshot.occupancy, selection, selected, minOccupancy, maxOccupancy);
+                }
+                if (filtersEsg) {
+                    selected = filterRange(snapshot.esg, selection, selected, minEsg, maxEsg);
+                }
+                assignGroups(selection, selected, groupIds);
+                aggregate(selection, groupIds, selected, partial);
+            }
+            return partial;
+        }
+
+        private int filterTypes(int[] selection, int selected) {
+            int[] types = snapshot.types;
+            int kept = 0;
+            for (int k = 0; k < selected; k++) {
+                int row = selection[k];
+                selection[kept] = row;
+                kept += typeAllowed[types[row]] ? 1 : 0;
+            }
+            return kept;
+        }
+
+        /**
+         * Keep rows whose value lies within the bounds; NaN never does
+         */
+        private static int filterRange(double[] column, int[] selection, int selected, double min, double max) {
+            int kept = 0;
+            for (int k = 0; k < selected; k++) {
+                int row = selection[k];
+                double value = column[row];
+                selection[kept] = row;
+                kept += value >= min && value <= max ? 1 : 0;
+            }
+            return kept;
+        }
+
+        private void assignGroups(int[] selection, int selected, int[] groupIds) {
+            switch (groupBy) {
+                case NONE -> Arrays.fill(groupIds, 0, selected, 0);
+                case PROPERTY_TYPE -> {
+                    for (int k = 0; k < selected; k++) {
+                        groupIds[k] = snapshot.types[selection[k]];
+                    }
+                }
+                case OCCUPANCY_BAND -> {
+                    for (int k = 0; k < selected; k++) {
+                        groupIds[k] = band(snapshot.occupancy[selection[k]]);
+                    }
+                }
+                case ESG_BAND -> {
+                    for (int k = 0; k < selected; k++) {
+                        groupIds[k] = band(snapshot.esg[selection[k]]);
+                    }
+                }
+            }
+        }
+
+        private void aggregate(int[] selection, int[] groupIds, int selected, Partial partial) {
+            for (int k = 0; k < selected; k++) {
+                int row = selection[k];
+                int group = groupIds[k];
+                partial.properties[group]++;
+                partial.leases[group] += snapshot.leaseCounts[row];
+                partial.rentCents[group] += snapshot.rentCents[row];
+                double occupancy = snapshot.occupancy[row];
+                if (!Double.isNaN(occupancy)) {
+                    partial.occupancySum[group] += occupancy;
+                    partial.occupancyCount[group]++;
+                }
+                double esg = snapshot.esg[row];
+                if (!Double.isNaN(esg)) {
+                    partial.esgSum[group] += esg;
+                    partial.esgCount[group]++;
+                }
+            }
+        }
+
+        /**
+         * Dictionary codes of the requested types, or null when every type is wanted
+         */
+        private static boolean[] allowedTypes(Snapshot snapshot, Set<String> propertyTypes) {
+            if (propertyTypes == null || propertyTypes.isEmpty()) {
+                return null;
+            }
+            Set<String> wanted = propertyTypes.stream()
+                    .map(type -> type.toLowerCase(Locale.ROOT))
+                    .collect(Collectors.toSet());
+            boolean[] allowed = new boolean[snapshot.typeNames.size()];
+            for (int code = 0; code < allowed.length; code++) {
+                String name = snapshot.typeNames.get(code);
+                allowed[code] = name != null && wanted.contains(name.toLowerCase(Locale.ROOT));
+            }
+            return allowed;
+        }
+    }
+
+    /**
+     * Per-group aggregates over part of the rows
+     */
+    private static final class Partial {
+        final long[] properties;
+        final long[] leases;
+        final long[] rentCents;
+        final double[] occupancySum;
+        final long[] occupancyCount;
+        final double[] esgSum;
+        final long[] esgCount;
+
+        Partial(int groups) {
+            properties = new long[groups];
+            leases = new long[groups];
+            rentCents = new long[groups];
+            occupancySum = new double[groups];
+            occupancyCount = new long[groups];
+            esgSum = new double[groups];
+            esgCount = new long[groups];
+        }
+
+        Partial merge(Partial other) {
+            for (int g = 0; g < properties.length; g++) {
+                properties[g] += other.properties[g];
+                leases[g] += other.leases[g];
+                rentCents[g] += other.rentCents[g];
+                occupancySum[g] += other.occupancySum[g];
+                occupancyCount[g] += other.occupancyCount[g];
+                esgSum[g] += other.esgSum[g];
+                esgCount[g] += other.esgCount[g];
+            }
+            return this;
+        }
+    }
+
+    /**
+     * The columns, the type dictionary and the active leases behind them.
+     * Deleting a property moves the last row into its slot, so rows stay dense.
+     */
+    private static final class Snapshot {
+        long[] ids;
+        int[] types;
+        double[] occupancy;
+        double[] esg;
+        long[] rentCents;
+        int[] leaseCounts;
+        int size;
+
+        final Map<Long, Integer> rowById = new HashMap<>();
+        final List<String> typeNames = new ArrayList<>();
+        final Map<String, Integer> typeCodes = new HashMap<>();
+        final Map<Long, ActiveLease> leases = new HashMap<>();
+
+        Snapshot(int capacity) {
+            int length = Math.max(16, capacity);
+            ids = new long[length];
+            types = new int[length];
+            occupancy = new double[length];
+            esg = new double[length];
+            rentCents = new long[length];
+            leaseCounts = new int[length];
+        }
+
+        void putProperty(long id, String type, double occupancyRate, double esgScore) {
+            Integer row = rowById.get(id);
+            int index = row == null ? append(id) : row;
+            types[index] = code(type);
+            occupancy[index] = occupancyRate;
+            esg[index] = esgScore;
+        }
+
+        void removeProperty(long id) {
+            Integer row = rowById.remove(id);
+            if (row == null) {
+                return;
+            }
+            int last = --size;
+            if (row != last) {
+                ids[row] = ids[last];
+                types[row] = types[last];
+                occupancy[row] = occupancy[last];
+                esg[row] = esg[last];
+                rentCents[row] = rentCents[last];
+                leaseCounts[row] = leaseCounts[last];
+                rowById.put(ids[row], row);
+            }
+        }
+
+        /**
+         * Count a lease as active, adding its property's row if the property is not indexed yet
+         */
+        void putLease(long leaseId, long propertyId, long cents) {
+            removeLease(leaseId);
+            Integer row = rowById.get(propertyId);
+            int index = row == null ? append(propertyId) : row;
+            rentCents[index] += cents;
+            leaseCounts[index]++;
+            leases.put(leaseId, new ActiveLease(propertyId, cents));
+        }
+
+        void removeLease(long leaseId) {
+            ActiveLease lease = leases.remove(leaseId);
+            if (lease == null) {
+                return;
+            }
+            Integer row = rowById.get(lease.propertyId());
+            if (row != null) {
+                rentCents[row] -= lease.rentCents();
+                leaseCounts[row]--;
+            }
+        }
+
+        private int append(long id) {
+            if (size == ids.length) {
+                int length = size * 2;
+                ids = Arrays.copyOf(ids, length);
+                types = Arrays.copyOf(types, length);
+                occupancy = Arrays.copyOf(occupancy, length);
+                esg = Arrays.copyOf(esg, length);
+                rentCents = Arrays.copyOf(rentCents, length);
+                leaseCounts = Arrays.copyOf(leaseCounts, length);
+            }
+            int row = size++;
+            ids[row] = id;
+            types[row] = code(null);
+            occupancy[row] = Double.NaN;
+            esg[row] = Double.NaN;
+            rentCents[row] = 0;
+            leaseCounts[row] = 0;
+            rowById.put(id, row);
+            return row;
+        }
+
+        private int code(String type) {
+            Integer code = typeCodes.get(type);
+            if (code == null) {
+                code = typeNames.size();
+                typeNames.add(type);
+                typeCodes.put(type, code);
+            }
+            return code;
+        }
+    }
+
+    private record ActiveLease(long propertyId, long rentCents) {
+    }
+}
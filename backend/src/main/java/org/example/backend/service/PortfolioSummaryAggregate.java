@@ -0,0 +1,192 @@
+package org.example.backend.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.entity.Property;
+import org.example.backend.repository.propertyRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+
+/**
+ * In-memory portfolio summary kept up to date by deltas.
+ *
+ * The aggregate is seeded from {@link propertyRepository#getPortfolioTotals()} once the
+ * application is ready, adjusted on every property create, update and delete, and
+ * periodically reconciled against the database to correct any drift. Reads are O(1)
+ * and never touch the properties table once the aggregate is seeded.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PortfolioSummaryAggregate {
+
+    private final propertyRepository propertyRepository;
+
+    /**
+     * Running totals; null until the first successful seed
+     */
+    private Figures totals;
+
+    /**
+     * Incremented on every delta so reconciliation can detect concurrent writes
+     */
+    private long generation;
+
+    /**
+     * Get the current portfolio summary
+     */
+    public propertyRepository.PortfolioSummary current() {
+        Figures snapshot;
+        synchronized (this) {
+            snapshot = totals;
+        }
+        if (snapshot == null) {
+            log.debug("Portfolio summary not seeded yet, querying database");
+            return propertyRepository.getPortfolioSummary();
+        }
+        return snapshot.toSummary();
+    }
+
+    /**
+     * Record a newly created property
+     */
+    public void recordCreated(Property property) {
+        Figures added = Figures.of(property);
+        TransactionHooks.afterCommit(() -> apply(Figures.EMPTY, added));
+    }
+
+    /**
+     * Record an update, given the property's figures before the change
+     */
+    public void recordUpdated(Figures before, Property property) {
+        Figures after = Figures.of(property);
+        TransactionHooks.afterCommit(() -> apply(before, after));
+    }
+
+    /**
+     * Record a deleted property
+     */
+    public void recordDeleted(Property property) {
+        Figures removed = Figures.of(property);
+        TransactionHooks.afterCommit(() -> apply(removed, Figures.EMPTY));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        log.info("Seeding portfolio summary aggregate");
+        reconcile();
+    }
+
+    /**
+     * Replace the running totals with a fresh database aggregate.
+     * Skipped when a delta lands while the query is running, since the query result
+     * may or may not include it; the next run will pick it up.
+     */
+    @Scheduled(fixedDelayString = "${portfolio.summary.reconcile-interval:PT10M}",
+            initialDelayString = "${portfolio.summary.reconcile-interval:PT10M}")
+    public void reconcile() {
+        long startGeneration;
+        synchronized (this) {
+            startGeneration = generation;
+        }
+        Figures fresh = Figures.of(propertyRepository.getPortfolioTotals());
+        synchronized (this) {
+            if (generation != startGeneration) {
+                log.debug("Portfolio summary changed during reconciliation, retrying on next run");
+                return;
+            }
+            if (totals != null && totals.properties() != fresh.properties()) {
+                log.warn("Portfolio summary drifted from database: {} properties tracked, {} stored",
+                        totals.properties(), fresh.properties());
+            }
+            totals = fresh;
+        }
+    }
+
+    private synchronized void apply(Figures removed, Figures added) {
+        generation++;
+        if (totals != null) {
+            totals = totals.minus(removed).plus(added);
+        }
+    }
+
+    /**
+     * Summable figures for one property or the whole portfolio, in {@link FixedPoint}
+     * hundredths: money in cents, occupancy rates and ESG scores in basis points. The
+     * averages keep their own counts because AVG ignores nulls.
+     */
+    public record Figures(long properties, long units, long occupiedUnits,
+                          long occupancySum, long occupancyCount,
+                          long rentalIncome, long assetValue,
+                          long esgSum, long esgCount) {
+
+        static final Figures EMPTY = new Figures(0, 0, 0, 0, 0, 0, 0, 0, 0);
+
+        public static Figures of(Property property) {
+            return new Figures(1,
+                    property.getTotalUnits() == null ? 0 : property.getTotalUnits(),
+                    property.getOccupiedUnits() == null ? 0 : property.getOccupiedUnits(),
+                    FixedPoint.of(property.getOccupancyRate()),
+                    property.getOccupancyRate() == null ? 0 : 1,
+                    FixedPoint.of(property.getRentalIncome()),
+                    FixedPoint.of(property.getAssetValue()),
+                    FixedPoint.of(property.getEsgScore()),
+                    property.getEsgScore() == null ? 0 : 1);
+        }
+
+        static Figures of(propertyRepository.PortfolioTotals t) {
+            return new Figures(t.getTotalProperties(), t.getTotalUnits(), t.getOccupiedUnits(),
+                    FixedPoint.of(t.getOccupancyRateSum()), t.getOccupancyRateCount(),
+                    FixedPoint.of(t.getTotalRentalIncome()), FixedPoint.of(t.getTotalAssetValue()),
+                    FixedPoint.of(t.getEsgScoreSum()), t.getEsgScoreCount());
+        }
+
+        Figures plus(Figures f) {
+            return adjust(f, 1);
+        }
+
+        Figures minus(Figures f) {
+            return adjust(f, -1);
+        }
+
+        private Figures adjust(Figures f, int sign) {
+            return new Figures(
+                    properties + sign * f.properties(),
+                    units + sign * f.units(),
+                    occupiedUnits + sign * f.occupiedUnits(),
+                    FixedPoint.add(occupancySum, sign * f.occupancySum()),
+                    occupancyCount + sign * f.occupancyCount(),
+                    FixedPoint.add(rentalIncome, sign * f.rentalIncome()),
+                    FixedPoint.add(assetValue, sign * f.assetValue()),
+                    FixedPoint.add(esgSum, sign * f.esgSum()),
+                    esgCount + sign * f.esgCount());
+        }
+
+        private static BigDecimal average(long sum, long count) {
+            if (count <= 0) {
+                return BigDecimal.ZERO;
+            }
+            return FixedPoint.toDecimal(FixedPoint.divide(sum, count));
+        }
+
+        propertyRepository.PortfolioSummary toSummary() {
+            BigDecimal avgOccupancy = average(occupancySum, occupancyCount);
+            BigDecimal avgEsg = average(esgSum, esgCount);
+            BigDecimal totalRentalIncome = FixedPoint.toDecimal(rentalIncome);
+            BigDecimal totalAssetValue = FixedPoint.toDecimal(assetValue);
+            return new propertyRepository.PortfolioSummary() {
+                public Long getTotalProperties() { return properties; }
+                public Long getTotalUnits() { return units; }
+                public Long getOccupiedUnits() { return occupiedUnits; }
+                public BigDecimal getAvgOccupancyRate() { return avgOccupancy; }
+                public BigDecimal getTotalRentalIncome() { return totalRentalIncome; }
+                public BigDecimal getTotalAssetValue() { return totalAssetValue; }
+                public BigDecimal getAvgEsgScore() { return avgEsg; }
+            };
+        }
+    }
+}
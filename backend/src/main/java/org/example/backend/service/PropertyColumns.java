@@ -0,0 +1,342 @@
+package org.example.backend.service;
+
+import org.example.backend.dto.propertyDTO;
+import org.springframework.data.web.PagedModel.PageMetadata;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Compact columnar binary encoding of {@link propertyDTO} lists, served as
+ * {@value #CONTENT_TYPE} to clients that ask for it.
+ *
+ * Layout: a magic byte and version, the row count, an optional page header, then each
+ * field as one column: a presence bitmap followed by the values of the rows that have
+ * one. Integers are zigzag varints. Ids and timestamps (microseconds) are delta-encoded
+ * from the previous row, money and percentages {@link FixedPoint} hundredths, coordinates fixed-point
+ * 1e-7 degrees (about a centimetre), property types an index into a dictionary of the
+ * types present, and other text length-prefixed UTF-8. Coordinates are the only lossy
+ * column; the database keeps eight decimal places.
+ */
+public final class PropertyColumns {
+
+    public static final String CONTENT_TYPE = "application/x-property-columns";
+
+    private static final int MAGIC = 'P';
+    private static final int VERSION = 1;
+    private static final int COORDINATE_SCALE = 7;
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private static final List<Column<?>> COLUMNS = List.of(
+            new Column<>(propertyDTO::getId, propertyDTO::setId, Codec.DELTA),
+            new Column<>(propertyDTO::getName, propertyDTO::setName, Codec.TEXT),
+            new Column<>(propertyDTO::getAddress, propertyDTO::setAddress, Codec.TEXT),
+            new Column<>(propertyDTO::getPropertyType, propertyDTO::setPropertyType, Codec.DICTIONARY),
+            new Column<>(propertyDTO::getTotalUnits, propertyDTO::setTotalUnits, Codec.INT),
+            new Column<>(propertyDTO::getOccupiedUnits, propertyDTO::setOccupiedUnits, Codec.INT),
+            new Column<>(propertyDTO::getOccupancyRate, propertyDTO::setOccupancyRate, Codec.FIXED_POINT),
+            new Column<>(propertyDTO::getRentalIncome, propertyDTO::setRentalIncome, Codec.FIXED_POINT),
+            new Column<>(propertyDTO::getAssetValue, propertyDTO::setAssetValue, Codec.FIXED_POINT),
+            new Column<>(propertyDTO::getEsgScore, propertyDTO::setEsgScore, Codec.FIXED_POINT),
+            new Column<>(propertyDTO::getSquareFootage, propertyDTO::setSquareFootage, Codec.INT),
+            new Column<>(propertyDTO::getYearBuilt, propertyDTO::setYearBuilt, Codec.INT),
+            new Column<>(propertyDTO::getLatitude, propertyDTO::setLatitude, Codec.COORDINATE),
+            new Column<>(propertyDTO::getLongitude, propertyDTO::setLongitude, Codec.COORDINATE),
+            new Column<>(propertyDTO::getCreatedAt, propertyDTO::setCreatedAt, Codec.TIMESTAMP),
+            new Column<>(propertyDTO::getUpdatedAt, propertyDTO::setUpdatedAt, Codec.TIMESTAMP),
+            new Column<>(propertyDTO::getTenantCount, propertyDTO::setTenantCount, Codec.INT),
+            new Column<>(propertyDTO::getActiveMaintenance, propertyDTO::setActiveMaintenance, Codec.INT),
+            new Column<>(propertyDTO::getMonthlyRevenue, propertyDTO::setMonthlyRevenue, Codec.FIXED_POINT));
+
+    private PropertyColumns() {
+    }
+
+    /**
+     * A decoded payload: the rows, and the page they came from when one was written
+     */
+    public record Decoded(List<propertyDTO> rows, PageMetadata page) {
+    }
+
+    /**
+     * Encode the rows, with the page they belong to if not null
+     */
+    public static void write(List<propertyDTO> rows, PageMetadata page, OutputStream stream) throws IOException {
+        DataOutputStream out = new DataOutputStream(stream);
+        out.writeByte(MAGIC);
+        out.writeByte(VERSION);
+        writeUnsigned(out, rows.size());
+        out.writeBoolean(page != null);
+        if (page != null) {
+            writeUnsigned(out, page.size());
+            writeUnsigned(out, page.number());
+            writeUnsigned(out, page.totalElements());
+            writeUnsigned(out, page.totalPages());
+        }
+        for (Column<?> column : COLUMNS) {
+            column.write(rows, out);
+        }
+        out.flush();
+    }
+
+    /**
+     * Decode a payload written by {@link #write}
+     */
+    public static Decoded read(InputStream stream) throws IOException {
+        DataInputStream in = new DataInputStream(stream);
+        if (in.readUnsignedByte() != MAGIC || in.readUnsignedByte() != VERSION) {
+            throw new IOException("Not a version " + VERSION + " property columns payload");
+        }
+        int count = (int) readUnsigned(in);
+        PageMetadata page = in.readBoolean()
+                ? new PageMetadata(readUnsigned(in), readUnsigned(in), readUnsigned(in), readUnsigned(in))
+                : null;
+        List<propertyDTO> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new propertyDTO());
+        }
+        for (Column<?> column : COLUMNS) {
+            column.read(rows, in);
+        }
+        return new Decoded(rows, page);
+    }
+
+    private record Column<V>(Function<propertyDTO, V> getter, BiConsumer<propertyDTO, V> setter, Codec<V> codec) {
+
+        void write(List<propertyDTO> rows, DataOutputStream out) throws IOException {
+            BitSet present = new BitSet(rows.size());
+            List<V> values = new ArrayList<>(rows.size());
+            for (int i = 0; i < rows.size(); i++) {
+                V value = getter.apply(rows.get(i));
+                if (value != null) {
+                    present.set(i);
+                    values.add(value);
+                }
+            }
+            byte[] bitmap = present.toByteArray();
+            out.write(bitmap);
+            out.write(new byte[(rows.size() + 7) / 8 - bitmap.length]);
+            codec.write(values, out);
+        }
+
+        void read(List<propertyDTO> rows, DataInputStream in) throws IOException {
+            byte[] bitmap = new byte[(rows.size() + 7) / 8];
+            in.readFully(bitmap);
+            BitSet present = BitSet.valueOf(bitmap);
+            List<V> values = codec.read(present.cardinality(), in);
+            for (int i = present.nextSetBit(0), v = 0; i >= 0; i = present.nextSetBit(i + 1), v++) {
+                setter.accept(rows.get(i), values.get(v));
+            }
+        }
+    }
+
+    private interface Codec<V> {
+
+        Codec<Long> DELTA = new Codec<>() {
+            @Override
+            public void write(List<Long> values, DataOutputStream out) throws IOException {
+                long previous = 0;
+                for (long value : values) {
+                    writeSigned(out, value - previous);
+                    previous = value;
+                }
+            }
+
+            @Override
+            public List<Long> read(int count, DataInputStream in) throws IOException {
+                List<Long> values = new ArrayList<>(count);
+                long previous = 0;
+                for (int i = 0; i < count; i++) {
+                    previous += readSigned(in);
+                    values.add(previous);
+                }
+                return values;
+            }
+        };
+
+        Codec<Integer> INT = new Codec<>() {
+            @Override
+            public void write(List<Integer> values, DataOutputStream out) throws IOException {
+                for (int value : values) {
+                    writeSigned(out, value);
+                }
+            }
+
+            @Override
+            public List<Integer> read(int count, DataInputStream in) throws IOException {
+                List<Integer> values = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    values.add((int) readSigned(in));
+                }
+                return values;
+            }
+        };
+
+        Codec<BigDecimal> FIXED_POINT = new Codec<>() {
+            @Override
+            public void write(List<BigDecimal> values, DataOutputStream out) throws IOException {
+                for (BigDecimal value : values) {
+                    writeSigned(out, FixedPoint.of(value));
+                }
+            }
+
+            @Override
+            public List<BigDecimal> read(int count, DataInputStream in) throws IOException {
+                List<BigDecimal> values = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    values.add(FixedPoint.toDecimal(readSigned(in)));
+                }
+                return values;
+            }
+        };
+
+        Codec<BigDecimal> COORDINATE = new Codec<>() {
+            @Override
+            public void write(List<BigDecimal> values, DataOutputStream out) throws IOException {
+                for (BigDecimal value : values) {
+                    writeSigned(out, value.movePointRight(COORDINATE_SCALE).setScale(0, RoundingMode.HALF_UP).longValueExact());
+                }
+            }
+
+            @Override
+            public List<BigDecimal> read(int count, DataInputStream in) throws IOException {
+                List<BigDecimal> values = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    values.add(BigDecimal.valueOf(readSigned(in), COORDINATE_SCALE));
+                }
+                return values;
+            }
+        };
+
+        Codec<LocalDateTime> TIMESTAMP = new Codec<>() {
+            @Override
+            public void write(List<LocalDateTime> values, DataOutputStream out) throws IOException {
+                long previous = 0;
+                for (LocalDateTime value : values) {
+                    long micros = ChronoUnit.MICROS.between(EPOCH, value);
+                    writeSigned(out, micros - previous);
+                    previous = micros;
+                }
+            }
+
+            @Override
+            public List<LocalDateTime> read(int count, DataInputStream in) throws IOException {
+                List<LocalDateTime> values = new ArrayList<>(count);
+                long previous = 0;
+                for (int i = 0; i < count; i++) {
+                    previous += readSigned(in);
+                    values.add(EPOCH.plus(previous, ChronoUnit.MICROS));
+                }
+                return values;
+            }
+        };
+
+        Codec<String> TEXT = new Codec<>() {
+            @Override
+            public void write(List<String> values, DataOutputStream out) throws IOException {
+                for (String value : values) {
+                    writeText(out, value);
+                }
+            }
+
+            @Override
+            public List<String> read(int count, DataInputStream in) throws IOException {
+                List<String> values = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    values.add(readText(in));
+                }
+                return values;
+            }
+        };
+
+        Codec<String> DICTIONARY = new Codec<>() {
+            @Override
+            public void write(List<String> values, DataOutputStream out) throws IOException {
+                Map<String, Integer> indexes = new HashMap<>();
+                List<String> dictionary = new ArrayList<>();
+                int[] encoded = new int[values.size()];
+                for (int i = 0; i < encoded.length; i++) {
+                    encoded[i] = indexes.computeIfAbsent(values.get(i), value -> {
+                        dictionary.add(value);
+                        return dictionary.size() - 1;
+                    });
+                }
+                writeUnsigned(out, dictionary.size());
+                TEXT.write(dictionary, out);
+                for (int index : encoded) {
+                    writeUnsigned(out, index);
+                }
+            }
+
+            @Override
+            public List<String> read(int count, DataInputStream in) throws IOException {
+                List<String> dictionary = TEXT.read((int) readUnsigned(in), in);
+                List<String> values = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    values.add(dictionary.get((int) readUnsigned(in)));
+                }
+                return values;
+            }
+        };
+
+        void write(List<V> values, DataOutputStream out) throws IOException;
+
+        List<V> read(int count, DataInputStream in) throws IOException;
+    }
+
+    private static void writeUnsigned(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readUnsigned(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new EOFException("Malformed varint");
+    }
+
+    private static void writeSigned(DataOutputStream out, long value) throws IOException {
+        writeUnsigned(out, (value << 1) ^ (value >> 63));
+    }
+
+    private static long readSigned(DataInputStream in) throws IOException {
+        long zigzag = readUnsigned(in);
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    private static void writeText(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeUnsigned(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readText(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[(int) readUnsigned(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
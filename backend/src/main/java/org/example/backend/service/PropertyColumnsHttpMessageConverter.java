@@ -0,0 +1,83 @@
+package org.example.backend.service;
+
+import org.example.backend.dto.propertyDTO;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Writes lists and pages of {@link propertyDTO} as {@link PropertyColumns} when the client
+ * accepts {@value PropertyColumns#CONTENT_TYPE}. Registered after the JSON converter, so a
+ * client accepting anything still gets JSON.
+ */
+public class PropertyColumnsHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public PropertyColumnsHttpMessageConverter() {
+        super(MediaType.parseMediaType(PropertyColumns.CONTENT_TYPE));
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return Collection.class.isAssignableFrom(clazz) || PagedModel.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return type != null && holdsProperties(ResolvableType.forType(type)) && canWrite(mediaType);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeInternal(Object body, Type type, HttpOutputMessage outputMessage) throws IOException {
+        if (body instanceof PagedModel<?> page) {
+            PropertyColumns.write((List<propertyDTO>) page.getContent(), page.getMetadata(), outputMessage.getBody());
+        } else {
+            PropertyColumns.write(List.copyOf((Collection<propertyDTO>) body), null, outputMessage.getBody());
+        }
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Property columns are written only", inputMessage);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Property columns are written only", inputMessage);
+    }
+
+    private static boolean holdsProperties(ResolvableType type) {
+        Class<?> raw = type.resolve();
+        if (raw == null) {
+            return false;
+        }
+        ResolvableType container = PagedModel.class.isAssignableFrom(raw) ? type.as(PagedModel.class)
+                : Collection.class.isAssignableFrom(raw) ? type.asCollection()
+                : ResolvableType.NONE;
+        return container.getGeneric(0).resolve() == propertyDTO.class;
+    }
+}
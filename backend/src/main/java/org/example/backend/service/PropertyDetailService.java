@@ -0,0 +1,187 @@
+package org.example.backend.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.backend.dto.leaseDTO;
+import org.example.backend.dto.maintenanceRequestDTO;
+import org.example.backend.dto.propertyDTO;
+import org.example.backend.dto.propertyDetailDTO;
+import org.example.backend.dto.tenantDTO;
+import org.example.backend.entity.Lease;
+import org.example.backend.entity.MaintenanceRequest;
+import org.example.backend.entity.MaintenanceRequest.RequestStatus;
+import org.example.backend.entity.Property;
+import org.example.backend.entity.Tenant;
+import org.example.backend.repository.leaseRepository;
+import org.example.backend.repository.maintanenceRequestRepository;
+import org.example.backend.repository.propertyRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Assembles the property detail view: a property with its tenants, active leases and
+ * open maintenance requests.
+ *
+ * Loads in exactly three queries however many rows hang off the property: the property
+ * joined to its tenants, the active leases joined to their tenants, and the open requests.
+ * Each collection gets its own query so they never multiply into one cartesian result.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PropertyDetailService {
+
+    private static final Set<RequestStatus> OPEN_STATUSES =
+            EnumSet.of(RequestStatus.PENDING, RequestStatus.IN_PROGRESS, RequestStatus.ON_HOLD);
+
+    private final propertyRepository propertyRepository;
+    private final leaseRepository leaseRepository;
+    private final maintanenceRequestRepository maintenanceRequestRepository;
+
+    /**
+     * Get the detail view of a property, or empty if it does not exist
+     */
+    public Optional<propertyDetailDTO> getPropertyDetail(Long propertyId) {
+        return propertyRepository.findWithTenantsById(propertyId).map(property -> {
+            List<Lease> leases = leaseRepository.findActiveLeasesByProperty(propertyId);
+            List<MaintenanceRequest> requests = maintenanceRequestRepository
+                    .findByPropertyIdAndStatusInOrderByCreatedAtDesc(propertyId, OPEN_STATUSES);
+            return propertyDetailDTO.builder()
+                    .property(toDTO(property, requests.size()))
+                    .tenants(property.getTenants().stream().map(tenant -> toDTO(tenant, property)).toList())
+                    .activeLeases(leases.stream().map(lease -> toDTO(lease, property)).toList())
+                    .openMaintenanceRequests(requests.stream().map(request -> toDTO(request, property)).toList())
+                    .build();
+        });
+    }
+
+    private static propertyDTO toDTO(Property property, int openRequests) {
+        propertyDTO dto = toDTO(property);
+        dto.setTenantCount(property.getTenants().size());
+        dto.setActiveMaintenance(openRequests);
+        return dto;
+    }
+
+    /**
+     * Map a property's own fields, without the summary fields that need its associations
+     */
+    static propertyDTO toDTO(Property property) {
+        return propertyDTO.builder()
+                .id(property.getId())
+                .name(property.getName())
+                .address(property.getAddress())
+                .propertyType(property.getPropertyType())
+                .totalUnits(property.getTotalUnits())
+                .occupiedUnits(property.getOccupiedUnits())
+                .occupancyRate(property.getOccupancyRate())
+                .rentalIncome(property.getRentalIncome())
+                .assetValue(property.getAssetValue())
+                .esgScore(property.getEsgScore())
+                .squareFootage(property.getSquareFootage())
+                .yearBuilt(property.getYearBuilt())
+                .latitude(property.getLatitude())
+                .longitude(property.getLongitude())
+                .createdAt(property.getCreatedAt())
+                .updatedAt(property.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * Map a tenant with the name and address of its property
+     */
+    static tenantDTO toDTO(Tenant tenant, Property property) {
+        Long daysUntilExpiry = tenant.getLeaseEnd() == null ? null
+                : ChronoUnit.DAYS.between(LocalDate.now(), tenant.getLeaseEnd());
+        return tenantDTO.builder()
+                .id(tenant.getId())
+                .name(tenant.getName())
+                .email(tenant.getEmail())
+                .phone(tenant.getPhone())
+                .emergencyContact(tenant.getEmergencyContact())
+                .emergencyPhone(tenant.getEmergencyPhone())
+                .leaseStart(tenant.getLeaseStart())
+                .leaseEnd(tenant.getLeaseEnd())
+                .monthlyRent(tenant.getMonthlyRent())
+                .securityDeposit(tenant.getSecurityDeposit())
+                .status(tenant.getStatus())
+                .unitNumber(tenant.getUnitNumber())
+                .paymentScore(tenant.getPaymentScore())
+                .propertyId(property.getId())
+                .propertyName(property.getName())
+                .propertyAddress(property.getAddress())
+                .createdAt(tenant.getCreatedAt())
+                .updatedAt(tenant.getUpdatedAt())
+                .daysUntilLeaseExpiry(daysUntilExpiry)
+                .leaseExpiringSoon(daysUntilExpiry != null && daysUntilExpiry >= 0 && daysUntilExpiry <= 60)
+                .build();
+    }
+
+    /**
+     * Map a lease with its tenant and the name and address of its property
+     */
+    static leaseDTO toDTO(Lease lease, Property property) {
+        Tenant tenant = lease.getTenant();
+        return leaseDTO.builder()
+                .id(lease.getId())
+                .leaseNumber(lease.getLeaseNumber())
+                .startDate(lease.getStartDate())
+                .endDate(lease.getEndDate())
+                .monthlyRent(lease.getMonthlyRent())
+                .securityDeposit(lease.getSecurityDeposit())
+                .status(lease.getStatus())
+                .leaseType(lease.getLeaseType())
+                .unitNumber(lease.getUnitNumber())
+                .squareFootage(lease.getSquareFootage())
+                .notes(lease.getNotes())
+                .autoRenewal(lease.getAutoRenewal())
+                .tenantId(tenant.getId())
+                .tenantName(tenant.getName())
+                .tenantEmail(tenant.getEmail())
+                .propertyId(property.getId())
+                .propertyName(property.getName())
+                .propertyAddress(property.getAddress())
+                .createdAt(lease.getCreatedAt())
+                .updatedAt(lease.getUpdatedAt())
+                .daysRemaining(ChronoUnit.DAYS.between(LocalDate.now(), lease.getEndDate()))
+                .isActive(lease.isActive())
+                .build();
+    }
+
+    /**
+     * Map a maintenance request with the name and address of its property
+     */
+    static maintenanceRequestDTO toDTO(MaintenanceRequest request, Property property) {
+        LocalDateTime now = LocalDateTime.now();
+        return maintenanceRequestDTO.builder()
+                .id(request.getId())
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .status(request.getStatus())
+                .priority(request.getPriority())
+                .category(request.getCategory())
+                .unitNumber(request.getUnitNumber())
+                .reportedBy(request.getReportedBy())
+                .reporterContact(request.getReporterContact())
+                .assignedTo(request.getAssignedTo())
+                .estimatedCost(request.getEstimatedCost())
+                .actualCost(request.getActualCost())
+                .scheduledDate(request.getScheduledDate())
+                .completedDate(request.getCompletedDate())
+                .notes(request.getNotes())
+                .propertyId(property.getId())
+                .propertyName(property.getName())
+                .propertyAddress(property.getAddress())
+                .createdAt(request.getCreatedAt())
+                .updatedAt(request.getUpdatedAt())
+                .daysOpen(request.getCreatedAt() == null ? null : ChronoUnit.DAYS.between(request.getCreatedAt(), now))
+                .isOverdue(request.isOverdue())
+                .build();
+    }
+}
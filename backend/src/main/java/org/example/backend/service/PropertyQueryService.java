@@ -0,0 +1,56 @@
+package org.example.backend.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.backend.dto.propertyDTO;
+import org.example.backend.repository.propertyRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * Reads properties for the list and single-property views, versioned by {@link EntityTags}.
+ *
+ * The tag and the body are read in one read-only transaction, so on one connection to one
+ * data source: a replica that served the tag also serves the body it describes. The body is
+ * only loaded when {@code notModified} rejects the tag.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PropertyQueryService {
+
+    private final propertyRepository propertyRepository;
+    private final EntityTags entityTags;
+
+    /**
+     * Get a property, or empty if it does not exist
+     */
+    public Tagged<Optional<propertyDTO>> getProperty(Long id, Predicate<String> notModified) {
+        String tag = entityTags.property(id);
+        if (notModified.test(tag)) {
+            return Tagged.notModified(tag);
+        }
+        return new Tagged<>(tag, propertyRepository.findById(id).map(PropertyDetailService::toDTO));
+    }
+
+    /**
+     * Get a page of properties matching the filters; null filters are ignored
+     */
+    public Tagged<Page<propertyDTO>> getProperties(String propertyType,
+                                                   BigDecimal minOccupancy, BigDecimal maxOccupancy,
+                                                   BigDecimal minEsgScore, BigDecimal maxEsgScore,
+                                                   Pageable pageable, Predicate<String> notModified) {
+        String tag = entityTags.properties(propertyType, minOccupancy, maxOccupancy, minEsgScore, maxEsgScore);
+        if (notModified.test(tag)) {
+            return Tagged.notModified(tag);
+        }
+        return new Tagged<>(tag, propertyRepository.findWithFilters(propertyType, minOccupancy, maxOccupancy,
+                        minEsgScore, maxEsgScore, pageable)
+                .map(PropertyDetailService::toDTO));
+    }
+}
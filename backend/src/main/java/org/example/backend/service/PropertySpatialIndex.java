@@ -0,0 +1,411 @@
+package org.example.backend.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.dto.mapClusterDTO;
+import org.example.backend.entity.OutboxEvent.AggregateType;
+import org.example.backend.entity.Property;
+import org.example.backend.repository.propertyRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * In-memory uniform grid over property coordinates for the map view.
+ *
+ * Coordinates live in primitive arrays per grid cell at {@link #BASE_LEVEL}, where a cell
+ * spans 360 / 2^level degrees. Viewport queries only visit the cells overlapping the
+ * bounds, and cluster queries reuse per-cell sums for cells that lie fully inside the
+ * viewport. The grid is rebuilt from the database at startup and on a fixed delay, and
+ * kept in sync with property writes in between.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PropertySpatialIndex implements ChangeEventSubscriber {
+
+    /**
+     * Finest grid level, roughly 2.4km cells at the equator
+     */
+    static final int BASE_LEVEL = 14;
+
+    /**
+     * Clusters are computed this many levels below the map zoom, about four clusters per tile edge
+     */
+    static final int CLUSTER_LEVEL_OFFSET = 2;
+
+    private static final double BASE_CELL_DEGREES = 360.0 / (1 << BASE_LEVEL);
+
+    private final propertyRepository propertyRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Cell> cells = new HashMap<>();
+    private final Map<Long, Long> cellByPropertyId = new HashMap<>();
+    private volatile boolean ready;
+
+    /**
+     * Deltas committed while a rebuild query is running, replayed on top of its result
+     */
+    private List<Runnable> deltasDuringRebuild;
+
+    /**
+     * Whether the index has been built and can answer queries
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Find the ids of all properties inside the bounds (inclusive)
+     */
+    public long[] findIds(double minLat, double maxLat, double minLng, double maxLng) {
+        lock.readLock().lock();
+        try {
+            IdCollector collector = new IdCollector();
+            forEachCell(minLat, maxLat, minLng, maxLng, cell -> {
+                for (int i = 0; i < cell.size; i++) {
+                    if (contains(cell.lats[i], cell.lngs[i], minLat, maxLat, minLng, maxLng)) {
+                        collector.add(cell.ids[i]);
+                    }
+                }
+            });
+            return collector.toArray();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Count properties per grid cell inside the bounds for the given map zoom level. Until the
+     * grid is built, the properties inside the bounds are read from the database and clustered
+     * the same way.
+     */
+    public List<mapClusterDTO> clusters(double minLat, double maxLat, double minLng, double maxLng, int zoom) {
+        int level = Math.max(0, Math.min(BASE_LEVEL, zoom + CLUSTER_LEVEL_OFFSET));
+        int shift = BASE_LEVEL - level;
+        Map<Long, ClusterAccumulator> clusters = new HashMap<>();
+        if (!ready) {
+            List<Object[]> rows = propertyRepository.findCoordinatesInBounds(BigDecimal.valueOf(minLat),
+                    BigDecimal.valueOf(maxLat), BigDecimal.valueOf(minLng), BigDecimal.valueOf(maxLng));
+            for (Object[] coordinates : rows) {
+                double lat = ((BigDecimal) coordinates[1]).doubleValue();
+                double lng = ((BigDecimal) coordinates[2]).doubleValue();
+                clusters.computeIfAbsent(cellKey(row(lat) >> shift, col(lng) >> shift), k -> new ClusterAccumulator())
+                        .addPoint((Long) coordinates[0], lat, lng);
+            }
+            return toDtos(clusters);
+        }
+        lock.readLock().lock();
+        try {
+            forEachCell(minLat, maxLat, minLng, maxLng, cell -> {
+                long key = cellKey(cell.row >> shift, cell.col >> shift);
+                ClusterAccumulator cluster = clusters.computeIfAbsent(key, k -> new ClusterAccumulator());
+                if (cell.within(minLat, maxLat, minLng, maxLng)) {
+                    cluster.addCell(cell);
+                    return;
+                }
+                for (int i = 0; i < cell.size; i++) {
+                    if (contains(cell.lats[i], cell.lngs[i], minLat, maxLat, minLng, maxLng)) {
+                        cluster.addPoint(cell.ids[i], cell.lats[i], cell.lngs[i]);
+                    }
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+        return toDtos(clusters);
+    }
+
+    private static List<mapClusterDTO> toDtos(Map<Long, ClusterAccumulator> clusters) {
+        List<mapClusterDTO> result = new ArrayList<>(clusters.size());
+        for (ClusterAccumulator cluster : clusters.values()) {
+            if (cluster.count > 0) {
+                result.add(cluster.toDto());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Index a created or updated property once the transaction commits
+     */
+    public void recordSaved(Property property) {
+        Long id = property.getId();
+        BigDecimal latitude = property.getLatitude();
+        BigDecimal longitude = property.getLongitude();
+        TransactionHooks.afterCommit(() -> applyDelta(() -> {
+            remove(id);
+            if (latitude != null && longitude != null) {
+                add(id, latitude.doubleValue(), longitude.doubleValue());
+            }
+        }));
+    }
+
+    /**
+     * Drop a deleted property once the transaction commits
+     */
+    public void recordDeleted(Long id) {
+        TransactionHooks.afterCommit(() -> applyDelta(() -> remove(id)));
+    }
+
+    @Override
+    public Set<AggregateType> subscribedTypes() {
+        return Set.of(AggregateType.PROPERTY);
+    }
+
+    /**
+     * Apply committed property changes from the outbox
+     */
+    @Override
+    public void onChanges(List<ChangeEvent> changes) {
+        for (ChangeEvent change : changes) {
+            Long id = change.aggregateId();
+            Double latitude = change.number("latitude");
+            Double longitude = change.number("longitude");
+            boolean located = !change.isDelete() && latitude != null && longitude != null;
+            applyDelta(() -> {
+                remove(id);
+                if (located) {
+                    add(id, latitude, longitude);
+                }
+            });
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        rebuild();
+    }
+
+    /**
+     * Rebuild the whole grid from the database
+     */
+    @Scheduled(fixedDelayString = "${property.spatial-index.rebuild-interval:PT30M}",
+            initialDelayString = "${property.spatial-index.rebuild-interval:PT30M}")
+    public void rebuild() {
+        long start = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            deltasDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        List<Object[]> rows;
+        try {
+            rows = propertyRepository.findAllCoordinates();
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                deltasDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+        lock.writeLock().lock();
+        try {
+            cells.clear();
+            cellByPropertyId.clear();
+            for (Object[] coordinates : rows) {
+                add((Long) row[0], ((BigDecimal) row[1]).doubleValue(), ((BigDecimal) row[2]).doubleValue());
+            }
+            deltasDuringRebuild.forEach(Runnable::run);
+            deltasDuringRebuild = null;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Built property spatial index with {} properties in {} cells in {} ms",
+                rows.size(), cells.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void applyDelta(Runnable delta) {
+        lock.writeLock().lock();
+        try {
+            delta.run();
+            if (deltasDuringRebuild != null) {
+                deltasDuringRebuild.add(delta);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void add(Long id, double lat, double lng) {
+        int row = row(lat);
+        int col = col(lng);
+        long key = cellKey(row, col);
+        cells.computeIfAbsent(key, k -> new Cell(row, col)).add(id, lat, lng);
+        cellByPropertyId.put(id, key);
+    }
+
+    private void remove(Long id) {
+        Long key = cellByPropertyId.remove(id);
+        if (key == null) {
+            return;
+        }
+        Cell cell = cells.get(key);
+        if (cell != null && cell.remove(id) && cell.size == 0) {
+            cells.remove(key);
+        }
+    }
+
+    /**
+     * Visit the non-empty cells overlapping the bounds, walking whichever is smaller:
+     * the cell range covered by the bounds or the set of occupied cells
+     */
+    private void forEachCell(double minLat, double maxLat, double minLng, double maxLng,
+                             Consumer<Cell> visitor) {
+        int minRow = row(minLat);
+        int maxRow = row(maxLat);
+        int minCol = col(minLng);
+        int maxCol = col(maxLng);
+        long covered = (long) (maxRow - minRow + 1) * (maxCol - minCol + 1);
+        if (covered > cells.size()) {
+            for (Cell cell : cells.values()) {
+                if (cell.row >= minRow && cell.row <= maxRow && cell.col >= minCol && cell.col <= maxCol) {
+                    visitor.accept(cell);
+                }
+            }
+            return;
+        }
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                Cell cell = cells.get(cellKey(row, col));
+                if (cell != null) {
+                    visitor.accept(cell);
+                }
+            }
+        }
+    }
+
+    private static boolean contains(double lat, double lng,
+                                    double minLat, double maxLat, double minLng, double maxLng) {
+        return lat >= minLat && lat <= maxLat && lng >= minLng && lng <= maxLng;
+    }
+
+    private static int row(double lat) {
+        return (int) Math.floor((Math.max(-90.0, Math.min(90.0, lat)) + 90.0) / BASE_CELL_DEGREES);
+    }
+
+    private static int col(double lng) {
+        return (int) Math.floor((Math.max(-180.0, Math.min(180.0, lng)) + 180.0) / BASE_CELL_DEGREES);
+    }
+
+    private static long cellKey(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+
+    /**
+     * One grid cell: parallel primitive arrays plus running coordinate sums for clustering
+     */
+    private static final class Cell {
+        final int row;
+        final int col;
+        long[] ids = new long[4];
+        double[] lats = new double[4];
+        double[] lngs = new double[4];
+        int size;
+        double latSum;
+        double lngSum;
+
+        Cell(int row, int col) {
+            this.row = row;
+            this.col = col;
+        }
+
+        void add(long id, double lat, double lng) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                lats = Arrays.copyOf(lats, size * 2);
+                lngs = Arrays.copyOf(lngs, size * 2);
+            }
+            ids[size] = id;
+            lats[size] = lat;
+            lngs[size] = lng;
+            size++;
+            latSum += lat;
+            lngSum += lng;
+        }
+
+        boolean remove(long id) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    latSum -= lats[i];
+                    lngSum -= lngs[i];
+                    size--;
+                    ids[i] = ids[size];
+                    lats[i] = lats[size];
+                    lngs[i] = lngs[size];
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        boolean within(double minLat, double maxLat, double minLng, double maxLng) {
+            double cellMinLat = row * BASE_CELL_DEGREES - 90.0;
+            double cellMinLng = col * BASE_CELL_DEGREES - 180.0;
+            return cellMinLat >= minLat && cellMinLat + BASE_CELL_DEGREES <= maxLat
+                    && cellMinLng >= minLng && cellMinLng + BASE_CELL_DEGREES <= maxLng;
+        }
+    }
+
+    private static final class ClusterAccumulator {
+        int count;
+        double latSum;
+        double lngSum;
+        long lastId;
+
+        void addCell(Cell cell) {
+            count += cell.size;
+            latSum += cell.latSum;
+            lngSum += cell.lngSum;
+            lastId = cell.ids[0];
+        }
+
+        void addPoint(long id, double lat, double lng) {
+            count++;
+            latSum += lat;
+            lngSum += lng;
+            lastId = id;
+        }
+
+        mapClusterDTO toDto() {
+            return mapClusterDTO.builder()
+                    .latitude(latSum / count)
+                    .longitude(lngSum / count)
+                    .count(count)
+                    .propertyId(count == 1 ? lastId : null)
+                    .build();
+        }
+    }
+
+    private static final class IdCollector {
+        long[] ids = new long[64];
+        int size;
+
+        void add(long id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(ids, size);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.backend.service;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Keeps a client's reads on the primary for a while after its own write, so it does not
+ * read its change back from a replica that has yet to replay it.
+ *
+ * A committed write marks the current request, and sets a cookie holding the time until
+ * which that client's later requests stay on the primary. Work outside a web request,
+ * such as scheduled jobs, is never pinned.
+ */
+public class ReadYourWrites {
+
+    static final String COOKIE = "primary-until";
+
+    private static final String WROTE_ATTRIBUTE = ReadYourWrites.class.getName() + ".WROTE";
+
+    private final Duration window;
+    private final Clock clock;
+
+    public ReadYourWrites(Duration window, Clock clock) {
+        this.window = window;
+        this.clock = clock;
+    }
+
+    /**
+     * Whether reads for the current request must go to the primary
+     */
+    public boolean pinnedToPrimary() {
+        HttpServletRequest request = currentRequest();
+        if (request == null) {
+            return false;
+        }
+        if (request.getAttribute(WROTE_ATTRIBUTE) != null) {
+            return true;
+        }
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE.equals(cookie.getName())) {
+                try {
+                    return clock.millis() < Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Record a committed write by the current request's client
+     */
+    public void recordWrite() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return;
+        }
+        attributes.getRequest().setAttribute(WROTE_ATTRIBUTE, Boolean.TRUE);
+        HttpServletResponse response = attributes.getResponse();
+        if (response != null && !response.isCommitted()) {
+            Cookie cookie = new Cookie(COOKIE, String.valueOf(clock.millis() + window.toMillis()));
+            cookie.setMaxAge((int) window.toSeconds());
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            response.addCookie(cookie);
+        }
+    }
+
+    private static HttpServletRequest currentRequest() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes.getRequest()
+                : null;
+    }
+}
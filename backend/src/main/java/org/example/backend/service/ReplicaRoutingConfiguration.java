@@ -0,0 +1,90 @@
+package org.example.backend.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read/write splitting, active when {@code datasource.replicas.urls} lists at least one replica.
+ *
+ * The primary pool is built from the usual {@code spring.datasource.*} settings, and each
+ * replica gets its own read-only pool with the primary's credentials unless overridden.
+ * Every other bean, Flyway and JPA included, sees only the routing data source.
+ *
+ * Sessions release their connection at the end of each transaction, so a session kept
+ * open for the whole request routes each of its transactions separately instead of
+ * holding on to the connection its first transaction chose.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "datasource.replicas", name = "urls")
+public class ReplicaRoutingConfiguration {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaSet replicaSet(DataSourceProperties properties,
+                                 @Value("${datasource.replicas.urls}") List<String> urls,
+                                 @Value("${datasource.replicas.username:}") String username,
+                                 @Value("${datasource.replicas.password:}") String password,
+                                 @Value("${datasource.replicas.maximum-pool-size:10}") int maximumPoolSize,
+                                 @Value("${datasource.replicas.lag-query:}") String lagQuery,
+                                 @Value("${datasource.replicas.max-lag:PT5S}") Duration maxLag) {
+        Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(urls.get(i).trim())
+                    .username(username.isEmpty() ? properties.determineUsername() : username)
+                    .password(password.isEmpty() ? properties.determinePassword() : password)
+                    .build();
+            replica.setPoolName("replica-" + (i + 1));
+            replica.setReadOnly(true);
+            replica.setMaximumPoolSize(maximumPoolSize);
+            replicas.put(replica.getPoolName(), replica);
+        }
+        ReplicaSet replicaSet = new ReplicaSet(replicas,
+                lagQuery.isEmpty() ? ReplicaSet.POSTGRES_LAG_QUERY : lagQuery, maxLag);
+        replicaSet.checkLag();
+        return replicaSet;
+    }
+
+    @Bean
+    public ReadYourWrites readYourWrites(@Value("${datasource.replicas.read-your-writes:PT10S}") Duration window) {
+        return new ReadYourWrites(window, Clock.systemUTC());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaSet replicaSet,
+                                 ReadYourWrites readYourWrites) {
+        return new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primaryDataSource, replicaSet, readYourWrites));
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionsAfterTransaction() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
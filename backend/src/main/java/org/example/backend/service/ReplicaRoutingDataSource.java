@@ -0,0 +1,72 @@
+package org.example.backend.service;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sends read-only transactions made while serving a web request to a replica, and
+ * everything else to the primary.
+ *
+ * Work outside a request, such as scheduled rebuilds and reconciliations, startup seeding
+ * and the outbox publisher, always reads the primary: it refreshes in-memory views and
+ * outbox state that must never move back in time to a replica's older snapshot.
+ *
+ * The decision is made when a connection is first used, so this must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: the
+ * transaction manager opens its connection before the transaction is marked read-only.
+ * Reads fall back to the primary when no replica is fit to serve them, and while the
+ * client is inside its read-your-writes window.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private final ReplicaSet replicaSet;
+    private final ReadYourWrites readYourWrites;
+
+    public ReplicaRoutingDataSource(DataSource primary, ReplicaSet replicaSet, ReadYourWrites readYourWrites) {
+        this.replicaSet = replicaSet;
+        this.readYourWrites = readYourWrites;
+        Map<Object, Object> targets = new HashMap<>(replicaSet.getReplicas());
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return PRIMARY;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWriteOnCommit();
+            return PRIMARY;
+        }
+        if (RequestContextHolder.getRequestAttributes() == null || readYourWrites.pinnedToPrimary()) {
+            return PRIMARY;
+        }
+        String replica = replicaSet.next();
+        return replica == null ? PRIMARY : replica;
+    }
+
+    private void recordWriteOnCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            readYourWrites.recordWrite();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWrites.recordWrite();
+            }
+        });
+    }
+}
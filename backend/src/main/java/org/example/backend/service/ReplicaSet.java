@@ -0,0 +1,96 @@
+package org.example.backend.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The read replicas, with the subset currently fit to serve reads.
+ *
+ * Each replica's lag behind the primary is checked on a fixed delay; a replica that lags
+ * by more than the limit, or fails the check, is left out until a later check passes.
+ * Reads are spread round-robin over the replicas that remain.
+ */
+@Slf4j
+public class ReplicaSet implements AutoCloseable {
+
+    /**
+     * PostgreSQL standby lag in seconds: zero once everything received has been replayed,
+     * so an idle primary does not read as lag
+     */
+    static final String POSTGRES_LAG_QUERY = "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() " +
+            "THEN 0 ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END";
+
+    private final Map<String, HikariDataSource> replicas;
+    private final String lagQuery;
+    private final Duration maxLag;
+    private final AtomicInteger next = new AtomicInteger();
+    private volatile List<String> available = List.of();
+
+    public ReplicaSet(Map<String, HikariDataSource> replicas, String lagQuery, Duration maxLag) {
+        this.replicas = replicas;
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+    }
+
+    /**
+     * Get the replicas by name
+     */
+    public Map<String, HikariDataSource> getReplicas() {
+        return Collections.unmodifiableMap(replicas);
+    }
+
+    /**
+     * Get the names of the replicas currently serving reads
+     */
+    public List<String> available() {
+        return available;
+    }
+
+    /**
+     * Pick the next replica to read from, or null when none is fit to serve reads
+     */
+    public String next() {
+        List<String> candidates = available;
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        return candidates.get(Math.floorMod(next.getAndIncrement(), candidates.size()));
+    }
+
+    /**
+     * Check every replica's lag and update the set serving reads
+     */
+    @Scheduled(fixedDelayString = "${datasource.replicas.lag-check-interval:PT5S}",
+            initialDelayString = "${datasource.replicas.lag-check-interval:PT5S}")
+    public void checkLag() {
+        List<String> fit = new ArrayList<>(replicas.size());
+        replicas.forEach((name, dataSource) -> {
+            try {
+                Double lagSeconds = new JdbcTemplate(dataSource).queryForObject(lagQuery, Double.class);
+                double lag = lagSeconds == null ? 0 : lagSeconds;
+                if (lag * 1000 <= maxLag.toMillis()) {
+                    fit.add(name);
+                } else {
+                    log.warn("Replica {} is {}s behind the primary, reading from the others", name, lag);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Replica {} failed its lag check, reading from the others: {}", name, e.getMessage());
+            }
+        });
+        available = List.copyOf(fit);
+    }
+
+    @Override
+    public void close() {
+        replicas.values().forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,244 @@
+package org.example.backend.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.entity.MaintenanceRequest;
+import org.example.backend.entity.OutboxEvent.AggregateType;
+import org.example.backend.entity.Property;
+import org.example.backend.entity.Tenant;
+import org.example.backend.repository.maintanenceRequestRepository;
+import org.example.backend.repository.propertyRepository;
+import org.example.backend.repository.tenantRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Service answering the search box from embedded trigram indexes instead of
+ * leading-wildcard LIKE scans.
+ *
+ * Each search method is a drop-in replacement for the matching repository query:
+ * results are ranked by match quality when the request is unsorted, and the LIKE query
+ * is used whenever the index is not built yet or an explicit sort is requested. Indexes
+ * are built at startup, rebuilt on a fixed delay, and updated after commit on service
+ * writes and from the change outbox for every other write.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SearchIndexService implements ChangeEventSubscriber {
+
+    /**
+     * Maximum number of ids per IN-list when loading matched entities
+     */
+    private static final int ID_BATCH_SIZE = 1000;
+
+    private final propertyRepository propertyRepository;
+    private final tenantRepository tenantRepository;
+    private final maintanenceRequestRepository maintenanceRequestRepository;
+
+    // Name and title fields rank above address, email and description
+    private final TextSearchIndex propertyIndex = new TextSearchIndex(2f, 1f);
+    private final TextSearchIndex tenantIndex = new TextSearchIndex(2f, 1f);
+    private final TextSearchIndex maintenanceRequestIndex = new TextSearchIndex(2f, 1f);
+
+    /**
+     * Search properties by name or address
+     */
+    public Page<Property> searchProperties(String searchTerm, Pageable pageable) {
+        if (!useIndex(propertyIndex, pageable)) {
+            return propertyRepository.searchByNameOrAddress(searchTerm, pageable);
+        }
+        return page(propertyIndex.search(searchTerm, pageable.getOffset(), pageable.getPageSize()),
+                pageable, propertyRepository, Property::getId);
+    }
+
+    /**
+     * Search tenants by name or email
+     */
+    public Page<Tenant> searchTenants(String searchTerm, Pageable pageable) {
+        if (!useIndex(tenantIndex, pageable)) {
+            return tenantRepository.searchByNameOrEmail(searchTerm, pageable);
+        }
+        return page(tenantIndex.search(searchTerm, pageable.getOffset(), pageable.getPageSize()),
+                pageable, tenantRepository, Tenant::getId);
+    }
+
+    /**
+     * Search maintenance requests by title or description
+     */
+    public Page<MaintenanceRequest> searchMaintenanceRequests(String searchTerm, Pageable pageable) {
+        if (!useIndex(maintenanceRequestIndex, pageable)) {
+            return maintenanceRequestRepository.searchByTitleOrDescription(searchTerm, pageable);
+        }
+        return page(maintenanceRequestIndex.search(searchTerm, pageable.getOffset(), pageable.getPageSize()),
+                pageable, maintenanceRequestRepository, MaintenanceRequest::getId);
+    }
+
+    /**
+     * Index a created or updated property once the transaction commits
+     */
+    public void recordPropertySaved(Property property) {
+        Long id = property.getId();
+        String name = property.getName();
+        String address = property.getAddress();
+        TransactionHooks.afterCommit(() -> propertyIndex.put(id, name, address));
+    }
+
+    /**
+     * Drop a deleted property once the transaction commits
+     */
+    public void recordPropertyDeleted(Long id) {
+        TransactionHooks.afterCommit(() -> propertyIndex.remove(id));
+    }
+
+    /**
+     * Index a created or updated tenant once the transaction commits
+     */
+    public void recordTenantSaved(Tenant tenant) {
+        Long id = tenant.getId();
+        String name = tenant.getName();
+        String email = tenant.getEmail();
+        TransactionHooks.afterCommit(() -> tenantIndex.put(id, name, email));
+    }
+
+    /**
+     * Drop a deleted tenant once the transaction commits
+     */
+    public void recordTenantDeleted(Long id) {
+        TransactionHooks.afterCommit(() -> tenantIndex.remove(id));
+    }
+
+    /**
+     * Index a created or updated maintenance request once the transaction commits
+     */
+    public void recordMaintenanceRequestSaved(MaintenanceRequest request) {
+        Long id = request.getId();
+        String title = request.getTitle();
+        String description = request.getDescription();
+        TransactionHooks.afterCommit(() -> maintenanceRequestIndex.put(id, title, description));
+    }
+
+    /**
+     * Drop a deleted maintenance request once the transaction commits
+     */
+    public void recordMaintenanceRequestDeleted(Long id) {
+        TransactionHooks.afterCommit(() -> maintenanceRequestIndex.remove(id));
+    }
+
+    @Override
+    public Set<AggregateType> subscribedTypes() {
+        return EnumSet.of(AggregateType.PROPERTY, AggregateType.TENANT, AggregateType.MAINTENANCE_REQUEST);
+    }
+
+    /**
+     * Apply committed changes from the outbox
+     */
+    @Override
+    public void onChanges(List<ChangeEvent> changes) {
+        for (ChangeEvent change : changes) {
+            TextSearchIndex index = switch (change.aggregateType()) {
+                case PROPERTY -> propertyIndex;
+                case TENANT -> tenantIndex;
+                default -> maintenanceRequestIndex;
+            };
+            if (change.isDelete()) {
+                index.remove(change.aggregateId());
+            } else if (change.aggregateType() == AggregateType.PROPERTY) {
+                index.put(change.aggregateId(), change.text("name"), change.text("address"));
+            } else if (change.aggregateType() == AggregateType.TENANT) {
+                index.put(change.aggregateId(), change.text("name"), change.text("email"));
+            } else {
+                index.put(change.aggregateId(), change.text("title"), change.text("description"));
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        rebuild();
+    }
+
+    /**
+     * Rebuild every index from the database
+     */
+    @Scheduled(fixedDelayString = "${search.index.rebuild-interval:PT1H}",
+            initialDelayString = "${search.index.rebuild-interval:PT1H}")
+    public void rebuild() {
+        rebuildProperties();
+        rebuildTenants();
+        rebuild("maintenance requests", maintenanceRequestIndex, maintenanceRequestRepository::findAllSearchFields);
+    }
+
+    /**
+     * Rebuild the property index, e.g. after a bulk import
+     */
+    public void rebuildProperties() {
+        rebuild("properties", propertyIndex, propertyRepository::findAllSearchFields);
+    }
+
+    /**
+     * Rebuild the tenant index, e.g. after a bulk import
+     */
+    public void rebuildTenants() {
+        rebuild("tenants", tenantIndex, tenantRepository::findAllSearchFields);
+    }
+
+    private void rebuild(String name, TextSearchIndex index, Supplier<List<Object[]>> rows) {
+        long start = System.nanoTime();
+        index.beginRebuild();
+        try {
+            index.finishRebuild(rows.get());
+        } catch (RuntimeException e) {
+            index.abortRebuild();
+            throw e;
+        }
+        log.info("Built {} search index with {} documents in {} ms",
+                name, index.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static boolean useIndex(TextSearchIndex index, Pageable pageable) {
+        return index.isReady() && pageable.getSort().isUnsorted();
+    }
+
+    /**
+     * Load the matched entities by id and return them in ranking order
+     */
+    private static <T> Page<T> page(TextSearchIndex.Hits hits, Pageable pageable,
+                                    JpaRepository<T, Long> repository, Function<T, Long> idOf) {
+        long[] ids = hits.ids();
+        Map<Long, T> byId = new HashMap<>(ids.length * 2);
+        for (int from = 0; from < ids.length; from += ID_BATCH_SIZE) {
+            List<Long> batch = Arrays.stream(ids, from, Math.min(ids.length, from + ID_BATCH_SIZE))
+                    .boxed()
+                    .collect(Collectors.toList());
+            for (T entity : repository.findAllById(batch)) {
+                byId.put(idOf.apply(entity), entity);
+            }
+        }
+        List<T> content = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            T entity = byId.get(id);
+            if (entity != null) {
+                content.add(entity);
+            }
+        }
+        return new PageImpl<>(content, pageable, hits.total());
+    }
+}
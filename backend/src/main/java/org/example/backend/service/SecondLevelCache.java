@@ -0,0 +1,129 @@
+package org.example.backend.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.dto.cacheRegionStatsDTO;
+import org.example.backend.entity.Lease;
+import org.example.backend.entity.OutboxEvent.AggregateType;
+import org.example.backend.entity.Property;
+import org.example.backend.entity.Tenant;
+import org.example.backend.repository.propertyRepository;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Explicit invalidation and statistics for the Hibernate second-level cache.
+ *
+ * Writes made through the persistence context already keep the entity and query regions
+ * consistent. These hooks additionally evict after commit on every service write, so
+ * changes that bypass Hibernate (JDBC batches, bulk statements, other nodes sharing the
+ * database) are never served stale for longer than the next write or the region TTL.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SecondLevelCache implements ChangeEventSubscriber {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Evict a written property and the property range query results once the transaction commits
+     */
+    public void evictProperty(Long id) {
+        TransactionHooks.afterCommit(() -> {
+            Cache cache = cache();
+            if (id != null) {
+                cache.evictEntityData(Property.class, id);
+            }
+            cache.evictQueryRegion(propertyRepository.PROPERTY_RANGE_QUERY_REGION);
+        });
+    }
+
+    /**
+     * Evict every cached property, tenant and lease and all query results, e.g. after a bulk import
+     */
+    public void evictAll() {
+        TransactionHooks.afterCommit(() -> {
+            Cache cache = cache();
+            cache.evictEntityData(Property.class);
+            cache.evictEntityData(Tenant.class);
+            cache.evictEntityData(Lease.class);
+            cache.evictQueryRegions();
+            log.info("Evicted second-level cache");
+        });
+    }
+
+    @Override
+    public Set<AggregateType> subscribedTypes() {
+        return EnumSet.of(AggregateType.PROPERTY, AggregateType.TENANT, AggregateType.LEASE);
+    }
+
+    /**
+     * Evict entities changed outside the services, e.g. by another node, as reported by the outbox
+     */
+    @Override
+    public void onChanges(List<ChangeEvent> changes) {
+        Cache cache = cache();
+        boolean propertiesChanged = false;
+        for (ChangeEvent change : changes) {
+            switch (change.aggregateType()) {
+                case PROPERTY -> {
+                    cache.evictEntityData(Property.class, change.aggregateId());
+                    propertiesChanged = true;
+                }
+                case TENANT -> cache.evictEntityData(Tenant.class, change.aggregateId());
+                case LEASE -> cache.evictEntityData(Lease.class, change.aggregateId());
+                default -> {
+                }
+            }
+        }
+        if (propertiesChanged) {
+            cache.evictQueryRegion(propertyRepository.PROPERTY_RANGE_QUERY_REGION);
+        }
+    }
+
+    /**
+     * Get hit/miss statistics for every cache region
+     */
+    public List<cacheRegionStatsDTO> getRegionStatistics() {
+        Statistics statistics = sessionFactory().getStatistics();
+        return Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(region -> toDto(region, statistics.getCacheRegionStatistics(region)))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private static cacheRegionStatsDTO toDto(String region, CacheRegionStatistics stats) {
+        if (stats == null) {
+            return null;
+        }
+        long lookups = stats.getHitCount() + stats.getMissCount();
+        return cacheRegionStatsDTO.builder()
+                .region(region)
+                .hitCount(stats.getHitCount())
+                .missCount(stats.getMissCount())
+                .putCount(stats.getPutCount())
+                .elementCountInMemory(stats.getElementCountInMemory())
+                .hitRatio(lookups == 0 ? null : (double) stats.getHitCount() / lookups)
+                .build();
+    }
+
+    private Cache cache() {
+        return sessionFactory().getCache();
+    }
+
+    private SessionFactory sessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactory.class);
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.backend.service;
+
+import java.time.Duration;
+
+/**
+ * Published when a repository or service call exceeds the slow-call or statement threshold.
+ * Listen with {@code @EventListener} to forward alerts.
+ *
+ * @param layer      "repository" or "service"
+ * @param type       simple name of the repository interface or service class
+ * @param method     method name
+ * @param duration   wall time of the call
+ * @param statements SQL statements prepared during the call, including lazy loads
+ */
+public record SlowPersistenceCallEvent(String layer, String type, String method,
+                                       Duration duration, long statements) {
+}
@@ -0,0 +1,16 @@
+package org.example.backend.service;
+
+/**
+ * A response body together with its {@link EntityTags entity tag}, both read in one
+ * transaction. The body is null when the client's copy still matched the tag and was not loaded.
+ */
+public record Tagged<T>(String tag, T body) {
+
+    static <T> Tagged<T> notModified(String tag) {
+        return new Tagged<>(tag, null);
+    }
+
+    public boolean notModified() {
+        return body == null;
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.backend.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.backend.dto.keysetPageDTO;
+import org.example.backend.dto.tenantDTO;
+import org.example.backend.entity.Tenant;
+import org.example.backend.repository.KeysetSupport;
+import org.example.backend.repository.TenantSpecifications;
+import org.example.backend.repository.tenantRepository;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * Reads tenants for the list and single-tenant views, versioned by {@link EntityTags} in the
+ * same transaction as in {@link PropertyQueryService}.
+ *
+ * Each tenant's property comes from the second-level cache, so a page costs its select and
+ * count whichever properties it spans.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TenantQueryService {
+
+    private final tenantRepository tenantRepository;
+    private final EntityTags entityTags;
+
+    /**
+     * Get a tenant, or empty if it does not exist
+     */
+    public Tagged<Optional<tenantDTO>> getTenant(Long id, Predicate<String> notModified) {
+        String tag = entityTags.tenant(id);
+        if (notModified.test(tag)) {
+            return Tagged.notModified(tag);
+        }
+        return new Tagged<>(tag, tenantRepository.findById(id)
+                .map(tenant -> PropertyDetailService.toDTO(tenant, tenant.getProperty())));
+    }
+
+    /**
+     * Get a page of tenants, optionally of one property and in one lease status
+     * (ACTIVE, EXPIRED or FUTURE as of today)
+     */
+    public Tagged<Page<tenantDTO>> getTenants(Long propertyId, String leaseStatus, Pageable pageable,
+                                              Predicate<String> notModified) {
+        String tag = entityTags.tenants(propertyId, leaseStatus);
+        if (notModified.test(tag)) {
+            return Tagged.notModified(tag);
+        }
+        return new Tagged<>(tag, tenantRepository.findWithFilters(propertyId, leaseStatus, pageable)
+                .map(tenant -> PropertyDetailService.toDTO(tenant, tenant.getProperty())));
+    }
+
+    /**
+     * Get a window of tenants by keyset, filtered as {@link #getTenants} does.
+     * Each window costs the same regardless of depth; the total is only counted on request.
+     */
+    public keysetPageDTO<tenantDTO> scrollTenants(Long propertyId, String leaseStatus, String sortProperty,
+                                                  Sort.Direction direction, String continuationToken,
+                                                  int size, boolean includeTotal) {
+        Sort sort = KeysetSupport.stable(Sort.by(direction, sortProperty), tenantRepository.KEYSET_SORT_PROPERTIES);
+        KeysetScrollPosition position = ContinuationTokens.decode(sort, continuationToken);
+
+        Window<Tenant> window = tenantRepository.scrollWithFilters(propertyId, leaseStatus, position, sort, size);
+        Long total = includeTotal
+                ? tenantRepository.count(TenantSpecifications.withFilters(propertyId, leaseStatus, LocalDate.now()))
+                : null;
+        return keysetPageDTO.<tenantDTO>builder()
+                .content(window.getContent().stream()
+                        .map(tenant -> PropertyDetailService.toDTO(tenant, tenant.getProperty()))
+                        .toList())
+                .size(window.size())
+                .hasNext(window.hasNext())
+                .nextToken(ContinuationTokens.next(sort, window))
+                .totalElements(total)
+                .build();
+    }
+}
@@ -0,0 +1,373 @@
+package org.example.backend.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Embedded inverted trigram index over a few text fields per document.
+ *
+ * Every distinct substring of one to three characters of a field maps to an ascending list
+ * of internal document numbers. A search intersects the postings of the term's trigrams, or
+ * takes the postings of a one- or two-character term as they are, then verifies each
+ * candidate with a substring check, so results match {@code LOWER(field) LIKE '%term%'}
+ * exactly. Null fields are not indexed and match nothing, as in SQL; only the empty term
+ * verifies every live document.
+ *
+ * Updates append a new document number and tombstone the old one; postings are rebuilt
+ * from the live documents once tombstones outnumber them.
+ */
+final class TextSearchIndex {
+
+    private static final int GRAM = 3;
+
+    private final float[] fieldWeights;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<String, IntList> postings = new HashMap<>();
+    private final Map<Long, Integer> docByExternalId = new HashMap<>();
+    private long[] externalIds = new long[1024];
+    private String[][] texts = new String[1024][];
+    private final BitSet live = new BitSet();
+    private int docCount;
+
+    /**
+     * Changes applied while a rebuild query is running, replayed on top of its result
+     */
+    private List<Runnable> changesDuringRebuild;
+    private volatile boolean ready;
+
+    /**
+     * @param fieldWeights ranking weight of each indexed field, in field order
+     */
+    TextSearchIndex(float... fieldWeights) {
+        this.fieldWeights = fieldWeights;
+    }
+
+    boolean isReady() {
+        return ready;
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return docByExternalId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Add or replace a document
+     */
+    void put(long id, String... fields) {
+        change(() -> {
+            removeInternal(id);
+            addInternal(id, fields);
+        });
+    }
+
+    /**
+     * Remove a document if present
+     */
+    void remove(long id) {
+        change(() -> removeInternal(id));
+    }
+
+    /**
+     * Start a rebuild; changes from now on are replayed over the rebuilt content
+     */
+    void beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replace the whole index with the given rows of {id, field...}
+     */
+    void finishRebuild(List<Object[]> rows) {
+        lock.writeLock().lock();
+        try {
+            postings = new HashMap<>();
+            docByExternalId.clear();
+            live.clear();
+            docCount = 0;
+            externalIds = new long[Math.max(1024, rows.size())];
+            texts = new String[externalIds.length][];
+            for (Object[] row : rows) {
+                String[] fields = new String[row.length - 1];
+                for (int i = 1; i < row.length; i++) {
+                    fields[i - 1] = (String) row[i];
+                }
+                addInternal((Long) row[0], fields);
+            }
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.forEach(Runnable::run);
+            }
+            changesDuringRebuild = null;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Abandon a rebuild that failed to load its rows
+     */
+    void abortRebuild() {
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Find documents containing the term in any field, best matches first
+     */
+    Hits search(String term, long offset, int limit) {
+        String query = normalize(term);
+        lock.readLock().lock();
+        try {
+            long[] ranked = new long[64];
+            int matches = 0;
+            if (!query.isEmpty()) {
+                IntList candidates = query.length() < GRAM ? postings.get(query) : candidates(query);
+                for (int i = 0; candidates != null && i < candidates.size; i++) {
+                    int doc = candidates.values[i];
+                    int score = live.get(doc) ? score(doc, query) : 0;
+                    if (score > 0) {
+                        ranked = append(ranked, matches++, rankKey(score, doc));
+                    }
+                }
+            } else {
+                for (int doc = live.nextSetBit(0); doc >= 0; doc = live.nextSetBit(doc + 1)) {
+                    int score = score(doc, query);
+                    if (score > 0) {
+                        ranked = append(ranked, matches++, rankKey(score, doc));
+                    }
+                }
+            }
+            Arrays.sort(ranked, 0, matches);
+            int from = (int) Math.min(offset, matches);
+            int to = (int) Math.min((long) from + limit, matches);
+            long[] ids = new long[to - from];
+            for (int i = from; i < to; i++) {
+                // Keys sort ascending, so the best match is the last one
+                int doc = Integer.MAX_VALUE - (int) (ranked[matches - 1 - i] & 0xffffffffL);
+                ids[i - from] = externalIds[doc];
+            }
+            return new Hits(matches, ids);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void change(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(change);
+            }
+            if (docCount > 1024 && docCount - live.cardinality() > live.cardinality()) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void addInternal(long id, String[] fields) {
+        if (docCount == externalIds.length) {
+            externalIds = Arrays.copyOf(externalIds, docCount * 2);
+            texts = Arrays.copyOf(texts, docCount * 2);
+        }
+        int doc = docCount++;
+        String[] normalized = new String[fields.length];
+        Set<String> grams = new LinkedHashSet<>();
+        for (int f = 0; f < fields.length; f++) {
+            if (fields[f] == null) {
+                continue;
+            }
+            normalized[f] = normalize(fields[f]);
+            for (int length = 1; length <= GRAM; length++) {
+                for (int i = 0; i + length <= normalized[f].length(); i++) {
+                    grams.add(normalized[f].substring(i, i + length));
+                }
+            }
+        }
+        for (String gram : grams) {
+            postings.computeIfAbsent(gram, g -> new IntList()).add(doc);
+        }
+        externalIds[doc] = id;
+        texts[doc] = normalized;
+        live.set(doc);
+        docByExternalId.put(id, doc);
+    }
+
+    private void removeInternal(long id) {
+        Integer doc = docByExternalId.remove(id);
+        if (doc != null) {
+            live.clear(doc);
+            texts[doc] = null;
+        }
+    }
+
+    /**
+     * Re-number the live documents and rebuild postings without tombstones
+     */
+    private void compact() {
+        long[] oldIds = externalIds;
+        String[][] oldTexts = texts;
+        BitSet oldLive = (BitSet) live.clone();
+        postings = new HashMap<>();
+        docByExternalId.clear();
+        live.clear();
+        docCount = 0;
+        externalIds = new long[Math.max(1024, oldLive.cardinality() * 2)];
+        texts = new String[externalIds.length][];
+        for (int doc = oldLive.nextSetBit(0); doc >= 0; doc = oldLive.nextSetBit(doc + 1)) {
+            addInternal(oldIds[doc], oldTexts[doc]);
+        }
+    }
+
+    /**
+     * Intersect the postings of every trigram in the query, shortest list first
+     */
+    private IntList candidates(String query) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM <= query.length(); i++) {
+            grams.add(query.substring(i, i + GRAM));
+        }
+        List<IntList> lists = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            IntList list = postings.get(gram);
+            if (list == null) {
+                return null;
+            }
+            lists.add(list);
+        }
+        lists.sort((a, b) -> Integer.compare(a.size, b.size));
+        IntList result = lists.get(0);
+        for (int i = 1; i < lists.size() && result.size > 0; i++) {
+            result = result.intersect(lists.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Score a document: exact field match, then field prefix, then word prefix, then substring,
+     * weighted by field; zero when no field contains the query
+     */
+    private int score(int doc, String query) {
+        String[] fields = texts[doc];
+        float best = 0;
+        for (int f = 0; f < fields.length; f++) {
+            String text = fields[f];
+            int at = text == null ? -1 : text.indexOf(query);
+            if (at < 0) {
+                continue;
+            }
+            int base;
+            if (text.length() == query.length()) {
+                base = 100;
+            } else if (at == 0) {
+                base = 50;
+            } else if (startsWord(text, query, at)) {
+                base = 20;
+            } else {
+                base = 10;
+            }
+            best = Math.max(best, base * weight(f));
+        }
+        return (int) best;
+    }
+
+    private static boolean startsWord(String text, String query, int from) {
+        for (int at = from; at >= 0; at = text.indexOf(query, at + 1)) {
+            if (at == 0 || !Character.isLetterOrDigit(text.charAt(at - 1))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private float weight(int field) {
+        return field < fieldWeights.length ? fieldWeights[field] : 1f;
+    }
+
+    /**
+     * Pack score and document number so an ascending sort yields worst-first,
+     * with older documents ranked ahead on equal scores
+     */
+    private static long rankKey(int score, int doc) {
+        return ((long) score << 32) | (Integer.MAX_VALUE - doc);
+    }
+
+    private static long[] append(long[] array, int index, long value) {
+        if (index == array.length) {
+            array = Arrays.copyOf(array, index * 2);
+        }
+        array[index] = value;
+        return array;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Matching document ids for one page, plus the total number of matches
+     */
+    record Hits(long total, long[] ids) {
+    }
+
+    /**
+     * Growable ascending int array used for postings
+     */
+    private static final class IntList {
+        int[] values = new int[4];
+        int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        IntList intersect(IntList other) {
+            IntList result = new IntList();
+            int i = 0;
+            int j = 0;
+            while (i < size && j < other.size) {
+                int a = values[i];
+                int b = other.values[j];
+                if (a == b) {
+                    result.add(a);
+                    i++;
+                    j++;
+                } else if (a < b) {
+                    i++;
+                } else {
+                    j++;
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package org.example.backend.service;
+
+import java.util.Arrays;
+
+/**
+ * Linear trend model over a fixed window of monthly values, with optional yearly seasonality.
+ *
+ * The least-squares fit is kept as sufficient statistics (sums of x, y, x², xy and y²),
+ * so sliding the window forward by one month is O(1) for the trend; only the residual
+ * diagnostics (seasonal indices, accuracy) revisit the window. Instances are immutable.
+ */
+final class TimeSeriesModel {
+
+    /**
+     * Two-sided 95% normal quantile used for prediction intervals
+     */
+    static final double Z_95 = 1.959964;
+
+    private static final int YEAR = 12;
+    private static final int QUARTER = 3;
+
+    /**
+     * Residual autocorrelation above which a lag counts as seasonal
+     */
+    private static final double SEASONALITY_THRESHOLD = 0.3;
+
+    private final double[] values;
+    private final double sx;
+    private final double sy;
+    private final double sxx;
+    private final double sxy;
+    private final double syy;
+
+    private final double slope;
+    private final double intercept;
+    private final double residualStdDev;
+    private final double rSquared;
+    private final double accuracy;
+    private final String seasonality;
+
+    /**
+     * Yearly seasonal offsets by window position modulo 12; null when not seasonal
+     */
+    private final double[] seasonalIndex;
+
+    private TimeSeriesModel(double[] values, double sx, double sy, double sxx, double sxy, double syy) {
+        this.values = values;
+        this.sx = sx;
+        this.sy = sy;
+        this.sxx = sxx;
+        this.sxy = sxy;
+        this.syy = syy;
+
+        int n = values.length;
+        double varianceX = sxx - sx * sx / n;
+        this.slope = varianceX > 0 ? (sxy - sx * sy / n) / varianceX : 0;
+        this.intercept = (sy - slope * sx) / n;
+
+        double[] residuals = new double[n];
+        double sse = 0;
+        for (int x = 0; x < n; x++) {
+            residuals[x] = values[x] - (intercept + slope * x);
+            sse += residuals[x] * residuals[x];
+        }
+        double sst = syy - sy * sy / n;
+        this.rSquared = sst > 0 ? Math.max(0, 1 - sse / sst) : 0;
+
+        if (n >= 2 * YEAR && autocorrelation(residuals, YEAR) > SEASONALITY_THRESHOLD) {
+            this.seasonality = "YEARLY";
+            this.seasonalIndex = seasonalIndex(residuals);
+            sse = 0;
+            for (int x = 0; x < n; x++) {
+                double r = residuals[x] - seasonalIndex[x % YEAR];
+                sse += r * r;
+            }
+        } else {
+            this.seasonality = n >= 2 * QUARTER && autocorrelation(residuals, QUARTER) > SEASONALITY_THRESHOLD
+                    ? "QUARTERLY" : "NONE";
+            this.seasonalIndex = null;
+        }
+        this.residualStdDev = n > 2 ? Math.sqrt(sse / (n - 2)) : 0;
+        this.accuracy = accuracy(values);
+    }
+
+    /**
+     * Fit a model to the values, oldest first
+     */
+    static TimeSeriesModel fit(double[] values) {
+        double sx = 0, sy = 0, sxx = 0, sxy = 0, syy = 0;
+        for (int x = 0; x < values.length; x++) {
+            double y = values[x];
+            sx += x;
+            sy += y;
+            sxx += (double) x * x;
+            sxy += x * y;
+            syy += y * y;
+        }
+        return new TimeSeriesModel(values.clone(), sx, sy, sxx, sxy, syy);
+    }
+
+    /**
+     * Drop the oldest value, append the newest and refit.
+     * The trend sums are shifted rather than recomputed: re-indexing the remaining m
+     * points from x to x-1 maps Σx to Σx-m, Σxy to Σxy-Σy and Σx² to Σx²-2Σx+m.
+     */
+    TimeSeriesModel slide(double next) {
+        int n = values.length;
+        double oldest = values[0];
+        // Remove the oldest point (x = 0) and re-index the rest
+        double sx = this.sx - (n - 1);
+        double sy = this.sy - oldest;
+        double sxx = this.sxx - 2 * this.sx + n - 1;
+        double sxy = this.sxy - (this.sy - oldest);
+        double syy = this.syy - oldest * oldest;
+        // Append the new point at x = n - 1
+        int x = n - 1;
+        sx += x;
+        sy += next;
+        sxx += (double) x * x;
+        sxy += x * next;
+        syy += next * next;
+
+        double[] shifted = Arrays.copyOfRange(values, 1, n + 1);
+        shifted[x] = next;
+        return new TimeSeriesModel(shifted, sx, sy, sxx, sxy, syy);
+    }
+
+    int size() {
+        return values.length;
+    }
+
+    double value(int x) {
+        return values[x];
+    }
+
+    /**
+     * Point forecast for the given number of months after the last value
+     */
+    double predict(int monthsAhead) {
+        int x = values.length - 1 + monthsAhead;
+        double prediction = intercept + slope * x;
+        if (seasonalIndex != null) {
+            prediction += seasonalIndex[x % YEAR];
+        }
+        return prediction;
+    }
+
+    /**
+     * Half-width of the 95% prediction interval for the given number of months ahead
+     */
+    double intervalHalfWidth(int monthsAhead) {
+        int n = values.length;
+        double x = n - 1 + monthsAhead;
+        double meanX = sx / n;
+        double varianceX = sxx - sx * sx / n;
+        double leverage = varianceX > 0 ? (x - meanX) * (x - meanX) / varianceX : 0;
+        return Z_95 * residualStdDev * Math.sqrt(1 + 1.0 / n + leverage);
+    }
+
+    double slope() {
+        return slope;
+    }
+
+    double mean() {
+        return sy / values.length;
+    }
+
+    /**
+     * Share of variance explained by the trend, 0 to 1
+     */
+    double rSquared() {
+        return rSquared;
+    }
+
+    /**
+     * 100 minus the in-sample mean absolute percentage error, or NaN when every value is zero
+     */
+    double accuracy() {
+        return accuracy;
+    }
+
+    String seasonality() {
+        return seasonality;
+    }
+
+    private double accuracy(double[] values) {
+        double errorSum = 0;
+        int counted = 0;
+        for (int x = 0; x < values.length; x++) {
+            if (values[x] != 0) {
+                double fitted = intercept + slope * x + (seasonalIndex == null ? 0 : seasonalIndex[x % YEAR]);
+                errorSum += Math.abs((values[x] - fitted) / values[x]);
+                counted++;
+            }
+        }
+        if (counted == 0) {
+            return Double.NaN;
+        }
+        return Math.max(0, 100 * (1 - errorSum / counted));
+    }
+
+    private static double autocorrelation(double[] residuals, int lag) {
+        double numerator = 0;
+        double denominator = 0;
+        for (int i = 0; i < residuals.length; i++) {
+            denominator += residuals[i] * residuals[i];
+            if (i + lag < residuals.length) {
+                numerator += residuals[i] * residuals[i + lag];
+            }
+        }
+        return denominator > 0 ? numerator / denominator : 0;
+    }
+
+    private static double[] seasonalIndex(double[] residuals) {
+        double[] sums = new double[YEAR];
+        int[] counts = new int[YEAR];
+        for (int x = 0; x < residuals.length; x++) {
+            sums[x % YEAR] += residuals[x];
+            counts[x % YEAR]++;
+        }
+        for (int i = 0; i < YEAR; i++) {
+            sums[i] = counts[i] > 0 ? sums[i] / counts[i] : 0;
+        }
+        return sums;
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.backend.service;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Compact encodings negotiated alongside JSON through the Accept header.
+ *
+ * application/cbor comes with jackson-dataformat-cbor on the classpath and works for every
+ * endpoint. Property lists and pages can also be had as {@link PropertyColumns}. Both are
+ * appended after the JSON converter so that a client accepting anything keeps getting
+ * JSON; responses are gzip-compressed per {@code server.compression.*}.
+ */
+@Configuration(proxyBeanMethods = false)
+public class WireFormatConfiguration implements WebMvcConfigurer {
+
+    /**
+     * CBOR converter built from Boot's customized builder, so CBOR carries the same
+     * {@code spring.jackson.*} settings as JSON (ISO timestamps rather than arrays among them).
+     * Replaces Spring MVC's default CBOR converter in place.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new PropertyColumnsHttpMessageConverter());
+    }
+}
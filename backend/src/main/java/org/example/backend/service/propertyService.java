@@ -2,7 +2,10 @@ package org.example.backend.service;
 
 org.example
 
+import org.example.backend.dto.keysetPageDTO;
+import org.example.backend.dto.mapClusterDTO;
 import org.example.backend.dto.propertyDTO;
+import org.example.backend.dto.propertyRowDTO;
 import org.example.backend.dto.
 import org.example.dto.PropertyUpdateDTO;
 import org.example.dto.PortfolioSummaryDTO;
@@ -10,14 +13,21 @@ import org.example.entity.Property;
 import org.example.exception.ResourceNotFoundException;
 import org.example.mapper.PropertyMapper;
 import org.example.repository.PropertyRepository;
+import org.example.backend.repository.KeysetSupport;
+import org.example.backend.repository.PropertySpecifications;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -27,8 +37,17 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class PropertyService {
 
+    /**
+     * Maximum number of ids per IN-list when loading properties found by an index
+     */
+    private static final int ID_BATCH_SIZE = 1000;
+
     private final PropertyRepository propertyRepository;
     private final PropertyMapper propertyMapper;
+    private final PortfolioSummaryAggregate portfolioSummaryAggregate;
+    private final PropertySpatialIndex propertySpatialIndex;
+    private final SearchIndexService searchIndexService;
+    private final SecondLevelCache secondLevelCache;
 
     /**
      * Get all properties with pagination
@@ -57,6 +76,10 @@ public class PropertyService {
         log.debug("Creating new property: {}", createDTO.getName());
         Property property = propertyMapper.toEntity(createDTO);
         Property savedProperty = propertyRepository.save(property);
+        portfolioSummaryAggregate.recordCreated(savedProperty);
+        propertySpatialIndex.recordSaved(savedProperty);
+        searchIndexService.recordPropertySaved(savedProperty);
+        secondLevelCache.evictProperty(savedProperty.getId());
         log.info("Created property with id: {}", savedProperty.getId());
         return propertyMapper.toDto(savedProperty);
     }
@@ -70,8 +93,13 @@ public class PropertyService {
         Property existingProperty = propertyRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Property not found with id: " + id));
 
+        PortfolioSummaryAggregate.Figures before = PortfolioSummaryAggregate.Figures.of(existingProperty);
         propertyMapper.updateEntityFromDto(updateDTO, existingProperty);
         Property savedProperty = propertyRepository.save(existingProperty);
+        portfolioSummaryAggregate.recordUpdated(before, savedProperty);
+        propertySpatialIndex.recordSaved(savedProperty);
+        searchIndexService.recordPropertySaved(savedProperty);
+        secondLevelCache.evictProperty(savedProperty.getId());
         log.info("Updated property with id: {}", savedProperty.getId());
         return propertyMapper.toDto(savedProperty);
     }
@@ -82,19 +110,22 @@ public class PropertyService {
     @Transactional
     public void deleteProperty(Long id) {
         log.debug("Deleting property with id: {}", id);
-        if (!propertyRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Property not found with id: " + id);
-        }
-        propertyRepository.deleteById(id);
+        Property property = propertyRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Property not found with id: " + id));
+        propertyRepository.delete(property);
+        portfolioSummaryAggregate.recordDeleted(property);
+        propertySpatialIndex.recordDeleted(id);
+        searchIndexService.recordPropertyDeleted(id);
+        secondLevelCache.evictProperty(id);
         log.info("Deleted property with id: {}", id);
     }
 
     /**
-     * Search properties by name or address
+     * Search properties by name or address, ranked by match quality unless a sort is given
      */
     public Page<PropertyDTO> searchProperties(String searchTerm, Pageable pageable) {
         log.debug("Searching properties with term: {}", searchTerm);
-        Page<Property> properties = propertyRepository.searchByNameOrAddress(searchTerm, pageable);
+        Page<Property> properties = searchIndexService.searchProperties(searchTerm, pageable);
         return properties.map(propertyMapper::toDto);
     }
 
@@ -113,11 +144,41 @@ public class PropertyService {
     }
 
     /**
-     * Get portfolio summary for dashboard KPIs
+     * Filter properties with keyset pagination.
+     * Each window costs the same regardless of depth; the total is only counted on request.
+     */
+    public keysetPageDTO<PropertyDTO> scrollProperties(String propertyType, BigDecimal minOccupancy,
+                                                       BigDecimal maxOccupancy, BigDecimal minEsgScore,
+                                                       BigDecimal maxEsgScore, String sortProperty,
+                                                       Sort.Direction direction, String continuationToken,
+                                                       int size, boolean includeTotal) {
+        log.debug("Scrolling properties sorted by {} {} from token {}", sortProperty, direction, continuationToken);
+        Sort sort = KeysetSupport.stable(Sort.by(direction, sortProperty), propertyRepository.KEYSET_SORT_PROPERTIES);
+        KeysetScrollPosition position = ContinuationTokens.decode(sort, continuationToken);
+
+        Window<Property> window = propertyRepository.scrollWithFilters(propertyType, minOccupancy, maxOccupancy,
+                minEsgScore, maxEsgScore, position, sort, size);
+        Long total = includeTotal
+                ? propertyRepository.count(PropertySpecifications.withFilters(propertyType, minOccupancy,
+                        maxOccupancy, minEsgScore, maxEsgScore))
+                : null;
+        return keysetPageDTO.<PropertyDTO>builder()
+                .content(window.getContent().stream()
+                        .map(propertyMapper::toDto)
+                        .collect(Collectors.toList()))
+                .size(window.size())
+                .hasNext(window.hasNext())
+                .nextToken(ContinuationTokens.next(sort, window))
+                .totalElements(total)
+                .build();
+    }
+
+    /**
+     * Get portfolio summary for dashboard KPIs, served from the in-memory aggregate
      */
     public PortfolioSummaryDTO getPortfolioSummary() {
         log.debug("Fetching portfolio summary");
-        PropertyRepository.PortfolioSummary summary = propertyRepository.getPortfolioSummary();
+        PropertyRepository.PortfolioSummary summary = portfolioSummaryAggregate.current();
         return PortfolioSummaryDTO.builder()
                 .totalProperties(summary.getTotalProperties())
                 .totalUnits(summary.getTotalUnits())
@@ -134,10 +195,10 @@ public class PropertyService {
      */
     public List<PropertyDTO> getTopPerformingProperties(int limit) {
         log.debug("Fetching top {} performing properties", limit);
-        List<Property> properties = propertyRepository.findTopPerformingProperties(
+        List<propertyRowDTO> properties = propertyRepository.findTopPerformingRows(
                 Pageable.ofSize(limit));
         return properties.stream()
-                .map(propertyMapper::toDto)
+                .map(propertyRowDTO::toDto)
                 .collect(Collectors.toList());
     }
 
@@ -146,9 +207,9 @@ public class PropertyService {
      */
     public List<PropertyDTO> getLowOccupancyProperties(BigDecimal threshold) {
         log.debug("Fetching properties with occupancy below: {}", threshold);
-        List<Property> properties = propertyRepository.findLowOccupancyProperties(threshold);
+        List<propertyRowDTO> properties = propertyRepository.findLowOccupancyRows(threshold);
         return properties.stream()
-                .map(propertyMapper::toDto)
+                .map(propertyRowDTO::toDto)
                 .collect(Collectors.toList());
     }
 
@@ -157,9 +218,9 @@ public class PropertyService {
      */
     public List<PropertyDTO> getPropertiesNeedingEsgImprovement(BigDecimal threshold) {
         log.debug("Fetching properties needing ESG improvement below: {}", threshold);
-        List<Property> properties = propertyRepository.findPropertiesNeedingEsgImprovement(threshold);
+        List<propertyRowDTO> properties = propertyRepository.findRowsNeedingEsgImprovement(threshold);
         return properties.stream()
-                .map(propertyMapper::toDto)
+                .map(propertyRowDTO::toDto)
                 .collect(Collectors.toList());
     }
 
@@ -170,11 +231,36 @@ public class PropertyService {
                                                    BigDecimal minLng, BigDecimal maxLng) {
         log.debug("Fetching properties in bounds: lat({}-{}), lng({}-{})",
                 minLat, maxLat, minLng, maxLng);
-        List<Property> properties = propertyRepository.findPropertiesInBounds(
-                minLat, maxLat, minLng, maxLng);
-        return properties.stream()
-                .map(propertyMapper::toDto)
-                .collect(Collectors.toList());
+        if (!propertySpatialIndex.isReady()) {
+            List<Property> properties = propertyRepository.findPropertiesInBounds(
+                    minLat, maxLat, minLng, maxLng);
+            return properties.stream()
+                    .map(propertyMapper::toDto)
+                    .collect(Collectors.toList());
+        }
+        long[] ids = propertySpatialIndex.findIds(minLat.doubleValue(), maxLat.doubleValue(),
+                minLng.doubleValue(), maxLng.doubleValue());
+        List<PropertyDTO> result = new ArrayList<>(ids.length);
+        for (int from = 0; from < ids.length; from += ID_BATCH_SIZE) {
+            List<Long> batch = Arrays.stream(ids, from, Math.min(ids.length, from + ID_BATCH_SIZE))
+                    .boxed()
+                    .collect(Collectors.toList());
+            propertyRepository.findAllById(batch).stream()
+                    .map(propertyMapper::toDto)
+                    .forEach(result::add);
+        }
+        return result;
+    }
+
+    /**
+     * Get property clusters within geographic bounds for low map zoom levels
+     */
+    public List<mapClusterDTO> getPropertyClustersInBounds(BigDecimal minLat, BigDecimal maxLat,
+                                                           BigDecimal minLng, BigDecimal maxLng, int zoom) {
+        log.debug("Fetching property clusters in bounds: lat({}-{}), lng({}-{}), zoom {}",
+                minLat, maxLat, minLng, maxLng, zoom);
+        return propertySpatialIndex.clusters(minLat.doubleValue(), maxLat.doubleValue(),
+                minLng.doubleValue(), maxLng.doubleValue(), zoom);
     }
 
     /**
@@ -213,14 +299,15 @@ public class PropertyService {
      */
     public List<PropertyDTO> getHighIncomeProperties(BigDecimal threshold) {
         log.debug("Fetching properties with rental income above: {}", threshold);
-        List<Property> properties = propertyRepository.findByRentalIncomeGreaterThan(threshold);
+        List<propertyRowDTO> properties = propertyRepository.findRowsByRentalIncomeGreaterThan(threshold);
         return properties.stream()
-                .map(propertyMapper::toDto)
+                .map(propertyRowDTO::toDto)
                 .collect(Collectors.toList());
     }
 
     /**
-     * Get historical data for forecasting
+     * Get historical data for forecasting.
+     * Loads every property into memory; use ExportService for full-portfolio dumps.
      */
     public List<PropertyDTO> getHistoricalData() {
         log.debug("Fetching historical property data for forecasting");
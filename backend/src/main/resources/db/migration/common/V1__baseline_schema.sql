@@ -0,0 +1,92 @@
+-- Baseline schema, as Hibernate generated it from the entities before migrations took
+-- over: identity ids and no derived tables. Existing databases are baselined at this
+-- version and start from V2.
+
+CREATE TABLE properties (
+    id             BIGINT         GENERATED BY DEFAULT AS IDENTITY,
+    name           VARCHAR(255)   NOT NULL,
+    address        VARCHAR(500)   NOT NULL,
+    property_type  VARCHAR(100),
+    total_units    INTEGER,
+    occupied_units INTEGER,
+    occupancy_rate NUMERIC(5, 2),
+    rental_income  NUMERIC(15, 2),
+    asset_value    NUMERIC(20, 2),
+    esg_score      NUMERIC(5, 2),
+    square_footage INTEGER,
+    year_built     INTEGER,
+    latitude       NUMERIC(10, 8),
+    longitude      NUMERIC(11, 8),
+    created_at     TIMESTAMP(6),
+    updated_at     TIMESTAMP(6),
+    CONSTRAINT pk_properties PRIMARY KEY (id)
+);
+
+CREATE TABLE tenants (
+    id                BIGINT        GENERATED BY DEFAULT AS IDENTITY,
+    name              VARCHAR(255)  NOT NULL,
+    email             VARCHAR(255)  NOT NULL,
+    phone             VARCHAR(20),
+    emergency_contact VARCHAR(255),
+    emergency_phone   VARCHAR(20),
+    lease_start       DATE,
+    lease_end         DATE,
+    monthly_rent      NUMERIC(10, 2),
+    security_deposit  NUMERIC(10, 2),
+    status            VARCHAR(20)   CHECK (status IN ('ACTIVE', 'INACTIVE', 'PENDING', 'TERMINATED')),
+    unit_number       VARCHAR(50),
+    payment_score     NUMERIC(5, 2),
+    property_id       BIGINT        NOT NULL,
+    created_at        TIMESTAMP(6),
+    updated_at        TIMESTAMP(6),
+    CONSTRAINT pk_tenants PRIMARY KEY (id),
+    CONSTRAINT uk_tenants_email UNIQUE (email),
+    CONSTRAINT fk_tenants_property FOREIGN KEY (property_id) REFERENCES properties (id)
+);
+
+CREATE TABLE leases (
+    id               BIGINT         GENERATED BY DEFAULT AS IDENTITY,
+    lease_number     VARCHAR(100),
+    start_date       DATE           NOT NULL,
+    end_date         DATE           NOT NULL,
+    monthly_rent     NUMERIC(10, 2) NOT NULL,
+    security_deposit NUMERIC(10, 2),
+    status           VARCHAR(20)    NOT NULL CHECK (status IN ('ACTIVE', 'EXPIRED', 'TERMINATED', 'RENEWED', 'PENDING')),
+    lease_type       VARCHAR(20)    CHECK (lease_type IN ('FIXED_TERM', 'MONTH_TO_MONTH', 'PERIODIC')),
+    unit_number      VARCHAR(50),
+    square_footage   INTEGER,
+    notes            VARCHAR(1000),
+    auto_renewal     BOOLEAN,
+    tenant_id        BIGINT         NOT NULL,
+    property_id      BIGINT         NOT NULL,
+    created_at       TIMESTAMP(6),
+    updated_at       TIMESTAMP(6),
+    CONSTRAINT pk_leases PRIMARY KEY (id),
+    CONSTRAINT uk_leases_lease_number UNIQUE (lease_number),
+    CONSTRAINT fk_leases_tenant FOREIGN KEY (tenant_id) REFERENCES tenants (id),
+    CONSTRAINT fk_leases_property FOREIGN KEY (property_id) REFERENCES properties (id)
+);
+
+CREATE TABLE maintenance_requests (
+    id               BIGINT         GENERATED BY DEFAULT AS IDENTITY,
+    title            VARCHAR(255)   NOT NULL,
+    description      VARCHAR(2000),
+    status           VARCHAR(20)    NOT NULL CHECK (status IN ('PENDING', 'IN_PROGRESS', 'COMPLETED', 'CANCELLED', 'ON_HOLD')),
+    priority         VARCHAR(20)    NOT NULL CHECK (priority IN ('LOW', 'MEDIUM', 'HIGH', 'URGENT')),
+    category         VARCHAR(30)    CHECK (category IN ('PLUMBING', 'ELECTRICAL', 'HVAC', 'GENERAL', 'APPLIANCE',
+                                                        'STRUCTURAL', 'LANDSCAPING', 'SECURITY', 'CLEANING', 'OTHER')),
+    unit_number      VARCHAR(50),
+    reported_by      VARCHAR(255),
+    reporter_contact VARCHAR(255),
+    assigned_to      VARCHAR(255),
+    estimated_cost   NUMERIC(10, 2),
+    actual_cost      NUMERIC(10, 2),
+    scheduled_date   TIMESTAMP(6),
+    completed_date   TIMESTAMP(6),
+    notes            VARCHAR(1000),
+    property_id      BIGINT         NOT NULL,
+    created_at       TIMESTAMP(6),
+    updated_at       TIMESTAMP(6),
+    CONSTRAINT pk_maintenance_requests PRIMARY KEY (id),
+    CONSTRAINT fk_maintenance_requests_property FOREIGN KEY (property_id) REFERENCES properties (id)
+);
@@ -0,0 +1,35 @@
+-- Everything added to the entities since the baseline: pooled id sequences for batched
+-- inserts, the fired lease alerts and the transactional outbox. Objects are created only
+-- if missing, for databases Hibernate already updated before they were baselined. The
+-- sequences are seeded past the existing ids in V3, per vendor.
+
+CREATE SEQUENCE IF NOT EXISTS properties_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS tenants_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS leases_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS maintenance_requests_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS lease_alerts_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS lease_alerts (
+    id             BIGINT       NOT NULL,
+    lease_id       BIGINT       NOT NULL,
+    alert_type     VARCHAR(20)  NOT NULL,
+    lease_end_date DATE         NOT NULL,
+    due_date       DATE         NOT NULL,
+    fired_at       TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_lease_alerts PRIMARY KEY (id),
+    CONSTRAINT uk_lease_alerts_lease_type_end UNIQUE (lease_id, alert_type, lease_end_date),
+    CONSTRAINT fk_lease_alerts_lease FOREIGN KEY (lease_id) REFERENCES leases (id)
+);
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    aggregate_type VARCHAR(30)   NOT NULL,
+    aggregate_id   BIGINT        NOT NULL,
+    change_type    VARCHAR(10)   NOT NULL,
+    payload        VARCHAR(8000) NOT NULL,
+    created_at     TIMESTAMP(6)  NOT NULL,
+    published_at   TIMESTAMP(6),
+    CONSTRAINT pk_outbox_events PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_outbox_events_published_at ON outbox_events (published_at, id);
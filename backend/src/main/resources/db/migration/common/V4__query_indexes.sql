@@ -0,0 +1,59 @@
+-- B-tree indexes for the repository query shapes that both H2 and PostgreSQL can serve.
+-- Each index names the queries it backs; vendor migrations add the covering, partial and
+-- expression indexes on top.
+
+-- findByOccupancyRateBetween, findLowOccupancy*, findUnderperformingRows (ORDER BY occupancy_rate, id),
+-- findWithFilters occupancy range
+CREATE INDEX IF NOT EXISTS idx_properties_occupancy_rate ON properties (occupancy_rate, id);
+
+-- findByEsgScoreBetween, find*NeedingEsgImprovement, findWithFilters ESG range
+CREATE INDEX IF NOT EXISTS idx_properties_esg_score ON properties (esg_score);
+
+-- findByRentalIncomeGreaterThan, findRowsByRentalIncomeGreaterThan
+CREATE INDEX IF NOT EXISTS idx_properties_rental_income ON properties (rental_income);
+
+-- findPropertiesInBounds
+CREATE INDEX IF NOT EXISTS idx_properties_location ON properties (latitude, longitude);
+
+-- findByPropertyId, countActiveTenantsForProperty, findByPropertyAndDateRange, findWithFilters by property
+CREATE INDEX IF NOT EXISTS idx_tenants_property_lease_end ON tenants (property_id, lease_end);
+
+-- findTenantsWithExpiringLeases, findActiveTenantsAsOf, ACTIVE and EXPIRED lease status
+CREATE INDEX IF NOT EXISTS idx_tenants_lease_end_start ON tenants (lease_end, lease_start);
+
+-- FUTURE lease status
+CREATE INDEX IF NOT EXISTS idx_tenants_lease_start ON tenants (lease_start);
+
+-- countByStatus
+CREATE INDEX IF NOT EXISTS idx_tenants_status ON tenants (status);
+
+-- findByPropertyId, findActiveLeasesByProperty, findWithFilters by property
+CREATE INDEX IF NOT EXISTS idx_leases_property_end ON leases (property_id, end_date);
+
+-- findByTenantId, findWithFilters by tenant
+CREATE INDEX IF NOT EXISTS idx_leases_tenant ON leases (tenant_id);
+
+-- findActiveLeasesAsOf, findLeasesExpiringBetween, findExpiredLeases, findTimelineRowsEndingOn,
+-- findAnalyticsRowsActiveOn, findLeaseRenewalOpportunities, getLeaseExpiryCounts, getRentRoll*
+CREATE INDEX IF NOT EXISTS idx_leases_end_start ON leases (end_date, start_date);
+
+-- findFutureLeases, findTimelineRowsStartingOn, getRentTrendsByDate
+CREATE INDEX IF NOT EXISTS idx_leases_start_date ON leases (start_date);
+
+-- findByMonthlyRentBetween, findWithFilters rent range
+CREATE INDEX IF NOT EXISTS idx_leases_monthly_rent ON leases (monthly_rent);
+
+-- findBySecurityDepositGreaterThan
+CREATE INDEX IF NOT EXISTS idx_leases_security_deposit ON leases (security_deposit);
+
+-- findByPropertyId, findByPropertyIdAndStatusInOrderByCreatedAtDesc, findWithFilters by property
+CREATE INDEX IF NOT EXISTS idx_maintenance_property_status ON maintenance_requests (property_id, status, priority);
+
+-- findByStatus, findUrgentRequests, findOverdueRequests, findDispatchRows, findWithFilters by status
+CREATE INDEX IF NOT EXISTS idx_maintenance_status_priority ON maintenance_requests (status, priority, created_at);
+
+-- findByPriority
+CREATE INDEX IF NOT EXISTS idx_maintenance_priority ON maintenance_requests (priority);
+
+-- findRecentRequests, findByDateRange, getMaintenanceTrendsByDate, getMaintenanceCost*
+CREATE INDEX IF NOT EXISTS idx_maintenance_created_at ON maintenance_requests (created_at);
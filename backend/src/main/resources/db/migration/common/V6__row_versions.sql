@@ -0,0 +1,5 @@
+-- Per-row write counters for the entity tags of properties and tenants. Bumped by the
+-- writing transaction itself, so unlike updated_at, which is stamped at flush, a change
+-- becomes visible in the counter exactly when it commits.
+ALTER TABLE properties ADD COLUMN row_version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE tenants ADD COLUMN row_version BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,9 @@
+-- Start each id sequence past the rows inserted through the baseline identity columns.
+-- Hibernate's pooled optimizer hands out the 50 ids up to each value it draws, so the
+-- first value drawn must be at least MAX(id) + 50.
+
+ALTER SEQUENCE properties_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM properties);
+ALTER SEQUENCE tenants_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM tenants);
+ALTER SEQUENCE leases_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM leases);
+ALTER SEQUENCE maintenance_requests_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM maintenance_requests);
+ALTER SEQUENCE lease_alerts_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM lease_alerts);
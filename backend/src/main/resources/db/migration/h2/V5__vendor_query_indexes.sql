@@ -0,0 +1,8 @@
+-- H2 has no expression or partial indexes, so the case-insensitive matches get plain
+-- column indexes (used for equality on the stored case only) and the rest rely on V4.
+
+-- findByPropertyTypeIgnoreCase, findWithFilters by type
+CREATE INDEX IF NOT EXISTS idx_properties_property_type ON properties (property_type);
+
+-- findByAssignedToIgnoreCase, findWithFilters by technician
+CREATE INDEX IF NOT EXISTS idx_maintenance_assigned_to ON maintenance_requests (assigned_to);
@@ -0,0 +1,9 @@
+-- Start each id sequence past the rows inserted through the baseline identity columns.
+-- Hibernate's pooled optimizer hands out the 50 ids up to each value it draws, so the
+-- first value drawn must be at least MAX(id) + 50.
+
+SELECT setval('properties_seq', COALESCE(MAX(id), 0) + 50, false) FROM properties;
+SELECT setval('tenants_seq', COALESCE(MAX(id), 0) + 50, false) FROM tenants;
+SELECT setval('leases_seq', COALESCE(MAX(id), 0) + 50, false) FROM leases;
+SELECT setval('maintenance_requests_seq', COALESCE(MAX(id), 0) + 50, false) FROM maintenance_requests;
+SELECT setval('lease_alerts_seq', COALESCE(MAX(id), 0) + 50, false) FROM lease_alerts;
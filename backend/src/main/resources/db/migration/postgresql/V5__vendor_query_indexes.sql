@@ -0,0 +1,43 @@
+-- PostgreSQL covering, partial and expression indexes for the repository query shapes.
+
+-- Active-on and term-window rent rolls, the lease timeline and analytics rows read only
+-- these columns, so the end/start index carries them for index-only scans.
+DROP INDEX IF EXISTS idx_leases_end_start;
+CREATE INDEX IF NOT EXISTS idx_leases_end_start ON leases (end_date, start_date) INCLUDE (id, property_id, monthly_rent);
+
+-- findAlertIndexRows: leases still to be alerted on, by end date
+CREATE INDEX IF NOT EXISTS idx_leases_alert_window ON leases (end_date) INCLUDE (id, auto_renewal)
+    WHERE status IN ('ACTIVE', 'PENDING');
+
+-- findTopPerformingProperties, findTopPerformingRows: the rent-per-unit ranking
+CREATE INDEX IF NOT EXISTS idx_properties_rent_per_unit ON properties ((rental_income / total_units) DESC)
+    WHERE total_units > 0;
+
+-- findByPropertyTypeIgnoreCase, findWithFilters by type (both compare UPPER())
+CREATE INDEX IF NOT EXISTS idx_properties_property_type_upper ON properties (UPPER(property_type));
+
+-- findByAssignedToIgnoreCase, findWithFilters by technician (both compare UPPER())
+CREATE INDEX IF NOT EXISTS idx_maintenance_assigned_to_upper ON maintenance_requests (UPPER(assigned_to));
+
+-- Property detail: open requests for one property, newest first
+CREATE INDEX IF NOT EXISTS idx_maintenance_open_by_property ON maintenance_requests (property_id, created_at DESC)
+    WHERE status IN ('PENDING', 'IN_PROGRESS', 'ON_HOLD');
+
+-- findDispatchRows, findUrgentRequests, findOverdueRequests: the open queue is a small
+-- slice of the table, and dispatch reads every column it needs from the index
+CREATE INDEX IF NOT EXISTS idx_maintenance_open_queue ON maintenance_requests (priority, created_at)
+    INCLUDE (id, status, property_id, category, assigned_to, scheduled_date)
+    WHERE status IN ('PENDING', 'IN_PROGRESS');
+
+-- findUnpublished: the outbox backlog
+CREATE INDEX IF NOT EXISTS idx_outbox_events_unpublished ON outbox_events (id) WHERE published_at IS NULL;
+
+-- searchByNameOrAddress, searchByNameOrEmail, searchByTitleOrDescription: substring LIKE
+-- on LOWER() needs trigram indexes; pg_trgm is a trusted extension from PostgreSQL 13
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_properties_name_trgm ON properties USING gin (LOWER(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_properties_address_trgm ON properties USING gin (LOWER(address) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_tenants_name_trgm ON tenants USING gin (LOWER(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_tenants_email_trgm ON tenants USING gin (LOWER(email) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_maintenance_title_trgm ON maintenance_requests USING gin (LOWER(title) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_maintenance_description_trgm ON maintenance_requests USING gin (LOWER(description) gin_trgm_ops);
@@ -0,0 +1,94 @@
+package org.example.backend.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.example.backend.dto.propertyDTO;
+import org.example.backend.service.PropertyColumns;
+import org.example.backend.service.PropertyQueryService;
+import org.example.backend.service.PropertyService;
+import org.example.backend.service.Tagged;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Property lists negotiate CBOR and the columnar encoding through the Accept header, and
+ * CBOR carries the same date format as JSON.
+ */
+@WebMvcTest(PropertyController.class)
+@MockitoBean(types = JpaMetamodelMappingContext.class)
+class PropertyControllerTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2024, 3, 1, 9, 30, 15);
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockitoBean
+    private PropertyQueryService propertyQueryService;
+
+    @MockitoBean
+    private PropertyService propertyService;
+
+    @BeforeEach
+    void stubProperties() {
+        propertyDTO property = propertyDTO.builder()
+                .id(1001L)
+                .name("Marina Heights")
+                .address("12 Marina Walk, Dubai")
+                .propertyType("Residential")
+                .occupancyRate(new BigDecimal("80.83"))
+                .createdAt(CREATED)
+                .build();
+        when(propertyQueryService.getProperties(any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(new Tagged<>("W/\"properties-1-0\"",
+                        new PageImpl<>(List.of(property), PageRequest.of(0, 20), 1)));
+    }
+
+    @Test
+    void cborWritesDatesAsJsonDoes() throws Exception {
+        byte[] body = mvc.perform(get("/api/properties").accept("application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/cbor"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode page = new CBORMapper().readTree(body);
+        JsonNode createdAt = page.get("content").get(0).get("createdAt");
+        assertTrue(createdAt.isTextual(), () -> "createdAt written as " + createdAt.getNodeType());
+        assertEquals(CREATED, LocalDateTime.parse(createdAt.asText()));
+        assertEquals(1, page.get("page").get("totalElements").asInt());
+    }
+
+    @Test
+    void columnarEncodingRoundTrips() throws Exception {
+        byte[] body = mvc.perform(get("/api/properties").accept(PropertyColumns.CONTENT_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(PropertyColumns.CONTENT_TYPE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        PropertyColumns.Decoded decoded = PropertyColumns.read(new ByteArrayInputStream(body));
+        assertEquals(1, decoded.rows().size());
+        assertEquals("Marina Heights", decoded.rows().get(0).getName());
+        assertEquals(CREATED, decoded.rows().get(0).getCreatedAt());
+        assertEquals(1, decoded.page().totalElements());
+    }
+}
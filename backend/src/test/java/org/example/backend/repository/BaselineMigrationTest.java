@@ -0,0 +1,48 @@
+package org.example.backend.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A database holding only the schema Hibernate generated before migrations took over is
+ * baselined at V1 and brought up to date: the later tables exist, and the id sequences
+ * start past the rows already there.
+ */
+class BaselineMigrationTest {
+
+    @Test
+    void baselinedDatabaseGetsSequencesAndLaterTables() {
+        DataSource dataSource = DataSourceBuilder.create()
+                .url("jdbc:h2:mem:baseline-migration;DB_CLOSE_DELAY=-1")
+                .username("sa")
+                .password("")
+                .build();
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/common/V1__baseline_schema.sql"))
+                .execute(dataSource);
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.update("INSERT INTO properties (name, address) VALUES ('Harbour View', '1 Quay Street')");
+        jdbc.update("INSERT INTO properties (id, name, address) VALUES (120, 'Gate Tower', '1 Gate Avenue')");
+
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/common", "classpath:db/migration/h2")
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+
+        Long firstDrawn = jdbc.queryForObject("SELECT NEXT VALUE FOR properties_seq", Long.class);
+        assertTrue(firstDrawn != null && firstDrawn - 49 > 120, () -> "Sequence drew " + firstDrawn);
+        assertEquals(0, jdbc.queryForObject("SELECT COUNT(*) FROM outbox_events", Integer.class));
+        assertEquals(0, jdbc.queryForObject("SELECT COUNT(*) FROM lease_alerts", Integer.class));
+    }
+}
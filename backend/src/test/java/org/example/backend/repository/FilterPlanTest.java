@@ -0,0 +1,251 @@
+package org.example.backend.repository;
+
+import org.example.backend.entity.Lease;
+import org.example.backend.entity.MaintenanceRequest;
+import org.example.backend.entity.Property;
+import org.example.backend.entity.Tenant;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs each filter shape, captures the SQL Hibernate sends, and checks H2's EXPLAIN of it
+ * is served by an index rather than a table scan. H2 has no expression indexes, so the
+ * case-insensitive shapes are checked for their results only. Shapes led by a foreign key
+ * may be served by H2's constraint index instead of the declared one, so only the absence
+ * of a scan is checked for those.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "org.example.backend.repository.FilterPlanTest$CapturingInspector")
+class FilterPlanTest {
+
+    private static final int PROPERTIES = 50;
+    private static final int TENANTS_PER_PROPERTY = 4;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private propertyRepository propertyRepository;
+
+    @Autowired
+    private leaseRepository leaseRepository;
+
+    @Autowired
+    private tenantRepository tenantRepository;
+
+    @Autowired
+    private maintanenceRequestRepository maintenanceRequestRepository;
+
+    private final LocalDate today = LocalDate.now();
+    private Long propertyId;
+
+    @BeforeEach
+    void seed() {
+        for (int p = 0; p < PROPERTIES; p++) {
+            Property property = entityManager.persist(Property.builder()
+                    .name("Property " + p)
+                    .address(p + " Market Street")
+                    .propertyType(p % 2 == 0 ? "Commercial" : "Residential")
+                    .totalUnits(100)
+                    .occupiedUnits(p * 2)
+                    .occupancyRate(BigDecimal.valueOf(p * 2L))
+                    .esgScore(BigDecimal.valueOf(p + 40L))
+                    .build());
+            for (int t = 0; t < TENANTS_PER_PROPERTY; t++) {
+                LocalDate start = today.plusMonths((t - 2) * 12L);
+                Tenant tenant = entityManager.persist(Tenant.builder()
+                        .name("Tenant " + p + "-" + t)
+                        .email("tenant" + p + "-" + t + "@example.org")
+                        .unitNumber(String.valueOf(100 + t))
+                        .status(Tenant.TenantStatus.ACTIVE)
+                        .leaseStart(start)
+                        .leaseEnd(start.plusMonths(18))
+                        .property(property)
+                        .build());
+                entityManager.persist(Lease.builder()
+                        .leaseNumber("L-" + p + "-" + t)
+                        .startDate(start)
+                        .endDate(start.plusMonths(18))
+                        .monthlyRent(BigDecimal.valueOf(1000 + p * 10L + t))
+                        .status(Lease.LeaseStatus.ACTIVE)
+                        .tenant(tenant)
+                        .property(property)
+                        .build());
+                entityManager.persist(MaintenanceRequest.builder()
+                        .title("Request " + p + "-" + t)
+                        .status(MaintenanceRequest.RequestStatus.values()[t % MaintenanceRequest.RequestStatus.values().length])
+                        .priority(MaintenanceRequest.Priority.values()[t % MaintenanceRequest.Priority.values().length])
+                        .assignedTo(t == 0 ? "Dana Reyes" : "Technician " + t)
+                        .property(property)
+                        .build());
+            }
+            propertyId = property.getId();
+        }
+        entityManager.flush();
+        entityManager.clear();
+        jdbcTemplate.execute("ANALYZE");
+        CapturingInspector.clear();
+    }
+
+    @Test
+    void propertyRangesUseTheirIndexes() {
+        propertyRepository.findWithFilters(null, BigDecimal.valueOf(90), null, null, null, Pageable.unpaged());
+        assertUsesIndex("idx_properties_occupancy_rate", BigDecimal.valueOf(90));
+
+        propertyRepository.findWithFilters(null, null, null, BigDecimal.valueOf(85), null, Pageable.unpaged());
+        assertUsesIndex("idx_properties_esg_score", BigDecimal.valueOf(85));
+    }
+
+    @Test
+    void leaseShapesUseTheirIndexes() {
+        leaseRepository.findWithFilters(propertyId, null, null, null, "ACTIVE", Pageable.unpaged());
+        assertUsesIndex(null, propertyId, today, today);
+
+        leaseRepository.findWithFilters(null, null, null, null, "EXPIRED", Pageable.unpaged());
+        assertUsesIndex("idx_leases_end_start", today);
+
+        leaseRepository.findWithFilters(null, null, BigDecimal.valueOf(1480), null, null, Pageable.unpaged());
+        assertUsesIndex("idx_leases_monthly_rent", BigDecimal.valueOf(1480));
+    }
+
+    @Test
+    void tenantShapesUseTheirIndexes() {
+        tenantRepository.findWithFilters(propertyId, null, Pageable.unpaged());
+        assertUsesIndex(null, propertyId);
+
+        tenantRepository.findWithFilters(null, "EXPIRED", Pageable.unpaged());
+        assertUsesIndex("idx_tenants_lease_end_start", today);
+    }
+
+    @Test
+    void maintenanceShapesUseTheirIndexes() {
+        MaintenanceRequest.RequestStatus status = MaintenanceRequest.RequestStatus.values()[0];
+        MaintenanceRequest.Priority priority = MaintenanceRequest.Priority.values()[0];
+
+        maintenanceRequestRepository.findWithFilters(propertyId, status, priority, null, Pageable.unpaged());
+        assertUsesIndex(null, propertyId, status.name(), priority.name());
+
+        maintenanceRequestRepository.findWithFilters(null, status, priority, null, Pageable.unpaged());
+        assertUsesIndex("idx_maintenance_status_priority", status.name(), priority.name());
+    }
+
+    @Test
+    void assignedTechnicianIsFilteredIgnoringCase() {
+        Page<MaintenanceRequest> page = maintenanceRequestRepository.findWithFilters(
+                null, null, null, "dana REYES", Pageable.unpaged());
+
+        assertEquals(PROPERTIES, page.getTotalElements());
+        assertTrue(page.stream().allMatch(request -> "Dana Reyes".equals(request.getAssignedTo())));
+    }
+
+    @Test
+    void unknownLeaseStatusIsRejected() {
+        assertThrows(InvalidDataAccessApiUsageException.class,
+                () -> leaseRepository.findWithFilters(null, null, null, null, "PENDING", Pageable.unpaged()));
+        assertThrows(InvalidDataAccessApiUsageException.class,
+                () -> tenantRepository.findWithFilters(null, "PENDING", Pageable.unpaged()));
+        assertEquals(0, tenantRepository.findByLeaseStatus("PENDING", Pageable.unpaged()).getTotalElements());
+    }
+
+    @Test
+    void suppliedCriteriaOnlyArePredicates() {
+        propertyRepository.findWithFilters(null, null, null, null, null, Pageable.unpaged());
+        assertFalse(CapturingInspector.first().toLowerCase(Locale.ROOT).contains(" where "));
+    }
+
+    @Test
+    void versionFollowsRowsEnteringAndLeavingTheFilter() {
+        QueryVersion commercial = propertyRepository.versionWithFilters("commercial", null, null, null, null);
+        QueryVersion residential = propertyRepository.versionWithFilters("Residential", null, null, null, null);
+        assertEquals(PROPERTIES / 2, commercial.count());
+        assertNotNull(commercial.lastModified());
+
+        Property moved = propertyRepository.findWithFilters("Commercial", null, null, null, null, Pageable.ofSize(1))
+                .getContent().get(0);
+        moved.setPropertyType("Residential");
+        propertyRepository.flush();
+
+        assertEquals(commercial.count() - 1,
+                propertyRepository.versionWithFilters("commercial", null, null, null, null).count());
+        QueryVersion residentialAfter = propertyRepository.versionWithFilters("Residential", null, null, null, null);
+        assertEquals(residential.count() + 1, residentialAfter.count());
+        assertTrue(residentialAfter.lastModified().isAfter(residential.lastModified()));
+        assertEquals(residential.revision() + 1, residentialAfter.revision());
+        assertEquals(0, propertyRepository.versionById(-1L).count());
+    }
+
+    @Test
+    void tenantVersionCoversItsProperty() {
+        Tenant tenant = tenantRepository.findWithFilters(propertyId, null, Pageable.ofSize(1)).getContent().get(0);
+        QueryVersion before = tenantRepository.versionById(tenant.getId());
+        assertEquals(1, before.count());
+
+        propertyRepository.findById(propertyId).orElseThrow().setName("Renamed");
+        propertyRepository.flush();
+
+        QueryVersion after = tenantRepository.versionById(tenant.getId());
+        assertTrue(after.lastModified().isAfter(before.lastModified()));
+        assertEquals(before.revision() + 1, after.revision());
+    }
+
+    /**
+     * Explain the first statement captured since the last check and check it reads through an index, the named one if given
+     */
+    private void assertUsesIndex(String index, Object... parameters) {
+        String sql = CapturingInspector.first();
+        CapturingInspector.clear();
+        String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, parameters));
+
+        assertFalse(plan.contains("tableScan"), () -> "Table scan for " + sql + "\n" + plan);
+        if (index != null) {
+            assertTrue(plan.toLowerCase(Locale.ROOT).contains(index), () -> "Expected " + index + " in\n" + plan);
+        }
+    }
+
+    public static class CapturingInspector implements StatementInspector {
+        private static final List<String> STATEMENTS = new ArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            synchronized (STATEMENTS) {
+                STATEMENTS.add(sql);
+            }
+            return sql;
+        }
+
+        static String first() {
+            synchronized (STATEMENTS) {
+                return STATEMENTS.get(0);
+            }
+        }
+
+        static void clear() {
+            synchronized (STATEMENTS) {
+                STATEMENTS.clear();
+            }
+        }
+    }
+}
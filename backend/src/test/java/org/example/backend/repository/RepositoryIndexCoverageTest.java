@@ -0,0 +1,327 @@
+package org.example.backend.repository;
+
+import org.example.backend.entity.Lease;
+import org.example.backend.entity.MaintenanceRequest.Priority;
+import org.example.backend.entity.MaintenanceRequest.RequestStatus;
+import org.example.backend.entity.Tenant;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Runs every query method of the four main repositories against a migrated, seeded
+ * PostgreSQL and fails when one performs a sequential scan on a large table.
+ *
+ * Each call runs in its own rolled-back transaction, and the scans are read from
+ * pg_stat_xact_user_tables, which counts only that transaction's work. Arguments are
+ * chosen per method to be as selective as the real callers; methods that aggregate or
+ * export a whole table are listed in FULL_SCANS_BY_DESIGN with the reason. The seed keeps
+ * dates correlated with insertion order, as they are in a live database. Skipped when
+ * Docker is unavailable.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+class RepositoryIndexCoverageTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final List<Class<?>> REPOSITORIES = List.of(
+            propertyRepository.class, tenantRepository.class, leaseRepository.class, maintanenceRequestRepository.class);
+
+    private static final List<String> LARGE_TABLES = List.of("properties", "tenants", "leases", "maintenance_requests");
+
+    private static final int PROPERTIES = 20_000;
+    private static final int TENANTS = 100_000;
+    private static final int LEASES = 200_000;
+    private static final int REQUESTS = 200_000;
+
+    private static final LocalDate TODAY = LocalDate.now();
+    private static final LocalDateTime NOW = LocalDateTime.now();
+    private static final Long PROPERTY_ID = 42L;
+    private static final Pageable PAGE = PageRequest.of(0, 20, Sort.by("id"));
+    private static final Sort SORT = Sort.by("id");
+    private static final int LIMIT = 20;
+    private static final KeysetScrollPosition FIRST = ScrollPosition.keyset();
+
+    private static final Map<String, String> FULL_SCANS_BY_DESIGN = Map.ofEntries(
+            Map.entry("propertyRepository.getPortfolioSummary", "aggregates every property"),
+            Map.entry("propertyRepository.getPortfolioTotals", "aggregates every property"),
+            Map.entry("propertyRepository.getEsgByPropertyType", "aggregates every property"),
+            Map.entry("propertyRepository.findAllCoordinates", "loads the spatial index"),
+            Map.entry("propertyRepository.findAllAnalyticsRows", "loads the analytics snapshot"),
+            Map.entry("propertyRepository.findAllSearchFields", "loads the search index"),
+            Map.entry("propertyRepository.streamAllForExport", "exports every property"),
+            Map.entry("tenantRepository.getTenantCountByProperty", "aggregates every tenant"),
+            Map.entry("tenantRepository.findAllSearchFields", "loads the search index"),
+            Map.entry("tenantRepository.streamAllForExport", "exports every tenant"),
+            Map.entry("leaseRepository.findAllTimelineRows", "loads the lease timeline"),
+            Map.entry("leaseRepository.getLeaseDurationStatistics", "aggregates every lease"),
+            Map.entry("leaseRepository.getLeaseStatusCounts", "aggregates every lease"),
+            Map.entry("leaseRepository.findExpiredLeases", "counts nearly every lease; scrollExpiredLeases does not"),
+            Map.entry("leaseRepository.streamAllForExport", "exports every lease"),
+            Map.entry("maintanenceRequestRepository.findAllSearchFields", "loads the search index"),
+            Map.entry("maintanenceRequestRepository.getMaintenanceStatsByProperty", "aggregates every request"),
+            Map.entry("maintanenceRequestRepository.countByStatus", "aggregates every request"),
+            Map.entry("maintanenceRequestRepository.getMaintenanceCounts", "aggregates every request"),
+            Map.entry("maintanenceRequestRepository.streamAllForExport", "exports every request"));
+
+    private static final Map<String, Object[]> ARGUMENTS = new HashMap<>();
+
+    static {
+        BigDecimal occupancy = new BigDecimal("50.00");
+        BigDecimal esg = new BigDecimal("70.00");
+        given("propertyRepository.findByOccupancyRateBetween", occupancy, new BigDecimal("50.50"), PAGE);
+        given("propertyRepository.findByEsgScoreBetween", esg, new BigDecimal("70.50"), PAGE);
+        given("propertyRepository.findByPropertyTypeIgnoreCase", "type 7", PAGE);
+        given("propertyRepository.findByRentalIncomeGreaterThan", new BigDecimal("199000"));
+        given("propertyRepository.findRowsByRentalIncomeGreaterThan", new BigDecimal("199000"));
+        given("propertyRepository.searchByNameOrAddress", "Property 12345", PAGE);
+        given("propertyRepository.findLowOccupancyProperties", new BigDecimal("0.50"));
+        given("propertyRepository.findLowOccupancyRows", new BigDecimal("0.50"));
+        given("propertyRepository.findPropertiesNeedingEsgImprovement", new BigDecimal("0.50"));
+        given("propertyRepository.findRowsNeedingEsgImprovement", new BigDecimal("0.50"));
+        given("propertyRepository.findPropertiesInBounds",
+                new BigDecimal("40.100"), new BigDecimal("40.110"), new BigDecimal("-73.990"), new BigDecimal("-73.980"));
+        given("propertyRepository.getEsgByPropertyType", new BigDecimal("80"));
+        given("propertyRepository.findWithFilters", "Type 7", null, null, null, null, PAGE);
+        given("propertyRepository.scrollWithFilters", "Type 7", null, null, null, null, FIRST, SORT, LIMIT);
+        given("propertyRepository.versionWithFilters", "Type 7", null, null, null, null);
+
+        given("tenantRepository.findByEmail", "tenant4242@example.org");
+        given("tenantRepository.countByStatus", Tenant.TenantStatus.PENDING);
+        given("tenantRepository.searchByNameOrEmail", "tenant4242@", PAGE);
+        given("tenantRepository.findTenantsWithExpiringLeases", TODAY, TODAY.plusDays(7));
+        given("tenantRepository.findByLeaseStatus", "FUTURE", PAGE);
+        given("tenantRepository.findByPropertyAndDateRange", PROPERTY_ID, TODAY.minusDays(30), TODAY);
+        given("tenantRepository.findWithFilters", PROPERTY_ID, "ACTIVE", PAGE);
+        given("tenantRepository.scrollWithFilters", PROPERTY_ID, "ACTIVE", FIRST, SORT, LIMIT);
+        given("tenantRepository.versionWithFilters", PROPERTY_ID, "ACTIVE");
+        given("tenantRepository.findExistingEmails", List.of("tenant42@example.org", "tenant43@example.org"));
+
+        given("leaseRepository.findLeasesExpiringBetween", TODAY, TODAY.plusDays(30));
+        given("leaseRepository.findByMonthlyRentBetween", new BigDecimal("1000"), new BigDecimal("1001"), PAGE);
+        given("leaseRepository.findAlertIndexRows", TODAY.minusDays(1), List.of(Lease.LeaseStatus.ACTIVE, Lease.LeaseStatus.PENDING));
+        given("leaseRepository.findBySecurityDepositGreaterThan", new BigDecimal("2990"));
+        given("leaseRepository.findLeaseRenewalOpportunities", TODAY.plusDays(30));
+        given("leaseRepository.getRentTrendsByDate", TODAY.minusDays(30), TODAY);
+        given("leaseRepository.getLeaseExpiryCounts", TODAY, TODAY.plusDays(30), TODAY.plusDays(90));
+        given("leaseRepository.getRentRollByTerm", TODAY.minusMonths(1), TODAY.plusMonths(1));
+        given("leaseRepository.getRentRollTermsByProperty", TODAY.minusMonths(1), TODAY.plusMonths(1));
+        given("leaseRepository.findWithFilters", PROPERTY_ID, null, null, null, "ACTIVE", PAGE);
+        given("leaseRepository.scrollWithFilters", PROPERTY_ID, null, null, null, "ACTIVE", FIRST, SORT, LIMIT);
+        given("leaseRepository.findExistingLeaseNumbers", List.of("L-42", "L-43"));
+
+        given("maintanenceRequestRepository.findByPropertyIdAndStatusInOrderByCreatedAtDesc",
+                PROPERTY_ID, List.of(RequestStatus.PENDING, RequestStatus.IN_PROGRESS, RequestStatus.ON_HOLD));
+        given("maintanenceRequestRepository.findByAssignedToIgnoreCase", "technician 42", PAGE);
+        given("maintanenceRequestRepository.searchByTitleOrDescription", "Request 12345", PAGE);
+        given("maintanenceRequestRepository.findOverdueRequests", NOW.minusYears(9));
+        given("maintanenceRequestRepository.findByDateRange", NOW.minusDays(7), NOW);
+        given("maintanenceRequestRepository.getMaintenanceTrendsByDate", NOW.minusDays(30), NOW);
+        given("maintanenceRequestRepository.getMaintenanceCostByMonth", NOW.minusMonths(6));
+        given("maintanenceRequestRepository.getMaintenanceCostByPropertyAndMonth", NOW.minusMonths(1), NOW);
+        given("maintanenceRequestRepository.findWithFilters", PROPERTY_ID, null, null, null, PAGE);
+        given("maintanenceRequestRepository.scrollWithFilters", PROPERTY_ID, null, null, null, FIRST, SORT, LIMIT);
+        given("maintanenceRequestRepository.assignAll", List.of(1L, 2L, 3L), "Technician 1", RequestStatus.IN_PROGRESS, NOW);
+        given("maintanenceRequestRepository.completeAll", List.of(1L, 2L, 3L), "Technician 1", RequestStatus.COMPLETED, NOW);
+    }
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeAll
+    static void seed(@Autowired JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("INSERT INTO properties (id, name, address, property_type, total_units, occupied_units, " +
+                "occupancy_rate, rental_income, asset_value, esg_score, latitude, longitude, created_at, updated_at) " +
+                "SELECT i, 'Property ' || i, i || ' Market Street', 'Type ' || (i % 200), 100, i % 100, " +
+                "(i % 10000) / 100.0, i * 10, i * 1000, CASE WHEN i % 100 = 0 THEN NULL ELSE (i * 7 % 10000) / 100.0 END, " +
+                "40 + (i % 1000) / 1000.0, -74 + (i / 1000) / 1000.0, now(), now() " +
+                "FROM generate_series(1, ?) AS i", PROPERTIES);
+        // Lease dates run back about forty years in insertion order, with one year still to start
+        jdbcTemplate.update("INSERT INTO tenants (id, name, email, lease_start, lease_end, monthly_rent, status, " +
+                "unit_number, property_id, created_at, updated_at) " +
+                "SELECT i, 'Tenant ' || i, 'tenant' || i || '@example.org', d, d + 365 + i % 365, 1000 + i % 2000, " +
+                "CASE WHEN i % 50 = 0 THEN 'PENDING' ELSE 'ACTIVE' END, (i % 300)::text, 1 + i % ?, now(), now() " +
+                "FROM (SELECT i, current_date + 365 - (i::bigint * 14600 / ?)::int AS d FROM generate_series(1, ?) AS i) AS s",
+                PROPERTIES, TENANTS, TENANTS);
+        jdbcTemplate.update("INSERT INTO leases (id, lease_number, start_date, end_date, monthly_rent, security_deposit, " +
+                "status, auto_renewal, tenant_id, property_id, created_at, updated_at) " +
+                "SELECT i, 'L-' || i, d, d + 365 + i % 365, 500 + i % 5000, i % 3000, " +
+                "CASE WHEN d + 365 + i % 365 < current_date THEN 'EXPIRED' ELSE 'ACTIVE' END, i % 2 = 0, " +
+                "1 + i % ?, 1 + i % ?, now(), now() " +
+                "FROM (SELECT i, current_date + 365 - (i::bigint * 14600 / ?)::int AS d FROM generate_series(1, ?) AS i) AS s",
+                TENANTS, PROPERTIES, LEASES, LEASES);
+        // Mostly closed requests over ten years; the open queue is a small, recent-weighted slice
+        jdbcTemplate.update("INSERT INTO maintenance_requests (id, title, description, status, priority, assigned_to, " +
+                "estimated_cost, property_id, created_at, updated_at) " +
+                "SELECT i, 'Request ' || i, 'Leaking tap in unit ' || i, " +
+                "CASE WHEN i % 50 < 40 THEN 'COMPLETED' WHEN i % 50 < 44 THEN 'PENDING' WHEN i % 50 < 47 THEN 'IN_PROGRESS' " +
+                "WHEN i % 50 < 49 THEN 'CANCELLED' ELSE 'ON_HOLD' END, " +
+                "CASE WHEN i % 20 < 8 THEN 'LOW' WHEN i % 20 < 16 THEN 'MEDIUM' WHEN i % 20 < 19 THEN 'HIGH' ELSE 'URGENT' END, " +
+                "'Technician ' || (i % 500), 50 + i % 950, 1 + i % ?, " +
+                "now() - (i * 3650 / ?) * interval '1 day', now() " +
+                "FROM generate_series(1, ?) AS i", PROPERTIES, REQUESTS, REQUESTS);
+        jdbcTemplate.execute("VACUUM ANALYZE");
+    }
+
+    @TestFactory
+    Stream<DynamicTest> queryMethodsAvoidSequentialScansOnLargeTables() {
+        return REPOSITORIES.stream().flatMap(repository -> queryMethods(repository).stream()
+                .map(method -> DynamicTest.dynamicTest(key(repository, method),
+                        () -> assertNoSequentialScan(repository, method))));
+    }
+
+    private void assertNoSequentialScan(Class<?> repository, Method method) {
+        String key = key(repository, method);
+        Object[] arguments = arguments(key, method);
+        Object bean = applicationContext.getBean(repository);
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        List<String> scanned = Objects.requireNonNull(transaction.execute(status -> {
+            status.setRollbackOnly();
+            // Scans by parallel workers are not counted against this transaction
+            jdbcTemplate.execute("SET LOCAL max_parallel_workers_per_gather = 0");
+            jdbcTemplate.execute("SET LOCAL random_page_cost = 1.1");
+            invoke(bean, method, arguments);
+            return jdbcTemplate.queryForList("SELECT relname FROM pg_stat_xact_user_tables WHERE seq_scan > 0",
+                    String.class);
+        })).stream().filter(LARGE_TABLES::contains).toList();
+
+        if (FULL_SCANS_BY_DESIGN.containsKey(key)) {
+            return;
+        }
+        assertTrue(scanned.isEmpty(), () -> key + " sequentially scanned " + scanned);
+    }
+
+    private static void invoke(Object bean, Method method, Object[] arguments) {
+        try {
+            Object result = method.invoke(bean, arguments);
+            if (result instanceof Stream<?> stream) {
+                stream.close();
+            }
+        } catch (InvocationTargetException e) {
+            fail(method.getName() + " failed", e.getCause());
+        } catch (IllegalAccessException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * The repository's own query methods and those of its custom fragments, excluding the inherited CRUD methods
+     */
+    private static List<Method> queryMethods(Class<?> repository) {
+        List<Method> methods = new ArrayList<>(Arrays.asList(repository.getDeclaredMethods()));
+        for (Class<?> fragment : repository.getInterfaces()) {
+            if (fragment.getPackage() == repository.getPackage()) {
+                methods.addAll(Arrays.asList(fragment.getDeclaredMethods()));
+            }
+        }
+        return methods.stream()
+                .filter(method -> !Modifier.isStatic(method.getModifiers()) && !method.isSynthetic())
+                .sorted(Comparator.comparing(Method::getName).thenComparing(Method::getParameterCount))
+                .toList();
+    }
+
+    private static String key(Class<?> repository, Method method) {
+        return repository.getSimpleName() + "." + method.getName();
+    }
+
+    private static void given(String key, Object... values) {
+        ARGUMENTS.put(key, values);
+    }
+
+    /**
+     * The listed arguments for the method, or selective defaults by parameter type
+     */
+    private static Object[] arguments(String key, Method method) {
+        if (ARGUMENTS.containsKey(key)) {
+            return ARGUMENTS.get(key);
+        }
+        Type[] types = method.getGenericParameterTypes();
+        Object[] values = new Object[types.length];
+        for (int i = 0; i < types.length; i++) {
+            values[i] = defaultArgument(key, types[i]);
+        }
+        return values;
+    }
+
+    private static Object defaultArgument(String key, Type type) {
+        if (type instanceof ParameterizedType parameterized && parameterized.getRawType() == Collection.class) {
+            Type element = parameterized.getActualTypeArguments()[0];
+            if (element == Long.class) {
+                return List.of(1L, 2L, 3L);
+            }
+            if (element == RequestStatus.class) {
+                return List.of(RequestStatus.PENDING, RequestStatus.IN_PROGRESS);
+            }
+        } else if (type == Long.class) {
+            return PROPERTY_ID;
+        } else if (type == LocalDate.class) {
+            return TODAY;
+        } else if (type == LocalDateTime.class) {
+            return NOW;
+        } else if (type == Pageable.class) {
+            return PAGE;
+        } else if (type == KeysetScrollPosition.class) {
+            return FIRST;
+        } else if (type == Sort.class) {
+            return SORT;
+        } else if (type == int.class) {
+            return LIMIT;
+        } else if (type == RequestStatus.class) {
+            return RequestStatus.ON_HOLD;
+        } else if (type == Priority.class) {
+            return Priority.URGENT;
+        }
+        throw new IllegalStateException("No default argument of type " + type + " for " + key + "; list its arguments");
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.backend.service;
+
+import org.example.backend.entity.OutboxEvent.AggregateType;
+import org.example.backend.entity.OutboxEvent.ChangeType;
+import org.example.backend.repository.leaseRepository;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LeaseTimelineTest {
+
+    private final LocalDate today = LocalDate.now();
+
+    @Test
+    void leaseChangesApplyOnceWhenDeliveredTwice() {
+        leaseRepository repository = mock(leaseRepository.class);
+        when(repository.findAllTimelineRows()).thenReturn(List.<Object[]>of(
+                new Object[]{1L, 10L, new BigDecimal("1000.00"), today.minusMonths(1), today.plusMonths(11)}));
+        LeaseTimeline timeline = new LeaseTimeline(repository);
+        timeline.reconcile();
+
+        ChangeEvent created = lease(2L, ChangeType.CREATED, today.minusDays(1), today.plusYears(1), 2500.5);
+        timeline.onChanges(List.of(created));
+        timeline.onChanges(List.of(created));
+
+        assertEquals(new LeaseTimeline.LeaseStatusCounts(2, 0, 0), timeline.getStatusCounts());
+        assertEquals(new BigDecimal("3500.50"), timeline.getActiveRentalIncome(10L));
+
+        ChangeEvent ended = lease(2L, ChangeType.UPDATED, today.minusYears(1), today.minusDays(1), 2500.5);
+        ChangeEvent deleted = lease(1L, ChangeType.DELETED, today.minusMonths(1), today.plusMonths(11), 1000);
+        timeline.onChanges(List.of(ended, deleted));
+        timeline.onChanges(List.of(ended, deleted));
+
+        assertEquals(new LeaseTimeline.LeaseStatusCounts(0, 1, 0), timeline.getStatusCounts());
+        assertEquals(0, timeline.getTotalActiveRent());
+    }
+
+    private static ChangeEvent lease(Long id, ChangeType change, LocalDate start, LocalDate end, double rent) {
+        return new ChangeEvent(id, AggregateType.LEASE, id, change, Map.of(
+                "propertyId", 10,
+                "monthlyRent", rent,
+                "startDate", start.toString(),
+                "endDate", end.toString()));
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.backend.service;
+
+import org.example.backend.entity.MaintenanceRequest.Category;
+import org.example.backend.entity.MaintenanceRequest.Priority;
+import org.example.backend.entity.MaintenanceRequest.RequestStatus;
+import org.example.backend.repository.maintanenceRequestRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MaintenanceDispatcherTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final maintanenceRequestRepository repository = mock(maintanenceRequestRepository.class);
+    private MaintenanceDispatcher dispatcher;
+
+    @BeforeEach
+    void seed() {
+        when(repository.findDispatchRows(anyCollection())).thenReturn(List.<Object[]>of(new Object[]{
+                1L, 10L, Category.PLUMBING, Priority.HIGH, RequestStatus.PENDING, null, null, LocalDateTime.now()}));
+        dispatcher = new MaintenanceDispatcher(repository, mock(OutboxEntityListener.class),
+                mock(PlatformTransactionManager.class), Duration.ofHours(4), MAX_ATTEMPTS);
+        dispatcher.reconcile();
+    }
+
+    @Test
+    void transientFailureIsRetriedThenDropped() {
+        when(repository.assignAll(anyCollection(), anyString(), any(), any()))
+                .thenThrow(new QueryTimeoutException("timed out"));
+        dispatcher.dispatchNext("dana", List.of());
+
+        for (int i = 0; i < MAX_ATTEMPTS + 2; i++) {
+            dispatcher.flush();
+        }
+
+        verify(repository, times(MAX_ATTEMPTS)).assignAll(anyCollection(), anyString(), any(), any());
+        assertTrue(dispatcher.getTechnicianQueue("dana").isEmpty());
+        dispatcher.reconcile();
+        assertEquals(1, dispatcher.getQueueDepths().get(Category.PLUMBING));
+    }
+
+    @Test
+    void permanentFailureIsDroppedAtOnce() {
+        when(repository.assignAll(anyCollection(), anyString(), any(), any()))
+                .thenThrow(new DataIntegrityViolationException("too long"));
+        dispatcher.dispatchNext("dana", List.of());
+
+        dispatcher.flush();
+        dispatcher.flush();
+
+        verify(repository, times(1)).assignAll(anyCollection(), anyString(), any(), any());
+        assertTrue(dispatcher.getTechnicianQueue("dana").isEmpty());
+    }
+
+    @Test
+    void reconciliationDoesNotRestoreACompletedRequest() {
+        when(repository.findDispatchRows(anyCollection())).thenReturn(List.<Object[]>of(new Object[]{
+                1L, 10L, Category.PLUMBING, Priority.HIGH, RequestStatus.IN_PROGRESS, "dana", null, LocalDateTime.now()}));
+        dispatcher.dispatchNext("dana", List.of());
+
+        assertTrue(dispatcher.complete("dana", 1L));
+        dispatcher.reconcile();
+
+        assertTrue(dispatcher.getTechnicianQueue("dana").isEmpty());
+        assertEquals(0, dispatcher.getQueueDepths().get(Category.PLUMBING));
+    }
+}
@@ -0,0 +1,93 @@
+package org.example.backend.service;
+
+import org.example.backend.dto.propertyDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.web.PagedModel.PageMetadata;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PropertyColumnsTest {
+
+    @Test
+    void roundTripsEveryColumnAndItsNulls() throws IOException {
+        LocalDateTime created = LocalDateTime.of(2024, 3, 1, 9, 30, 15, 123_456_000);
+        propertyDTO full = propertyDTO.builder()
+                .id(1001L)
+                .name("Marina Heights")
+                .address("12 Marina Walk, Dubai")
+                .propertyType("Residential")
+                .totalUnits(120)
+                .occupiedUnits(97)
+                .occupancyRate(new BigDecimal("80.83"))
+                .rentalIncome(new BigDecimal("1250000.50"))
+                .assetValue(new BigDecimal("98000000.00"))
+                .esgScore(new BigDecimal("71.20"))
+                .squareFootage(150_000)
+                .yearBuilt(2009)
+                .latitude(new BigDecimal("25.0800000"))
+                .longitude(new BigDecimal("55.1400000"))
+                .createdAt(created)
+                .updatedAt(created.plusDays(3))
+                .tenantCount(97)
+                .activeMaintenance(2)
+                .monthlyRevenue(new BigDecimal("-12.34"))
+                .build();
+        propertyDTO sparse = propertyDTO.builder()
+                .id(998L)
+                .name("Gate Tower")
+                .address("1 Gate Avenue, Dubai")
+                .propertyType("Residential")
+                .build();
+        propertyDTO other = propertyDTO.builder()
+                .id(2000L)
+                .name("Ünïcode Plaza")
+                .address("7 Al Wasl Road, Dubai")
+                .propertyType("Commercial")
+                .build();
+        List<propertyDTO> rows = List.of(full, sparse, other);
+        PageMetadata page = new PageMetadata(3, 4, 15, 5);
+
+        PropertyColumns.Decoded decoded = roundTrip(rows, page);
+
+        assertEquals(rows, decoded.rows());
+        assertEquals(page, decoded.page());
+        assertNull(decoded.rows().get(1).getLatitude());
+    }
+
+    @Test
+    void coordinatesKeepSevenDecimalPlaces() throws IOException {
+        propertyDTO property = propertyDTO.builder()
+                .id(1L)
+                .latitude(new BigDecimal("25.12345678"))
+                .longitude(new BigDecimal("-55.12345674"))
+                .build();
+
+        propertyDTO decoded = roundTrip(List.of(property), null).rows().get(0);
+
+        assertEquals(new BigDecimal("25.1234568"), decoded.getLatitude());
+        assertEquals(new BigDecimal("-55.1234567"), decoded.getLongitude());
+    }
+
+    @Test
+    void emptyListWithoutPage() throws IOException {
+        PropertyColumns.Decoded decoded = roundTrip(List.of(), null);
+
+        assertTrue(decoded.rows().isEmpty());
+        assertNull(decoded.page());
+    }
+
+    private static PropertyColumns.Decoded roundTrip(List<propertyDTO> rows, PageMetadata page) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PropertyColumns.write(rows, page, out);
+        return PropertyColumns.read(new ByteArrayInputStream(out.toByteArray()));
+    }
+}
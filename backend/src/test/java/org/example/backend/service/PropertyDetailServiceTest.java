@@ -0,0 +1,110 @@
+package org.example.backend.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.backend.dto.propertyDetailDTO;
+import org.example.backend.entity.Lease;
+import org.example.backend.entity.MaintenanceRequest;
+import org.example.backend.entity.Property;
+import org.example.backend.entity.Tenant;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@Import(PropertyDetailService.class)
+class PropertyDetailServiceTest {
+
+    private static final int TENANTS = 20;
+    private static final int REQUESTS = 12;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PropertyDetailService propertyDetailService;
+
+    private Long propertyId;
+
+    @BeforeEach
+    void seed() {
+        Property property = entityManager.persist(Property.builder()
+                .name("Harbour View")
+                .address("1 Quay Street")
+                .totalUnits(TENANTS)
+                .occupiedUnits(TENANTS)
+                .build());
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < TENANTS; i++) {
+            Tenant tenant = entityManager.persist(Tenant.builder()
+                    .name("Tenant " + i)
+                    .email("tenant" + i + "@example.org")
+                    .unitNumber(String.valueOf(100 + i))
+                    .status(Tenant.TenantStatus.ACTIVE)
+                    .property(property)
+                    .build());
+            entityManager.persist(Lease.builder()
+                    .leaseNumber("L-" + i)
+                    .startDate(today.minusMonths(6))
+                    .endDate(today.plusMonths(6))
+                    .monthlyRent(BigDecimal.valueOf(1500))
+                    .status(Lease.LeaseStatus.ACTIVE)
+                    .tenant(tenant)
+                    .property(property)
+                    .build());
+            entityManager.persist(Lease.builder()
+                    .leaseNumber("L-" + i + "-old")
+                    .startDate(today.minusYears(2))
+                    .endDate(today.minusYears(1))
+                    .monthlyRent(BigDecimal.valueOf(1400))
+                    .status(Lease.LeaseStatus.EXPIRED)
+                    .tenant(tenant)
+                    .property(property)
+                    .build());
+        }
+        for (int i = 0; i < REQUESTS; i++) {
+            entityManager.persist(MaintenanceRequest.builder()
+                    .title("Request " + i)
+                    .status(i % 2 == 0 ? MaintenanceRequest.RequestStatus.PENDING
+                            : MaintenanceRequest.RequestStatus.COMPLETED)
+                    .priority(MaintenanceRequest.Priority.MEDIUM)
+                    .property(property)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        propertyId = property.getId();
+    }
+
+    @Test
+    void loadsDetailInThreeStatementsRegardlessOfRowCount() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        propertyDetailDTO detail = propertyDetailService.getPropertyDetail(propertyId).orElseThrow();
+
+        assertEquals(TENANTS, detail.getTenants().size());
+        assertEquals(TENANTS, detail.getActiveLeases().size());
+        assertEquals(REQUESTS / 2, detail.getOpenMaintenanceRequests().size());
+        assertTrue(detail.getActiveLeases().stream().allMatch(lease -> lease.getTenantName() != null));
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void returnsEmptyForUnknownProperty() {
+        assertTrue(propertyDetailService.getPropertyDetail(propertyId + 1_000).isEmpty());
+    }
+}
@@ -0,0 +1,195 @@
+package org.example.backend.service;
+
+import jakarta.servlet.http.Cookie;
+import org.example.backend.dto.propertyDTO;
+import org.example.backend.entity.Property;
+import org.example.backend.repository.propertyRepository;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Two embedded H2 databases stand in for the primary and one replica. Replication is not
+ * simulated: the replica holds different rows, so a count shows which database was read.
+ * Only reads made while serving a request may go to the replica.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=" + ReplicaRoutingTest.PRIMARY_URL,
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "datasource.replicas.urls=" + ReplicaRoutingTest.REPLICA_URL,
+        "datasource.replicas.lag-query=SELECT COALESCE(MAX(seconds), 0) FROM replica_lag",
+        "datasource.replicas.max-lag=PT5S"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ReplicaRoutingConfiguration.class, PortfolioSummaryAggregate.class, EntityTags.class,
+        PropertyQueryService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReplicaRoutingTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+
+    private static final long REPLICA_ROWS = 2;
+
+    private static JdbcTemplate replica;
+
+    @Autowired
+    private propertyRepository propertyRepository;
+
+    @Autowired
+    private ReplicaSet replicaSet;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private PortfolioSummaryAggregate portfolioSummaryAggregate;
+
+    @Autowired
+    private PropertyQueryService propertyQueryService;
+
+    @BeforeAll
+    static void prepareReplica() {
+        DataSource dataSource = DataSourceBuilder.create().url(REPLICA_URL).username("sa").password("").build();
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/common", "classpath:db/migration/h2")
+                .load()
+                .migrate();
+        replica = new JdbcTemplate(dataSource);
+        replica.execute("CREATE TABLE replica_lag (seconds INT)");
+        for (long id = 1; id <= REPLICA_ROWS; id++) {
+            replica.update("INSERT INTO properties (id, name, address) VALUES (?, ?, ?)",
+                    id, "Replica " + id, id + " Replica Road");
+        }
+    }
+
+    @AfterEach
+    void reset() {
+        RequestContextHolder.resetRequestAttributes();
+        readWrite().executeWithoutResult(status -> propertyRepository.deleteAllInBatch());
+        replica.update("DELETE FROM replica_lag");
+        replicaSet.checkLag();
+    }
+
+    @Test
+    void readOnlyTransactionsReadFromReplica() {
+        inRequest(new MockHttpServletRequest());
+        assertEquals(REPLICA_ROWS, countIn(readOnly()));
+        assertEquals(0, countIn(readWrite()));
+    }
+
+    @Test
+    void laggingReplicaFallsBackToPrimary() {
+        inRequest(new MockHttpServletRequest());
+        replica.update("INSERT INTO replica_lag (seconds) VALUES (60)");
+        replicaSet.checkLag();
+
+        assertEquals(0, countIn(readOnly()));
+
+        replica.update("DELETE FROM replica_lag");
+        replicaSet.checkLag();
+
+        assertEquals(REPLICA_ROWS, countIn(readOnly()));
+    }
+
+    @Test
+    void clientReadsItsOwnWritesFromPrimary() {
+        MockHttpServletResponse writeResponse = inRequest(new MockHttpServletRequest());
+        readWrite().executeWithoutResult(status -> propertyRepository.save(Property.builder()
+                .name("Harbour View")
+                .address("1 Quay Street")
+                .build()));
+
+        assertEquals(1, countIn(readOnly()));
+        Cookie pin = writeResponse.getCookie(ReadYourWrites.COOKIE);
+        assertNotNull(pin);
+
+        MockHttpServletRequest pinned = new MockHttpServletRequest();
+        pinned.setCookies(pin);
+        inRequest(pinned);
+        assertEquals(1, countIn(readOnly()));
+
+        inRequest(new MockHttpServletRequest());
+        assertEquals(REPLICA_ROWS, countIn(readOnly()));
+    }
+
+    @Test
+    void backgroundRebuildReadsPrimaryWhileReplicaLags() {
+        readWrite().executeWithoutResult(status -> propertyRepository.save(Property.builder()
+                .name("Harbour View")
+                .address("1 Quay Street")
+                .build()));
+        replica.update("INSERT INTO replica_lag (seconds) VALUES (3)");
+        replicaSet.checkLag();
+
+        portfolioSummaryAggregate.reconcile();
+        assertEquals(1, portfolioSummaryAggregate.current().getTotalProperties());
+        assertEquals(1, countIn(readOnly()));
+
+        inRequest(new MockHttpServletRequest());
+        assertEquals(REPLICA_ROWS, countIn(readOnly()));
+    }
+
+    @Test
+    void tagAndBodyComeFromOneDataSource() {
+        readWrite().executeWithoutResult(status -> propertyRepository.save(Property.builder()
+                .name("Harbour View")
+                .address("1 Quay Street")
+                .build()));
+        inRequest(new MockHttpServletRequest());
+
+        Tagged<Page<propertyDTO>> properties = propertyQueryService.getProperties(null, null, null, null, null,
+                PageRequest.of(0, 10), tag -> false);
+
+        assertTrue(properties.tag().startsWith("W/\"properties-" + REPLICA_ROWS + "-"), properties.tag());
+        assertEquals(REPLICA_ROWS, properties.body().getTotalElements());
+        assertTrue(propertyQueryService.getProperties(null, null, null, null, null,
+                PageRequest.of(0, 10), tag -> true).notModified());
+    }
+
+    private long countIn(TransactionTemplate transaction) {
+        Long count = transaction.execute(status -> propertyRepository.count());
+        return count == null ? -1 : count;
+    }
+
+    private TransactionTemplate readOnly() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        return transaction;
+    }
+
+    private TransactionTemplate readWrite() {
+        return new TransactionTemplate(transactionManager);
+    }
+
+    private static MockHttpServletResponse inRequest(MockHttpServletRequest request) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        return response;
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TextSearchIndexTest {
+
+    @Test
+    void shortTermsMatchLikeSubstringsAndNullFieldsMatchNothing() {
+        TextSearchIndex index = new TextSearchIndex(2f, 1f);
+        index.beginRebuild();
+        index.finishRebuild(List.of(
+                new Object[]{1L, "Harbour View", "1 Quay Street"},
+                new Object[]{2L, "Gate Tower", null},
+                new Object[]{3L, "Ab", "Marina Walk"},
+                new Object[]{4L, null, null}));
+
+        assertArrayEquals(new long[]{3L}, index.search("AB", 0, 10).ids());
+        assertArrayEquals(new long[]{3L, 1L, 2L}, index.search("a", 0, 10).ids());
+        assertArrayEquals(new long[]{1L}, index.search("q", 0, 10).ids());
+        assertEquals(0, index.search("zz", 0, 10).total());
+        assertEquals(3, index.search("", 0, 10).total());
+    }
+}